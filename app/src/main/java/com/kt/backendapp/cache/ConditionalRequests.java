@@ -0,0 +1,61 @@
+package com.kt.backendapp.cache;
+
+/**
+ * 조건부/협상 요청 헤더 처리
+ * - If-None-Match 비교 (RFC 9110 약한 비교, 목록 형태("a", "b")와 *, W/ 접두어 처리)
+ * - Accept-Encoding의 gzip 허용 여부
+ */
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * 클라이언트가 가진 표현이 현재 ETag와 같으면 true (304 응답 대상)
+     */
+    public static boolean isNotModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String current = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaqueTag(tag).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Accept-Encoding이 gzip을 허용하면 true (q=0으로 명시한 경우 제외)
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            String coding = parts[0].trim();
+            if (coding.equalsIgnoreCase("gzip") || coding.equals("*")) {
+                return parts.length < 2 || !isZeroQuality(parts[1].trim());
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String parameter) {
+        if (!parameter.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(parameter.substring(2)) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,15 @@
+package com.kt.backendapp.cache;
+
+import com.kt.backendapp.entity.RecipientType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 수신자 알림 목록 변경 이벤트 (알림 생성/읽음 처리, 커밋 후 버전 증가용)
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationsChangedEvent {
+    private final Long recipientId;
+    private final RecipientType recipientType;
+}
@@ -0,0 +1,122 @@
+package com.kt.backendapp.cache;
+
+import com.kt.backendapp.entity.BrandCategory;
+import com.kt.backendapp.entity.ConsultationStatus;
+import com.kt.backendapp.repository.BrandCategoryRepository;
+import com.kt.backendapp.repository.ConsultationStatusRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 참조 데이터 레지스트리 (상담 상태, 브랜드 카테고리)
+ * - 행 수가 적고 거의 바뀌지 않는 테이블을 메모리에 올려 상태 전이/브랜드 등록 경로의 조회 쿼리를 없앰
+ * - 기동 완료 시 적재하고 주기적으로 다시 적재 (SQL로 직접 추가한 행도 반영), 그 전에 조회되면 그 자리에서 적재
+ * - 반환하는 엔티티는 매번 새로 만든 준영속 복사본 (연관관계 FK 지정용, 공유 인스턴스가 변경되지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataRegistry {
+
+    private final ConsultationStatusRepository consultationStatusRepository;
+    private final BrandCategoryRepository brandCategoryRepository;
+
+    private volatile Data data;
+
+    private record Data(Map<Long, ConsultationStatus> statuses, Map<Long, BrandCategory> categories) {
+    }
+
+    /**
+     * 상태 코드로 상담 상태 조회
+     */
+    public Optional<ConsultationStatus> findStatus(Long statusCode) {
+        ConsultationStatus status = loaded().statuses().get(statusCode);
+        return Optional.ofNullable(status).map(ReferenceDataRegistry::copy);
+    }
+
+    /**
+     * 카테고리 ID로 카테고리 조회
+     */
+    public Optional<BrandCategory> findCategory(Long categoryId) {
+        BrandCategory category = loaded().categories().get(categoryId);
+        return Optional.ofNullable(category).map(ReferenceDataRegistry::copy);
+    }
+
+    /**
+     * 카테고리 존재 여부
+     */
+    public boolean categoryExists(Long categoryId) {
+        return loaded().categories().containsKey(categoryId);
+    }
+
+    /**
+     * 전체 카테고리 (카테고리 ID순)
+     */
+    public List<BrandCategory> getCategories() {
+        return loaded().categories().values().stream()
+            .map(ReferenceDataRegistry::copy)
+            .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * DB에서 다시 적재 (조회 2회)
+     */
+    @Scheduled(initialDelayString = "${app.reference-data.refresh-interval-ms:600000}",
+               fixedDelayString = "${app.reference-data.refresh-interval-ms:600000}")
+    public void refresh() {
+        Map<Long, ConsultationStatus> statuses = new LinkedHashMap<>();
+        for (ConsultationStatus status : consultationStatusRepository.findAll(Sort.by("statusCode"))) {
+            statuses.put(status.getStatusCode(), status);
+        }
+        Map<Long, BrandCategory> categories = new LinkedHashMap<>();
+        for (BrandCategory category : brandCategoryRepository.findAll(Sort.by("categoryId"))) {
+            categories.put(category.getCategoryId(), category);
+        }
+
+        data = new Data(Collections.unmodifiableMap(statuses), Collections.unmodifiableMap(categories));
+        log.debug("참조 데이터 적재 완료: 상담 상태 수={}, 카테고리 수={}", statuses.size(), categories.size());
+    }
+
+    private Data loaded() {
+        Data current = data;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (data == null) {
+                refresh();
+            }
+            return data;
+        }
+    }
+
+    private static ConsultationStatus copy(ConsultationStatus status) {
+        return ConsultationStatus.builder()
+            .statusCode(status.getStatusCode())
+            .statusName(status.getStatusName())
+            .build();
+    }
+
+    private static BrandCategory copy(BrandCategory category) {
+        return BrandCategory.builder()
+            .categoryId(category.getCategoryId())
+            .categoryName(category.getCategoryName())
+            .build();
+    }
+}
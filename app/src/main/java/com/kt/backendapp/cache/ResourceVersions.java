@@ -0,0 +1,119 @@
+package com.kt.backendapp.cache;
+
+import com.kt.backendapp.catalog.BrandCatalogChangedEvent;
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import com.kt.backendapp.entity.RecipientType;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리소스 종류별 버전 카운터 (조건부 GET의 ETag 생성용)
+ * - 카탈로그(브랜드 목록), 카테고리 목록, 브랜드별 상세, 수신자별 알림 목록의 버전을 단조 증가로 관리
+ * - 브랜드 관련 버전은 카탈로그 변경 이벤트(커밋 후 적용)로, 알림 버전은 커밋 후 알림 변경 이벤트로 증가
+ * - 카테고리 버전은 카테고리 수 캐시가 새 개수를 게시한 뒤 직접 증가 (같은 이벤트의 리스너 간 실행 순서에 의존하지 않도록)
+ * - ETag에 기동 시각(epoch)을 넣어 재시작 후 카운터가 처음부터 다시 시작해도 이전 ETag와 겹치지 않음
+ * - 컨트롤러는 데이터를 읽기 전에 ETag를 먼저 계산 (버전보다 데이터가 더 최신일 수는 있어도 그 반대는 없음)
+ */
+@Component
+public class ResourceVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong catalog = new AtomicLong();
+    private final AtomicLong categories = new AtomicLong();
+    // 브랜드 ID → 상세 버전 (카탈로그에 있는 브랜드만, 전체 재적재 시 세대 증가 후 다시 구성)
+    private final Map<Long, Long> brands = new ConcurrentHashMap<>();
+    private final AtomicLong brandGeneration = new AtomicLong();
+    // "USER:1" 형태 키 → 알림 버전
+    private final Map<String, Long> recipients = new ConcurrentHashMap<>();
+
+    /**
+     * 브랜드 목록 ETag (매니저별 isManaged 값이 달라지므로 매니저 ID 포함)
+     */
+    public String catalogETag(Long managerId) {
+        return etag("c" + catalog.get() + (managerId != null ? "-m" + managerId : ""));
+    }
+
+    public String categoriesETag() {
+        return etag("g" + categories.get());
+    }
+
+    /**
+     * 브랜드 상세 ETag (카탈로그에 없는 브랜드면 null)
+     * - 브랜드 수정뿐 아니라 조회수/찜 수 반영(COUNTS)으로 바뀐 브랜드도 버전 증가 (상세 본문의 viewCount/saveCount 포함)
+     * - 누적분은 카탈로그의 카운트 반영 주기마다 모아서 들어오므로, 그 사이에는 DB 값이 ETag보다 최신일 수 있음
+     */
+    public String brandETag(Long brandId) {
+        Long version = brandId != null ? brands.get(brandId) : null;
+        if (version == null) {
+            return null;
+        }
+        return etag("b" + brandId + "." + brandGeneration.get() + "." + version);
+    }
+
+    /**
+     * 카테고리 목록 버전 증가 (CategoryCountCache가 새 개수를 게시한 직후에 호출)
+     */
+    public void categoriesChanged() {
+        categories.incrementAndGet();
+    }
+
+    public String notificationsETag(Long recipientId, RecipientType recipientType) {
+        return etag("n" + recipientId + "." + recipients.getOrDefault(recipientKey(recipientId, recipientType), 0L));
+    }
+
+    @EventListener
+    public void onCatalogChanged(BrandCatalogChangedEvent event) {
+        if (event.getCause() == BrandCatalogChangedEvent.Cause.RELOAD) {
+            brandGeneration.incrementAndGet();
+            brands.clear();
+            for (BrandCatalogEntry entry : event.getSnapshot().entries()) {
+                brands.put(entry.getBrandId(), 0L);
+            }
+            catalog.incrementAndGet();
+            return;
+        }
+
+        if (event.getCause() == BrandCatalogChangedEvent.Cause.COUNTS) {
+            // 조회수/찜 수가 바뀐 브랜드만 (added가 바뀐 뒤 항목)
+            for (BrandCatalogEntry entry : event.getAdded()) {
+                brands.computeIfPresent(entry.getBrandId(), (id, version) -> version + 1);
+            }
+            catalog.incrementAndGet();
+            return;
+        }
+
+        for (BrandCatalogEntry entry : event.getRemoved()) {
+            brands.computeIfPresent(entry.getBrandId(), (id, version) -> version + 1);
+        }
+        for (BrandCatalogEntry entry : event.getAdded()) {
+            brands.merge(entry.getBrandId(), 1L, Long::sum);
+        }
+        // 삭제된 브랜드는 상세 버전 제거 (이후 요청은 조건부 처리 없이 일반 경로로)
+        for (BrandCatalogEntry entry : event.getRemoved()) {
+            if (event.getSnapshot().get(entry.getBrandId()) == null) {
+                brands.remove(entry.getBrandId());
+            }
+        }
+        catalog.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationsChanged(NotificationsChangedEvent event) {
+        recipients.merge(recipientKey(event.getRecipientId(), event.getRecipientType()), 1L, Long::sum);
+    }
+
+    private String etag(String version) {
+        return "\"" + epoch + "-" + version + "\"";
+    }
+
+    private static String recipientKey(Long recipientId, RecipientType recipientType) {
+        return recipientType + ":" + recipientId;
+    }
+}
@@ -0,0 +1,70 @@
+package com.kt.backendapp.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화된 응답 본문 캐시 (버전별 UTF-8 JSON + gzip)
+ * - 키마다 마지막으로 만든 본문 하나만 보관하고, ETag(버전)가 바뀌면 다음 요청에서 다시 생성
+ * - 생성은 키 단위로 직렬화되며, 같은 버전 요청은 저장된 바이트 배열을 그대로 내려줌 (Jackson 직렬화/압축 없음)
+ * - 본문은 만든 시점의 ApiResponse이므로 timestamp는 생성 시각으로 고정
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SerializedResponseCache {
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Body> bodies = new ConcurrentHashMap<>();
+
+    /**
+     * 직렬화된 본문 하나 (불변, 배열은 외부에서 변경하지 않음)
+     */
+    public record Body(String etag, byte[] identity, byte[] gzip) {
+    }
+
+    /**
+     * etag 버전의 본문 (없거나 이전 버전이면 supplier로 만들어 교체)
+     */
+    public Body get(String key, String etag, Supplier<?> supplier) {
+        Body body = bodies.get(key);
+        if (body != null && body.etag().equals(etag)) {
+            return body;
+        }
+        return bodies.compute(key, (k, previous) ->
+            previous != null && previous.etag().equals(etag) ? previous : serialize(k, etag, supplier.get()));
+    }
+
+    private Body serialize(String key, String etag, Object value) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(value);
+            byte[] gzip = gzip(identity);
+            log.info("응답 본문 캐시 생성: key={}, etag={}, 크기={}B, gzip={}B", key, etag, identity.length, gzip.length);
+            return new Body(etag, identity, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 본문 직렬화에 실패했습니다: " + key, e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,200 @@
+package com.kt.backendapp.catalog;
+
+import com.kt.backendapp.repository.BrandRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 브랜드 카탈로그 (불변 스냅샷 + 원자적 교체)
+ * - 기동 시 전체 브랜드를 한 번 적재해 스냅샷 생성
+ * - 브랜드 변경은 커밋 이후 이벤트로 받아 새 스냅샷을 만들어 교체
+ * - 읽기는 volatile 참조 하나만 읽으므로 잠금 없음, 쓰기는 synchronized로 직렬화
+ * - 조회수/찜 수 변경은 스냅샷을 바로 교체하지 않고 브랜드별 누적분(overlay)에 더해 두었다가
+ *   count-refresh-ms 주기로 한 번에 반영 (조회수/찜 수 정렬 인덱스만 다시 정렬)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BrandCatalog {
+
+    private final BrandRepository brandRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile BrandCatalogSnapshot current;
+
+    // 브랜드 ID → 아직 스냅샷에 반영되지 않은 조회수/찜 수 증감
+    private final Map<Long, PendingCounts> pendingCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 스냅샷 (기동 직후 아직 적재 전이면 즉시 적재)
+     */
+    public BrandCatalogSnapshot snapshot() {
+        BrandCatalogSnapshot snapshot = current;
+        if (snapshot == null) {
+            synchronized (this) {
+                if (current == null) {
+                    reload();
+                }
+                snapshot = current;
+            }
+        }
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * DB에서 전체 카탈로그 재적재
+     */
+    public synchronized void reload() {
+        long startTime = System.currentTimeMillis();
+        // DB에서 다시 읽는 값에 이미 커밋된 증감이 포함되므로 누적분은 버림
+        pendingCounts.clear();
+        List<BrandCatalogEntry> entries = brandRepository.findAllCatalogEntries();
+
+        BrandCatalogSnapshot snapshot = new BrandCatalogSnapshot(nextVersion(), entries);
+        current = snapshot;
+        log.info("브랜드 카탈로그 적재 완료: version={}, 브랜드 수={}, 소요시간={}ms",
+            snapshot.getVersion(), snapshot.size(), System.currentTimeMillis() - startTime);
+
+        eventPublisher.publishEvent(new BrandCatalogChangedEvent(
+            snapshot, BrandCatalogChangedEvent.Cause.RELOAD, List.of(), List.of()));
+    }
+
+    /**
+     * 브랜드 등록/수정/삭제 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onBrandChanged(BrandChangedEvent event) {
+        Map<Long, BrandCatalogEntry> entries = currentEntries();
+        List<BrandCatalogEntry> removed = new ArrayList<>();
+        List<BrandCatalogEntry> added = new ArrayList<>();
+
+        for (Long brandId : event.getDeletedBrandIds()) {
+            pendingCounts.remove(brandId);
+            BrandCatalogEntry previous = entries.remove(brandId);
+            if (previous != null) {
+                removed.add(previous);
+            }
+        }
+        for (BrandCatalogEntry entry : event.getUpserted()) {
+            // 변경 트랜잭션에서 읽은 값이 그 이전 누적분을 포함하므로 해당 브랜드 누적분은 버림
+            pendingCounts.remove(entry.getBrandId());
+            BrandCatalogEntry previous = entries.put(entry.getBrandId(), entry);
+            if (previous != null) {
+                removed.add(previous);
+            }
+            added.add(entry);
+        }
+
+        swap(entries, BrandCatalogChangedEvent.Cause.MUTATION, removed, added);
+    }
+
+    /**
+     * 조회수 반영분을 누적분에 더함 (스냅샷 교체는 refreshCounts에서)
+     */
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        event.getDeltas().forEach((brandId, delta) -> pending(brandId).views.add(delta));
+    }
+
+    /**
+     * 찜 수 변경을 누적분에 더함 (커밋 이후, 스냅샷 교체는 refreshCounts에서)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBrandSaveToggled(BrandSaveToggledEvent event) {
+        pending(event.getBrandId()).saves.add(event.isSaved() ? 1L : -1L);
+    }
+
+    /**
+     * 누적된 조회수/찜 수를 스냅샷에 반영
+     * - 바뀐 브랜드가 있을 때만 새 버전을 만들고 COUNTS 이벤트를 한 번 발행
+     */
+    @Scheduled(fixedDelayString = "${app.catalog.count-refresh-ms:30000}")
+    public synchronized void refreshCounts() {
+        BrandCatalogSnapshot snapshot = current;
+        if (snapshot == null || pendingCounts.isEmpty()) {
+            return;
+        }
+
+        Map<Long, BrandCatalogEntry> updated = new HashMap<>();
+        List<BrandCatalogEntry> removed = new ArrayList<>();
+        pendingCounts.forEach((brandId, counts) -> {
+            // 카운터는 제거하지 않고 재사용 (제거 시 동시 증가분 유실 방지), 삭제된 브랜드는 onBrandChanged에서 제거
+            long views = counts.views.sumThenReset();
+            long saves = counts.saves.sumThenReset();
+            BrandCatalogEntry previous = snapshot.get(brandId);
+            if (previous == null || (views == 0 && saves == 0)) {
+                return;
+            }
+            updated.put(brandId, previous.toBuilder()
+                .viewCount(previous.getViewCount() + views)
+                .saveCount(Math.max(0L, previous.getSaveCount() + saves))
+                .build());
+            removed.add(previous);
+        });
+        if (updated.isEmpty()) {
+            return;
+        }
+
+        BrandCatalogSnapshot next = snapshot.withCounts(nextVersion(), updated);
+        current = next;
+        log.debug("브랜드 카탈로그 조회수/찜 수 반영: version={}, 브랜드 수={}", next.getVersion(), updated.size());
+
+        eventPublisher.publishEvent(new BrandCatalogChangedEvent(
+            next, BrandCatalogChangedEvent.Cause.COUNTS, List.copyOf(removed), List.copyOf(updated.values())));
+    }
+
+    private PendingCounts pending(Long brandId) {
+        return pendingCounts.computeIfAbsent(brandId, id -> new PendingCounts());
+    }
+
+    private Map<Long, BrandCatalogEntry> currentEntries() {
+        Map<Long, BrandCatalogEntry> entries = new HashMap<>();
+        for (BrandCatalogEntry entry : snapshot().entries()) {
+            entries.put(entry.getBrandId(), entry);
+        }
+        return entries;
+    }
+
+    private void swap(Map<Long, BrandCatalogEntry> entries, BrandCatalogChangedEvent.Cause cause,
+                      List<BrandCatalogEntry> removed, List<BrandCatalogEntry> added) {
+        BrandCatalogSnapshot snapshot = new BrandCatalogSnapshot(nextVersion(), entries.values());
+        current = snapshot;
+        log.debug("브랜드 카탈로그 갱신: version={}, 원인={}, 제거={}, 추가={}",
+            snapshot.getVersion(), cause, removed.size(), added.size());
+
+        eventPublisher.publishEvent(new BrandCatalogChangedEvent(
+            snapshot, cause, List.copyOf(removed), List.copyOf(added)));
+    }
+
+    private long nextVersion() {
+        BrandCatalogSnapshot snapshot = current;
+        return snapshot != null ? snapshot.getVersion() + 1 : 1L;
+    }
+
+    /**
+     * 브랜드 하나의 반영 대기 중인 증감
+     */
+    private static final class PendingCounts {
+        private final LongAdder views = new LongAdder();
+        private final LongAdder saves = new LongAdder();
+    }
+}
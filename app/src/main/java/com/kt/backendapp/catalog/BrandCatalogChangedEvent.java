@@ -0,0 +1,29 @@
+package com.kt.backendapp.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 카탈로그 스냅샷이 교체된 뒤 발행되는 이벤트
+ * - 카탈로그에서 파생된 인메모리 인덱스들이 증분 갱신에 사용
+ * - removed/added는 변경 전/후 항목 (수정은 removed + added 한 쌍)
+ * - RELOAD인 경우 removed/added는 비어 있으며 snapshot 전체로 다시 구성해야 함
+ * - 카탈로그 쓰기 잠금 안에서 순서대로 동기 발행됨
+ */
+@Getter
+@AllArgsConstructor
+public class BrandCatalogChangedEvent {
+    
+    public enum Cause {
+        RELOAD,         // 전체 재적재 (기동 시 등)
+        MUTATION,       // 브랜드 등록/수정/삭제
+        COUNTS          // 누적된 조회수/찜 수 반영 (주기적으로 모아서 한 번)
+    }
+    
+    private final BrandCatalogSnapshot snapshot;
+    private final Cause cause;
+    private final List<BrandCatalogEntry> removed;
+    private final List<BrandCatalogEntry> added;
+}
@@ -0,0 +1,77 @@
+package com.kt.backendapp.catalog;
+
+import com.kt.backendapp.entity.Brand;
+import com.kt.backendapp.entity.BrandDetail;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * 브랜드 카탈로그 항목 (불변)
+ * - 목록 응답에 필요한 브랜드/상세/카테고리/매니저 정보를 한 객체로 평탄화
+ * - 스냅샷 간 공유되므로 절대 변경하지 않고 toBuilder로 새 객체 생성
+ */
+@Value
+@Builder(toBuilder = true)
+public class BrandCatalogEntry {
+    Long brandId;
+    String brandName;
+    Long categoryId;
+    String categoryName;
+    Long managerId;
+    String managerName;
+    Long viewCount;
+    Long saveCount;
+    BigDecimal initialCost;
+    BigDecimal totalInvestment;
+    BigDecimal avgMonthlyRevenue;
+    Integer storeCount;
+    String brandDescription;
+    
+    public BrandCatalogEntry(Long brandId, String brandName,
+                             Long categoryId, String categoryName,
+                             Long managerId, String managerName,
+                             Long viewCount, Long saveCount,
+                             BigDecimal initialCost, BigDecimal totalInvestment,
+                             BigDecimal avgMonthlyRevenue, Integer storeCount,
+                             String brandDescription) {
+        this.brandId = brandId;
+        this.brandName = brandName != null ? brandName : "";
+        this.categoryId = categoryId;
+        this.categoryName = categoryName != null ? categoryName : "";
+        this.managerId = managerId;
+        this.managerName = managerName != null ? managerName : "";
+        this.viewCount = viewCount != null ? viewCount : 0L;
+        this.saveCount = saveCount != null ? saveCount : 0L;
+        this.initialCost = initialCost;
+        this.totalInvestment = totalInvestment;
+        this.avgMonthlyRevenue = avgMonthlyRevenue;
+        this.storeCount = storeCount;
+        this.brandDescription = brandDescription;
+    }
+    
+    // Entity → 카탈로그 항목 변환 (연관 엔티티가 로드된 상태에서 호출)
+    public static BrandCatalogEntry from(Brand brand) {
+        BrandDetail details = brand.getDetails();
+        return BrandCatalogEntry.builder()
+            .brandId(brand.getBrandId())
+            .brandName(brand.getBrandName())
+            .categoryId(brand.getCategory() != null ? brand.getCategory().getCategoryId() : null)
+            .categoryName(brand.getCategory() != null ? brand.getCategory().getCategoryName() : null)
+            .managerId(brand.getManager() != null ? brand.getManager().getManagerId() : null)
+            .managerName(brand.getManager() != null ? brand.getManager().getName() : null)
+            .viewCount(details != null ? details.getViewCount() : null)
+            .saveCount(details != null ? details.getSaveCount() : null)
+            .initialCost(details != null ? details.getInitialCost() : null)
+            .totalInvestment(details != null ? details.getTotalInvestment() : null)
+            .avgMonthlyRevenue(details != null ? details.getAvgMonthlyRevenue() : null)
+            .storeCount(details != null ? details.getStoreCount() : null)
+            .brandDescription(details != null ? details.getBrandDescription() : null)
+            .build();
+    }
+    
+    public boolean isManagedBy(Long managerId) {
+        return managerId != null && managerId.equals(this.managerId);
+    }
+}
@@ -0,0 +1,146 @@
+package com.kt.backendapp.catalog;
+
+import com.kt.backendapp.dto.common.SortOption;
+import com.kt.backendapp.util.LongHashSet;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 정렬된 카탈로그 목록의 한 페이지 (keyset 방식)
+ * - 커서 위치는 정렬된 목록에서 이진 탐색으로 찾음 (OFFSET처럼 앞 항목을 건너뛰며 세지 않음)
+ * - 페이지 사이에 항목이 추가/삭제되어도 커서 이후 항목부터 이어서 조회
+ */
+@Getter
+@AllArgsConstructor
+public class BrandCatalogPage {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // 일치 건수가 정렬 목록의 1/8 이하이면 일치 항목만 꺼내 정렬, 그보다 많으면 정렬 목록을 커서부터 훑음
+    private static final int SELECTIVE_RATIO = 8;
+
+    private final List<BrandCatalogEntry> entries;
+    private final int offset;          // 이번 페이지 첫 항목의 위치
+    private final int size;            // 요청 페이지 크기
+    private final long totalElements;  // 정렬 대상 전체 항목 수
+    private final String nextCursor;   // 다음 페이지 커서 (마지막 페이지면 null)
+
+    /**
+     * 정렬된 목록에서 커서 다음 위치부터 size개를 잘라 페이지 생성
+     * @param sorted sort 기준으로 정렬된 목록 (카탈로그 인덱스 또는 그 부분 목록)
+     * @param sort 정렬 기준
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     */
+    public static BrandCatalogPage of(List<BrandCatalogEntry> sorted, SortOption sort, String cursor, int size) {
+        validateSize(size);
+
+        int start = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            start = position(sorted, BrandCursor.decode(cursor, sort), BrandSortOrders.comparator(sort));
+        }
+
+        int end = Math.min(start + size, sorted.size());
+        List<BrandCatalogEntry> entries = List.copyOf(sorted.subList(start, end));
+        String nextCursor = end < sorted.size() ? BrandCursor.encode(sort, sorted.get(end - 1)) : null;
+
+        return new BrandCatalogPage(entries, start, size, sorted.size(), nextCursor);
+    }
+
+    /**
+     * 검색/필터 색인의 일치 ID만으로 페이지 생성 (정렬 인덱스 순서 유지, 일치 목록 전체를 만들지 않음)
+     * - 일치 건수가 적으면: 일치 항목만 스냅샷에서 꺼내 정렬 (O(M log M), 전체 목록을 훑지 않음)
+     * - 일치 건수가 많으면: 정렬 인덱스를 커서 위치부터 훑다가 size개를 채우면 중단 (평균 size × N/M개 확인)
+     *   페이지 위치(offset)는 커서 앞 구간과 일치 집합 중 작은 쪽을 세어 계산
+     * @param snapshot 카탈로그 스냅샷
+     * @param categoryId 카테고리 조건 (없으면 null, 있으면 카테고리 정렬 인덱스 사용)
+     * @param matchedIds 일치 브랜드 ID
+     * @param sort 정렬 기준
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     */
+    public static BrandCatalogPage ofMatches(BrandCatalogSnapshot snapshot, Long categoryId, LongHashSet matchedIds,
+                                             SortOption sort, String cursor, int size) {
+        validateSize(size);
+        List<BrandCatalogEntry> sorted = categoryId != null
+            ? snapshot.sortedByCategory(categoryId, sort)
+            : snapshot.sorted(sort);
+        Comparator<BrandCatalogEntry> comparator = BrandSortOrders.comparator(sort);
+
+        if ((long) matchedIds.size() * SELECTIVE_RATIO <= sorted.size()) {
+            List<BrandCatalogEntry> matched = new ArrayList<>(matchedIds.size());
+            for (long brandId : matchedIds.toArray()) {
+                BrandCatalogEntry entry = snapshot.get(brandId);
+                if (entry != null && inCategory(entry, categoryId)) {
+                    matched.add(entry);
+                }
+            }
+            matched.sort(comparator);
+            return of(matched, sort, cursor, size);
+        }
+
+        BrandCatalogEntry probe = cursor != null && !cursor.isBlank() ? BrandCursor.decode(cursor, sort) : null;
+        int start = probe != null ? position(sorted, probe, comparator) : 0;
+
+        List<BrandCatalogEntry> entries = new ArrayList<>(size);
+        int index = start;
+        while (index < sorted.size() && entries.size() < size) {
+            BrandCatalogEntry entry = sorted.get(index++);
+            if (matchedIds.contains(entry.getBrandId())) {
+                entries.add(entry);
+            }
+        }
+        boolean hasNext = false;
+        while (index < sorted.size() && !hasNext) {
+            hasNext = matchedIds.contains(sorted.get(index++).getBrandId());
+        }
+
+        int offset = probe != null ? countBefore(snapshot, sorted, start, categoryId, matchedIds, probe, comparator) : 0;
+        String nextCursor = hasNext ? BrandCursor.encode(sort, entries.get(entries.size() - 1)) : null;
+        return new BrandCatalogPage(List.copyOf(entries), offset, size, matchedIds.size(), nextCursor);
+    }
+
+    private static void validateSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    // 커서 항목 바로 다음 위치 (이진 탐색)
+    private static int position(List<BrandCatalogEntry> sorted, BrandCatalogEntry probe,
+                                Comparator<BrandCatalogEntry> comparator) {
+        int index = Collections.binarySearch(sorted, probe, comparator);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    // 커서 위치 앞에 있는 일치 항목 수 (정렬 목록 앞 구간과 일치 집합 중 작은 쪽을 훑음)
+    private static int countBefore(BrandCatalogSnapshot snapshot, List<BrandCatalogEntry> sorted, int start,
+                                   Long categoryId, LongHashSet matchedIds, BrandCatalogEntry probe,
+                                   Comparator<BrandCatalogEntry> comparator) {
+        int count = 0;
+        if (start <= matchedIds.size()) {
+            for (int i = 0; i < start; i++) {
+                if (matchedIds.contains(sorted.get(i).getBrandId())) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        for (long brandId : matchedIds.toArray()) {
+            BrandCatalogEntry entry = snapshot.get(brandId);
+            if (entry != null && inCategory(entry, categoryId) && comparator.compare(entry, probe) <= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean inCategory(BrandCatalogEntry entry, Long categoryId) {
+        return categoryId == null || categoryId.equals(entry.getCategoryId());
+    }
+}
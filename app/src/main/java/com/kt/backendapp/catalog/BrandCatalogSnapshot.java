@@ -0,0 +1,157 @@
+package com.kt.backendapp.catalog;
+
+import com.kt.backendapp.dto.common.SortOption;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 브랜드 카탈로그의 특정 버전 (불변)
+ * - 생성 시점에 전체 및 카테고리별로 SortOption마다 정렬된 인덱스를 미리 만들어 둠
+ * - 읽기는 잠금 없이 이 객체의 리스트를 그대로 사용
+ */
+public class BrandCatalogSnapshot {
+    
+    private final long version;
+    private final Map<Long, BrandCatalogEntry> byId;
+    private final Map<SortOption, List<BrandCatalogEntry>> sorted;
+    private final Map<Long, Map<SortOption, List<BrandCatalogEntry>>> sortedByCategory;
+    
+    BrandCatalogSnapshot(long version, Collection<BrandCatalogEntry> entries) {
+        this.version = version;
+        
+        Map<Long, BrandCatalogEntry> ids = new HashMap<>(entries.size() * 2);
+        Map<Long, List<BrandCatalogEntry>> categoryMembers = new HashMap<>();
+        for (BrandCatalogEntry entry : entries) {
+            ids.put(entry.getBrandId(), entry);
+            if (entry.getCategoryId() != null) {
+                categoryMembers.computeIfAbsent(entry.getCategoryId(), id -> new ArrayList<>()).add(entry);
+            }
+        }
+        this.byId = Collections.unmodifiableMap(ids);
+        this.sorted = buildSortIndexes(entries);
+        
+        Map<Long, Map<SortOption, List<BrandCatalogEntry>>> categoryIndexes = new HashMap<>();
+        categoryMembers.forEach((categoryId, members) -> categoryIndexes.put(categoryId, buildSortIndexes(members)));
+        this.sortedByCategory = Collections.unmodifiableMap(categoryIndexes);
+    }
+    
+    private BrandCatalogSnapshot(long version,
+                                 Map<Long, BrandCatalogEntry> byId,
+                                 Map<SortOption, List<BrandCatalogEntry>> sorted,
+                                 Map<Long, Map<SortOption, List<BrandCatalogEntry>>> sortedByCategory) {
+        this.version = version;
+        this.byId = byId;
+        this.sorted = sorted;
+        this.sortedByCategory = sortedByCategory;
+    }
+    
+    /**
+     * 조회수/찜 수만 바뀐 항목을 반영한 다음 버전
+     * - 바뀐 항목이 없는 카테고리의 인덱스는 이전 버전과 그대로 공유
+     * - 이름/비용/등록순 인덱스는 순서를 유지한 채 항목만 교체 (정렬하지 않음)
+     * - 조회수/찜 수 인덱스만 다시 정렬 (거의 정렬된 목록이라 TimSort로 선형에 가까움)
+     * @param updated 브랜드 ID → 조회수/찜 수가 바뀐 항목 (카테고리 등 나머지 필드는 같아야 함)
+     */
+    BrandCatalogSnapshot withCounts(long nextVersion, Map<Long, BrandCatalogEntry> updated) {
+        Map<Long, BrandCatalogEntry> ids = new HashMap<>(byId);
+        Set<Long> touchedCategories = new HashSet<>();
+        for (BrandCatalogEntry entry : updated.values()) {
+            ids.put(entry.getBrandId(), entry);
+            if (entry.getCategoryId() != null) {
+                touchedCategories.add(entry.getCategoryId());
+            }
+        }
+        
+        Map<Long, Map<SortOption, List<BrandCatalogEntry>>> categoryIndexes = new HashMap<>(sortedByCategory);
+        for (Long categoryId : touchedCategories) {
+            Map<SortOption, List<BrandCatalogEntry>> indexes = sortedByCategory.get(categoryId);
+            if (indexes != null) {
+                categoryIndexes.put(categoryId, reindexCounts(indexes, updated));
+            }
+        }
+        return new BrandCatalogSnapshot(nextVersion, Collections.unmodifiableMap(ids),
+            reindexCounts(sorted, updated), Collections.unmodifiableMap(categoryIndexes));
+    }
+    
+    private static Map<SortOption, List<BrandCatalogEntry>> reindexCounts(Map<SortOption, List<BrandCatalogEntry>> indexes,
+                                                                         Map<Long, BrandCatalogEntry> updated) {
+        Map<SortOption, List<BrandCatalogEntry>> reindexed = new EnumMap<>(SortOption.class);
+        indexes.forEach((option, entries) -> {
+            List<BrandCatalogEntry> list = new ArrayList<>(entries.size());
+            for (BrandCatalogEntry entry : entries) {
+                list.add(updated.getOrDefault(entry.getBrandId(), entry));
+            }
+            if (BrandSortOrders.dependsOnCounts(option)) {
+                list.sort(BrandSortOrders.comparator(option));
+            }
+            reindexed.put(option, Collections.unmodifiableList(list));
+        });
+        return Collections.unmodifiableMap(reindexed);
+    }
+    
+    private static Map<SortOption, List<BrandCatalogEntry>> buildSortIndexes(Collection<BrandCatalogEntry> entries) {
+        Map<SortOption, List<BrandCatalogEntry>> indexes = new EnumMap<>(SortOption.class);
+        for (SortOption option : SortOption.values()) {
+            List<BrandCatalogEntry> list = new ArrayList<>(entries);
+            list.sort(BrandSortOrders.comparator(option));
+            indexes.put(option, Collections.unmodifiableList(list));
+        }
+        return Collections.unmodifiableMap(indexes);
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public int size() {
+        return byId.size();
+    }
+    
+    public BrandCatalogEntry get(Long brandId) {
+        return brandId != null ? byId.get(brandId) : null;
+    }
+    
+    public Collection<BrandCatalogEntry> entries() {
+        return byId.values();
+    }
+    
+    /**
+     * 전체 브랜드 (정렬 기준별)
+     */
+    public List<BrandCatalogEntry> sorted(SortOption option) {
+        return sorted.get(option);
+    }
+    
+    /**
+     * 카테고리 내 브랜드 (정렬 기준별), 브랜드가 없는 카테고리는 빈 목록
+     */
+    public List<BrandCatalogEntry> sortedByCategory(Long categoryId, SortOption option) {
+        Map<SortOption, List<BrandCatalogEntry>> indexes = sortedByCategory.get(categoryId);
+        return indexes != null ? indexes.get(option) : List.of();
+    }
+    
+    /**
+     * 카테고리 내 상위 limit개 (정렬 기준별, excludeBrandId 제외)
+     * - 정렬된 카테고리 인덱스의 앞부분만 읽으므로 O(limit)
+     */
+    public List<BrandCatalogEntry> topByCategory(Long categoryId, SortOption option, Long excludeBrandId, int limit) {
+        List<BrandCatalogEntry> top = new ArrayList<>(limit);
+        for (BrandCatalogEntry entry : sortedByCategory(categoryId, option)) {
+            if (top.size() == limit) {
+                break;
+            }
+            if (!entry.getBrandId().equals(excludeBrandId)) {
+                top.add(entry);
+            }
+        }
+        return top;
+    }
+}
@@ -0,0 +1,34 @@
+package com.kt.backendapp.catalog;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 브랜드 등록/수정/삭제 이벤트
+ * - 변경을 일으킨 서비스가 트랜잭션 안에서 발행
+ * - BrandCatalog가 커밋 이후에만 반영 (롤백된 변경은 카탈로그에 들어가지 않음)
+ */
+@Getter
+public class BrandChangedEvent {
+    
+    private final List<BrandCatalogEntry> upserted;
+    private final List<Long> deletedBrandIds;
+    
+    private BrandChangedEvent(List<BrandCatalogEntry> upserted, List<Long> deletedBrandIds) {
+        this.upserted = upserted;
+        this.deletedBrandIds = deletedBrandIds;
+    }
+    
+    public static BrandChangedEvent upserted(BrandCatalogEntry entry) {
+        return new BrandChangedEvent(List.of(entry), List.of());
+    }
+    
+    public static BrandChangedEvent upserted(List<BrandCatalogEntry> entries) {
+        return new BrandChangedEvent(List.copyOf(entries), List.of());
+    }
+    
+    public static BrandChangedEvent deleted(Long brandId) {
+        return new BrandChangedEvent(List.of(), List.of(brandId));
+    }
+}
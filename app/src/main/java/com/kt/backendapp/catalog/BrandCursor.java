@@ -0,0 +1,79 @@
+package com.kt.backendapp.catalog;
+
+import com.kt.backendapp.dto.common.SortOption;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 브랜드 목록 커서 (keyset 페이지네이션)
+ * - 마지막으로 내려준 항목의 정렬 키 + brandId를 "정렬기준|brandId|정렬키" 형태로 담아 base64url 인코딩
+ * - 클라이언트에는 불투명한 문자열로만 노출
+ * - 디코딩 결과는 정렬 기준 비교에 필요한 필드만 채운 탐색용(probe) 항목
+ */
+public final class BrandCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private BrandCursor() {
+    }
+
+    /**
+     * 다음 페이지 커서 생성
+     * @param sort 정렬 기준
+     * @param last 현재 페이지의 마지막 항목
+     */
+    public static String encode(SortOption sort, BrandCatalogEntry last) {
+        String raw = sort.name() + SEPARATOR + last.getBrandId() + SEPARATOR + sortKey(sort, last);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 탐색용 항목으로 변환
+     * @param cursor 클라이언트가 보낸 커서
+     * @param sort 요청 정렬 기준 (커서 생성 시의 정렬 기준과 같아야 함)
+     */
+    public static BrandCatalogEntry decode(String cursor, SortOption sort) {
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            parts = raw.split("\\" + SEPARATOR, 3);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        if (!sort.name().equals(parts[0])) {
+            throw new IllegalArgumentException("커서의 정렬 기준이 요청과 일치하지 않습니다.");
+        }
+
+        try {
+            BrandCatalogEntry.BrandCatalogEntryBuilder probe = BrandCatalogEntry.builder()
+                .brandId(Long.parseLong(parts[1]));
+            String key = parts[2];
+            switch (sort) {
+                case NAME_ASC, NAME_DESC -> probe.brandName(key);
+                case VIEW_COUNT_ASC, VIEW_COUNT_DESC -> probe.viewCount(Long.parseLong(key));
+                case SAVE_COUNT_ASC, SAVE_COUNT_DESC -> probe.saveCount(Long.parseLong(key));
+                case INITIAL_COST_ASC, INITIAL_COST_DESC -> probe.initialCost(key.isEmpty() ? null : new BigDecimal(key));
+                case CREATED_AT_ASC, CREATED_AT_DESC -> { }
+            }
+            return probe.build();
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    private static String sortKey(SortOption sort, BrandCatalogEntry entry) {
+        return switch (sort) {
+            case NAME_ASC, NAME_DESC -> entry.getBrandName();
+            case VIEW_COUNT_ASC, VIEW_COUNT_DESC -> String.valueOf(entry.getViewCount());
+            case SAVE_COUNT_ASC, SAVE_COUNT_DESC -> String.valueOf(entry.getSaveCount());
+            case INITIAL_COST_ASC, INITIAL_COST_DESC ->
+                entry.getInitialCost() != null ? entry.getInitialCost().toPlainString() : "";
+            case CREATED_AT_ASC, CREATED_AT_DESC -> "";
+        };
+    }
+}
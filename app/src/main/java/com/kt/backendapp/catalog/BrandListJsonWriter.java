@@ -0,0 +1,59 @@
+package com.kt.backendapp.catalog;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.kt.backendapp.dto.response.brand.BrandListResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * 브랜드 목록 스트리밍 JSON 출력
+ * - ApiResponse와 같은 형태의 응답 봉투를 JsonGenerator로 직접 쓰고 data 배열에 행을 하나씩 기록
+ * - 행마다 BrandListResponse 하나만 만들어 바로 직렬화하므로 전체 목록/응답 객체를 메모리에 만들지 않음
+ * - 행 직렬화는 ObjectMapper 설정을 그대로 따르므로 일반 목록 응답과 필드 구성이 같음
+ */
+@Component
+public class BrandListJsonWriter {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+
+    public BrandListJsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writerFor(BrandListResponse.class);
+    }
+
+    /**
+     * 성공 응답 봉투 + 행 목록 출력
+     * @param sections 순서대로 이어서 출력할 항목 묶음 (예: 관리 브랜드 → 나머지)
+     */
+    @SafeVarargs
+    public final void writeSuccess(OutputStream out, String message,
+                                   Function<BrandCatalogEntry, BrandListResponse> mapper,
+                                   Iterable<BrandCatalogEntry>... sections) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", message);
+
+            generator.writeArrayFieldStart("data");
+            for (Iterable<BrandCatalogEntry> section : sections) {
+                for (BrandCatalogEntry entry : section) {
+                    rowWriter.writeValue(generator, mapper.apply(entry));
+                }
+            }
+            generator.writeEndArray();
+
+            generator.writeNullField("errorCode");
+            generator.writeFieldName("timestamp");
+            objectMapper.writeValue(generator, LocalDateTime.now());
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.kt.backendapp.catalog;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+
+/**
+ * 카테고리 통계/경쟁력 비교 대상 지표
+ * - higherIsBetter: 값이 클수록 경쟁력이 높은 지표인지 (매출, 매장수)
+ */
+public enum BrandMetric {
+    INITIAL_COST(false, BrandCatalogEntry::getInitialCost),
+    TOTAL_INVESTMENT(false, BrandCatalogEntry::getTotalInvestment),
+    AVG_MONTHLY_REVENUE(true, BrandCatalogEntry::getAvgMonthlyRevenue),
+    STORE_COUNT(true, entry -> entry.getStoreCount() != null ? BigDecimal.valueOf(entry.getStoreCount()) : null);
+    
+    private final boolean higherIsBetter;
+    private final Function<BrandCatalogEntry, BigDecimal> extractor;
+    
+    BrandMetric(boolean higherIsBetter, Function<BrandCatalogEntry, BigDecimal> extractor) {
+        this.higherIsBetter = higherIsBetter;
+        this.extractor = extractor;
+    }
+    
+    public boolean isHigherIsBetter() {
+        return higherIsBetter;
+    }
+    
+    /**
+     * 항목의 지표 값 (값이 없으면 null)
+     */
+    public BigDecimal valueOf(BrandCatalogEntry entry) {
+        return extractor.apply(entry);
+    }
+}
@@ -0,0 +1,15 @@
+package com.kt.backendapp.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 브랜드 찜/찜해제 이벤트 (커밋 후 카탈로그의 saveCount 반영용)
+ */
+@Getter
+@AllArgsConstructor
+public class BrandSaveToggledEvent {
+    private final Long userId;
+    private final Long brandId;
+    private final boolean saved;
+}
@@ -0,0 +1,63 @@
+package com.kt.backendapp.catalog;
+
+import com.kt.backendapp.dto.common.SortOption;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * SortOption별 카탈로그 정렬 기준
+ * - 모든 정렬은 brandId 오름차순을 마지막 기준으로 사용해 전순서(total order)를 보장
+ * - 브랜드에는 생성일 컬럼이 없으므로 CREATED_AT_*는 증가하는 brandId로 대체
+ * - initialCost가 없는 브랜드는 방향과 관계없이 항상 마지막
+ */
+public final class BrandSortOrders {
+    
+    private static final Comparator<BrandCatalogEntry> BY_BRAND_ID =
+        Comparator.comparing(BrandCatalogEntry::getBrandId);
+    
+    private static final Map<SortOption, Comparator<BrandCatalogEntry>> COMPARATORS = new EnumMap<>(SortOption.class);
+    
+    static {
+        for (SortOption option : SortOption.values()) {
+            COMPARATORS.put(option, build(option));
+        }
+    }
+    
+    private BrandSortOrders() {
+    }
+    
+    public static Comparator<BrandCatalogEntry> comparator(SortOption option) {
+        return COMPARATORS.get(option);
+    }
+    
+    /**
+     * 조회수/찜 수에 따라 순서가 바뀌는 정렬 기준인지 (카운터 반영 시 이 기준의 인덱스만 다시 정렬)
+     */
+    public static boolean dependsOnCounts(SortOption option) {
+        return switch (option) {
+            case VIEW_COUNT_ASC, VIEW_COUNT_DESC, SAVE_COUNT_ASC, SAVE_COUNT_DESC -> true;
+            default -> false;
+        };
+    }
+    
+    private static Comparator<BrandCatalogEntry> build(SortOption option) {
+        Comparator<BrandCatalogEntry> primary = switch (option) {
+            case NAME_ASC -> Comparator.comparing(BrandCatalogEntry::getBrandName);
+            case NAME_DESC -> Comparator.comparing(BrandCatalogEntry::getBrandName, Comparator.reverseOrder());
+            case VIEW_COUNT_ASC -> Comparator.comparing(BrandCatalogEntry::getViewCount);
+            case VIEW_COUNT_DESC -> Comparator.comparing(BrandCatalogEntry::getViewCount, Comparator.reverseOrder());
+            case SAVE_COUNT_ASC -> Comparator.comparing(BrandCatalogEntry::getSaveCount);
+            case SAVE_COUNT_DESC -> Comparator.comparing(BrandCatalogEntry::getSaveCount, Comparator.reverseOrder());
+            case INITIAL_COST_ASC -> Comparator.comparing(BrandCatalogEntry::getInitialCost,
+                Comparator.nullsLast(Comparator.<BigDecimal>naturalOrder()));
+            case INITIAL_COST_DESC -> Comparator.comparing(BrandCatalogEntry::getInitialCost,
+                Comparator.nullsLast(Comparator.<BigDecimal>reverseOrder()));
+            case CREATED_AT_ASC -> BY_BRAND_ID;
+            case CREATED_AT_DESC -> BY_BRAND_ID.reversed();
+        };
+        return primary.thenComparing(BY_BRAND_ID);
+    }
+}
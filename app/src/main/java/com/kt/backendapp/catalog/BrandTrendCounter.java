@@ -0,0 +1,174 @@
+package com.kt.backendapp.catalog;
+
+import com.kt.backendapp.dto.common.TrendWindow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 브랜드별 최근 조회수 (시간대별 링 버퍼)
+ * - 브랜드마다 24개 시간 구간 + 7개 일 구간을 순환 배열로 유지 (구간 번호 = 시각 % 구간 수)
+ * - 조회수 반영 이벤트의 증가분을 현재 시간/일 구간에 더함 (별도 DB 쓰기 없음)
+ * - 시간이 넘어가면 새로 쓰게 될 구간을 전체 브랜드에서 0으로 비움
+ * - 점수는 최근 구간일수록 가중치가 큰 지수 감쇠 합 (누적 조회수가 큰 오래된 브랜드보다 최근 관심을 우선)
+ * - 누적분이 애플리케이션 메모리에만 있으므로 재시작 시 0부터 다시 집계
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BrandTrendCounter {
+
+    public static final int HOURS = 24;
+    public static final int DAYS = 7;
+
+    private static final long MILLIS_PER_HOUR = 60L * 60 * 1000;
+    private static final double[] HOURLY_WEIGHTS = decayWeights(HOURS, 6.0);
+    private static final double[] DAILY_WEIGHTS = decayWeights(DAYS, 2.0);
+
+    private final BrandCatalog brandCatalog;
+
+    private final Map<Long, Counters> counters = new ConcurrentHashMap<>();
+    private long currentHour = currentHour();
+
+    /**
+     * 순위 항목 (점수 = 감쇠 가중 합, recentViews = 구간 내 단순 합)
+     */
+    public record Trend(BrandCatalogEntry entry, double score, long recentViews) {
+    }
+
+    /**
+     * 조회수 반영분을 현재 구간에 누적
+     */
+    @EventListener
+    public synchronized void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        advance(currentHour());
+        int hourSlot = (int) (currentHour % HOURS);
+        int daySlot = (int) ((currentHour / HOURS) % DAYS);
+        event.getDeltas().forEach((brandId, delta) -> {
+            if (delta > 0) {
+                Counters brand = counters.computeIfAbsent(brandId, id -> new Counters());
+                brand.hourly.addAndGet(hourSlot, delta);
+                brand.daily.addAndGet(daySlot, delta);
+            }
+        });
+    }
+
+    /**
+     * 삭제된 브랜드의 카운터 제거
+     */
+    @EventListener
+    public void onCatalogChanged(BrandCatalogChangedEvent event) {
+        if (event.getCause() == BrandCatalogChangedEvent.Cause.RELOAD) {
+            counters.keySet().removeIf(brandId -> event.getSnapshot().get(brandId) == null);
+            return;
+        }
+        if (event.getCause() == BrandCatalogChangedEvent.Cause.MUTATION) {
+            for (BrandCatalogEntry entry : event.getRemoved()) {
+                if (event.getSnapshot().get(entry.getBrandId()) == null) {
+                    counters.remove(entry.getBrandId());
+                }
+            }
+        }
+    }
+
+    /**
+     * 점수 상위 limit개 (categoryId가 있으면 해당 카테고리만, 최근 조회가 없는 브랜드는 제외)
+     */
+    public List<Trend> top(TrendWindow window, Long categoryId, int limit) {
+        long hour;
+        synchronized (this) {
+            advance(currentHour());
+            hour = currentHour;
+        }
+        BrandCatalogSnapshot snapshot = brandCatalog.snapshot();
+
+        // 점수 하위가 머리에 오는 크기 limit 힙
+        Comparator<Trend> ranking = Comparator.comparingDouble(Trend::score)
+            .thenComparing(trend -> trend.entry().getBrandId(), Comparator.reverseOrder());
+        PriorityQueue<Trend> heap = new PriorityQueue<>(limit + 1, ranking);
+        counters.forEach((brandId, brand) -> {
+            BrandCatalogEntry entry = snapshot.get(brandId);
+            if (entry == null || (categoryId != null && !categoryId.equals(entry.getCategoryId()))) {
+                return;
+            }
+            Trend trend = window == TrendWindow.WEEK
+                ? brand.score(entry, brand.daily, DAILY_WEIGHTS, (int) ((hour / HOURS) % DAYS))
+                : brand.score(entry, brand.hourly, HOURLY_WEIGHTS, (int) (hour % HOURS));
+            if (trend.recentViews() == 0) {
+                return;
+            }
+            heap.offer(trend);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+
+        List<Trend> top = new ArrayList<>(heap);
+        top.sort(ranking.reversed());
+        return top;
+    }
+
+    // 지난 시각부터 now까지 새로 쓰게 될 구간을 비움 (24시간/7일 이상 지났으면 전체)
+    private void advance(long now) {
+        if (now <= currentHour) {
+            return;
+        }
+        Set<Integer> hourSlots = new HashSet<>();
+        Set<Integer> daySlots = new HashSet<>();
+        for (long hour = currentHour + 1; hour <= now && hourSlots.size() < HOURS; hour++) {
+            hourSlots.add((int) (hour % HOURS));
+        }
+        for (long day = currentHour / HOURS + 1; day <= now / HOURS && daySlots.size() < DAYS; day++) {
+            daySlots.add((int) (day % DAYS));
+        }
+        for (Counters brand : counters.values()) {
+            hourSlots.forEach(slot -> brand.hourly.set(slot, 0));
+            daySlots.forEach(slot -> brand.daily.set(slot, 0));
+        }
+        currentHour = now;
+    }
+
+    private static long currentHour() {
+        return System.currentTimeMillis() / MILLIS_PER_HOUR;
+    }
+
+    // i 구간 전 가중치 = 0.5^(i / halfLife)
+    private static double[] decayWeights(int slots, double halfLife) {
+        double[] weights = new double[slots];
+        for (int i = 0; i < slots; i++) {
+            weights[i] = Math.pow(0.5, i / halfLife);
+        }
+        return weights;
+    }
+
+    /**
+     * 브랜드 하나의 구간 카운터 (쓰기는 synchronized 안에서만, 읽기는 잠금 없음)
+     */
+    private static final class Counters {
+        private final AtomicLongArray hourly = new AtomicLongArray(HOURS);
+        private final AtomicLongArray daily = new AtomicLongArray(DAYS);
+
+        Trend score(BrandCatalogEntry entry, AtomicLongArray slots, double[] weights, int currentSlot) {
+            int length = slots.length();
+            double score = 0;
+            long views = 0;
+            for (int age = 0; age < length; age++) {
+                long count = slots.get(Math.floorMod(currentSlot - age, length));
+                score += count * weights[age];
+                views += count;
+            }
+            return new Trend(entry, score, views);
+        }
+    }
+}
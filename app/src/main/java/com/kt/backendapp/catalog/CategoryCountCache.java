@@ -0,0 +1,128 @@
+package com.kt.backendapp.catalog;
+
+import com.kt.backendapp.cache.ReferenceDataRegistry;
+import com.kt.backendapp.cache.ResourceVersions;
+import com.kt.backendapp.dto.response.brand.CategoryResponse;
+import com.kt.backendapp.entity.BrandCategory;
+import com.kt.backendapp.repository.BrandRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 카테고리 목록 + 카테고리별 브랜드 수 캐시
+ * - 카탈로그 전체 적재(RELOAD) 시 참조 데이터 레지스트리의 카테고리 목록과 GROUP BY 집계 쿼리 한 번으로 적재
+ * - 이후 브랜드 등록/카테고리 변경/삭제는 카탈로그 변경 이벤트로 받아 개수만 증감 (DB 조회 없음)
+ * - 읽기는 불변 목록 참조 하나만 읽으므로 잠금 없음
+ * - 새 목록을 게시한 뒤에 카테고리 ETag 버전을 올림 (새 ETag로 이전 개수가 캐시되지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryCountCache {
+
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final BrandRepository brandRepository;
+    private final BrandCatalog brandCatalog;
+    private final ResourceVersions resourceVersions;
+
+    // 카테고리 ID → (이름, 브랜드 수), 쓰기는 synchronized 안에서만
+    private final Map<Long, CategoryCount> counts = new TreeMap<>();
+    private volatile List<CategoryCount> current;
+
+    /**
+     * 카테고리 목록 (카테고리 ID순, 브랜드 수 포함)
+     */
+    public List<CategoryResponse> getCategories() {
+        return loaded().stream()
+            .map(count -> CategoryResponse.builder()
+                .categoryId(count.categoryId())
+                .categoryName(count.categoryName())
+                .brandCount(count.brandCount())
+                .build())
+            .toList();
+    }
+
+    /**
+     * DB 기준으로 다시 집계 (GROUP BY 집계 1회, 카테고리 목록은 참조 데이터 레지스트리)
+     */
+    public synchronized void reconcile() {
+        long startTime = System.currentTimeMillis();
+        Map<Long, Long> brandCounts = new HashMap<>();
+        for (Object[] row : brandRepository.countBrandsGroupByCategory()) {
+            brandCounts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        counts.clear();
+        for (BrandCategory category : referenceDataRegistry.getCategories()) {
+            counts.put(category.getCategoryId(), new CategoryCount(category.getCategoryId(),
+                category.getCategoryName(), brandCounts.getOrDefault(category.getCategoryId(), 0L)));
+        }
+        publish();
+        log.info("카테고리 목록 캐시 적재 완료: 카테고리 수={}, 소요시간={}ms",
+            counts.size(), System.currentTimeMillis() - startTime);
+    }
+
+    @EventListener
+    public synchronized void onCatalogChanged(BrandCatalogChangedEvent event) {
+        if (current == null || event.getCause() == BrandCatalogChangedEvent.Cause.RELOAD) {
+            reconcile();
+            return;
+        }
+        if (event.getCause() != BrandCatalogChangedEvent.Cause.MUTATION) {
+            return;
+        }
+
+        // 수정은 이전 항목(removed) -1, 새 항목(added) +1 이므로 카테고리가 바뀐 경우에만 개수가 변함
+        for (BrandCatalogEntry entry : event.getRemoved()) {
+            adjust(entry, -1);
+        }
+        for (BrandCatalogEntry entry : event.getAdded()) {
+            adjust(entry, 1);
+        }
+        publish();
+    }
+
+    // 카탈로그가 아직 적재 전이면 적재를 유도 (RELOAD 이벤트로 이 캐시도 채워짐)
+    private List<CategoryCount> loaded() {
+        List<CategoryCount> categories = current;
+        if (categories != null) {
+            return categories;
+        }
+        brandCatalog.snapshot();
+        synchronized (this) {
+            if (current == null) {
+                reconcile();
+            }
+            return current;
+        }
+    }
+
+    private void adjust(BrandCatalogEntry entry, long delta) {
+        if (entry.getCategoryId() == null) {
+            return;
+        }
+        CategoryCount previous = counts.get(entry.getCategoryId());
+        if (previous == null) {
+            counts.put(entry.getCategoryId(),
+                new CategoryCount(entry.getCategoryId(), entry.getCategoryName(), Math.max(0L, delta)));
+        } else {
+            counts.put(entry.getCategoryId(), new CategoryCount(previous.categoryId(), previous.categoryName(),
+                Math.max(0L, previous.brandCount() + delta)));
+        }
+    }
+
+    private void publish() {
+        current = List.copyOf(counts.values());
+        resourceVersions.categoriesChanged();
+    }
+
+    private record CategoryCount(Long categoryId, String categoryName, long brandCount) {
+    }
+}
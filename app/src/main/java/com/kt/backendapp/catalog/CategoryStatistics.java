@@ -0,0 +1,135 @@
+package com.kt.backendapp.catalog;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * 카테고리 하나의 지표별 통계 (불변)
+ * - CategoryStatsStore가 변경 시마다 새로 만들어 교체하므로 읽는 쪽은 잠금 없이 사용
+ * - 지표별 정렬된 값 배열을 함께 보관해 백분위를 이진 탐색으로 계산
+ */
+public class CategoryStatistics {
+
+    private static final int AVERAGE_SCALE = 2;
+
+    private final Long categoryId;
+    private final long brandCount;
+    private final Map<BrandMetric, MetricStats> metrics;
+
+    CategoryStatistics(Long categoryId, long brandCount, Map<BrandMetric, MetricStats> metrics) {
+        this.categoryId = categoryId;
+        this.brandCount = brandCount;
+        this.metrics = Collections.unmodifiableMap(new EnumMap<>(metrics));
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public long getBrandCount() {
+        return brandCount;
+    }
+
+    public MetricStats get(BrandMetric metric) {
+        return metrics.getOrDefault(metric, MetricStats.EMPTY);
+    }
+
+    /**
+     * 카테고리 내 백분위 (0-100, 값이 클수록 카테고리에서 높은 값)
+     * - (value보다 작은 값 수 + value와 같은 값 수 / 2) / 전체 수
+     * - 값이 없거나 카테고리에 비교할 값이 없으면 empty
+     */
+    public OptionalDouble percentile(BrandMetric metric, BigDecimal value) {
+        double[] sorted = get(metric).sorted;
+        if (value == null || sorted.length == 0) {
+            return OptionalDouble.empty();
+        }
+        double key = value.doubleValue();
+        int less = lowerBound(sorted, key);
+        int equal = upperBound(sorted, key) - less;
+        return OptionalDouble.of((less + equal / 2.0) / sorted.length * 100);
+    }
+
+    // key 이상인 첫 위치 (정렬된 배열의 범위 조회에도 사용)
+    public static int lowerBound(double[] sorted, double key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // key 초과인 첫 위치
+    public static int upperBound(double[] sorted, double key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 지표 하나의 집계값 (값이 있는 브랜드만 대상)
+     * - sorted는 공유되는 불변 배열이므로 외부로 노출하지 않음
+     */
+    public static final class MetricStats {
+
+        static final MetricStats EMPTY = new MetricStats(0, BigDecimal.ZERO, null, null, new double[0]);
+
+        private final long count;
+        private final BigDecimal sum;
+        private final BigDecimal min;
+        private final BigDecimal max;
+        private final double[] sorted;
+
+        MetricStats(long count, BigDecimal sum, BigDecimal min, BigDecimal max, double[] sorted) {
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+            this.sorted = sorted;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public BigDecimal sum() {
+            return sum;
+        }
+
+        public BigDecimal min() {
+            return min;
+        }
+
+        public BigDecimal max() {
+            return max;
+        }
+
+        /**
+         * 평균 (소수점 2자리 반올림, 값이 없으면 null)
+         */
+        public BigDecimal average() {
+            if (count == 0) {
+                return null;
+            }
+            return sum.divide(BigDecimal.valueOf(count), AVERAGE_SCALE, RoundingMode.HALF_UP);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.kt.backendapp.catalog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카테고리별 지표 통계 저장소 (누적 집계)
+ * - 카테고리마다 지표별 합계와 정렬된 값 배열(double[])을 유지해 평균/최소/최대/백분위를 계산
+ * - 브랜드 등록/수정/삭제는 카탈로그 변경 이벤트로 받아 해당 브랜드 값만 빼고 더함
+ * - 처음부터 다시 계산하는 것은 카탈로그 전체 적재(기동) 시와 reconcile 호출 시뿐
+ * - 조회는 카테고리별 불변 통계 객체를 꺼내기만 하므로 O(1)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryStatsStore {
+
+    private final BrandCatalog brandCatalog;
+
+    // 카테고리 ID → 누적 집계 (쓰기는 synchronized 안에서만)
+    private final Map<Long, RunningCategory> running = new HashMap<>();
+    private final Map<Long, CategoryStatistics> published = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * 카테고리 통계 조회 (브랜드가 없는 카테고리는 null)
+     */
+    public CategoryStatistics get(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        ensureLoaded();
+        return published.get(categoryId);
+    }
+
+    /**
+     * 현재 카탈로그 스냅샷 기준으로 전체 재계산
+     */
+    public void reconcile() {
+        BrandCatalogSnapshot snapshot = brandCatalog.snapshot();
+        synchronized (this) {
+            rebuild(snapshot);
+        }
+    }
+
+    @EventListener
+    public synchronized void onCatalogChanged(BrandCatalogChangedEvent event) {
+        if (!loaded || event.getCause() == BrandCatalogChangedEvent.Cause.RELOAD) {
+            rebuild(event.getSnapshot());
+            return;
+        }
+        if (event.getCause() != BrandCatalogChangedEvent.Cause.MUTATION) {
+            return;
+        }
+
+        Set<Long> touched = new HashSet<>();
+        for (BrandCatalogEntry entry : event.getRemoved()) {
+            RunningCategory category = running.get(entry.getCategoryId());
+            if (category != null) {
+                category.remove(entry);
+                touched.add(entry.getCategoryId());
+            }
+        }
+        for (BrandCatalogEntry entry : event.getAdded()) {
+            if (entry.getCategoryId() != null) {
+                running.computeIfAbsent(entry.getCategoryId(), id -> new RunningCategory()).add(entry);
+                touched.add(entry.getCategoryId());
+            }
+        }
+        touched.forEach(this::publish);
+    }
+
+    // 카탈로그 잠금 → 저장소 잠금 순서를 지키기 위해 스냅샷은 잠금 밖에서 조회
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        BrandCatalogSnapshot snapshot = brandCatalog.snapshot();
+        synchronized (this) {
+            if (!loaded) {
+                rebuild(snapshot);
+            }
+        }
+    }
+
+    private void rebuild(BrandCatalogSnapshot snapshot) {
+        Map<Long, List<BrandCatalogEntry>> members = new HashMap<>();
+        for (BrandCatalogEntry entry : snapshot.entries()) {
+            if (entry.getCategoryId() != null) {
+                members.computeIfAbsent(entry.getCategoryId(), id -> new ArrayList<>()).add(entry);
+            }
+        }
+        running.clear();
+        members.forEach((categoryId, entries) -> running.put(categoryId, RunningCategory.of(entries)));
+        published.keySet().retainAll(running.keySet());
+        Set.copyOf(running.keySet()).forEach(this::publish);
+        loaded = true;
+        log.info("카테고리 통계 재계산 완료: 카테고리 수={}, 브랜드 수={}", running.size(), snapshot.size());
+    }
+
+    private void publish(Long categoryId) {
+        RunningCategory category = running.get(categoryId);
+        if (category == null || category.brandCount == 0) {
+            running.remove(categoryId);
+            published.remove(categoryId);
+            return;
+        }
+        published.put(categoryId, category.toStatistics(categoryId));
+    }
+
+    /**
+     * 카테고리 하나의 누적 집계
+     */
+    private static class RunningCategory {
+        private long brandCount;
+        private final Map<BrandMetric, RunningMetric> metrics = new EnumMap<>(BrandMetric.class);
+
+        RunningCategory() {
+            for (BrandMetric metric : BrandMetric.values()) {
+                metrics.put(metric, new RunningMetric());
+            }
+        }
+
+        /**
+         * 카테고리 전체 항목으로 한 번에 생성 (지표별로 한 번 정렬, 재계산 시 사용)
+         */
+        static RunningCategory of(List<BrandCatalogEntry> entries) {
+            RunningCategory category = new RunningCategory();
+            category.brandCount = entries.size();
+            for (BrandMetric metric : BrandMetric.values()) {
+                category.metrics.put(metric, RunningMetric.of(entries, metric));
+            }
+            return category;
+        }
+
+        void add(BrandCatalogEntry entry) {
+            brandCount++;
+            metrics.forEach((metric, stats) -> stats.add(metric.valueOf(entry)));
+        }
+
+        void remove(BrandCatalogEntry entry) {
+            brandCount--;
+            metrics.forEach((metric, stats) -> stats.remove(metric.valueOf(entry)));
+        }
+
+        CategoryStatistics toStatistics(Long categoryId) {
+            Map<BrandMetric, CategoryStatistics.MetricStats> stats = new EnumMap<>(BrandMetric.class);
+            metrics.forEach((metric, runningMetric) -> stats.put(metric, runningMetric.toStats()));
+            return new CategoryStatistics(categoryId, brandCount, stats);
+        }
+    }
+
+    /**
+     * 지표 하나의 합계 + 정렬된 값 배열 (백분위 계산용, 삭제 지원)
+     * - 증분 변경 시 배열을 새로 만들어(copy-on-write) 이미 발행된 통계 객체와 공유해도 안전
+     * - 전체 재계산은 값을 모아 한 번 정렬 (항목마다 복사하면 O(n²))
+     */
+    private static class RunningMetric {
+        private BigDecimal sum = BigDecimal.ZERO;
+        private double[] sorted = new double[0];
+
+        static RunningMetric of(List<BrandCatalogEntry> entries, BrandMetric metric) {
+            RunningMetric running = new RunningMetric();
+            double[] values = new double[entries.size()];
+            int count = 0;
+            BigDecimal sum = BigDecimal.ZERO;
+            for (BrandCatalogEntry entry : entries) {
+                BigDecimal value = metric.valueOf(entry);
+                if (value != null) {
+                    values[count++] = value.doubleValue();
+                    sum = sum.add(value);
+                }
+            }
+            double[] sorted = count == values.length ? values : Arrays.copyOf(values, count);
+            Arrays.sort(sorted);
+            running.sorted = sorted;
+            running.sum = sum;
+            return running;
+        }
+
+        void add(BigDecimal value) {
+            if (value == null) {
+                return;
+            }
+            double key = value.doubleValue();
+            int index = CategoryStatistics.upperBound(sorted, key);
+            double[] next = new double[sorted.length + 1];
+            System.arraycopy(sorted, 0, next, 0, index);
+            next[index] = key;
+            System.arraycopy(sorted, index, next, index + 1, sorted.length - index);
+            sorted = next;
+            sum = sum.add(value);
+        }
+
+        void remove(BigDecimal value) {
+            if (value == null) {
+                return;
+            }
+            double key = value.doubleValue();
+            int index = CategoryStatistics.lowerBound(sorted, key);
+            if (index >= sorted.length || sorted[index] != key) {
+                return;
+            }
+            double[] next = new double[sorted.length - 1];
+            System.arraycopy(sorted, 0, next, 0, index);
+            System.arraycopy(sorted, index + 1, next, index, sorted.length - index - 1);
+            sorted = next;
+            sum = sum.subtract(value);
+        }
+
+        CategoryStatistics.MetricStats toStats() {
+            if (sorted.length == 0) {
+                return CategoryStatistics.MetricStats.EMPTY;
+            }
+            return new CategoryStatistics.MetricStats(sorted.length, sum,
+                BigDecimal.valueOf(sorted[0]), BigDecimal.valueOf(sorted[sorted.length - 1]), sorted);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.kt.backendapp.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 조회수 누적분이 DB에 반영된 뒤 발행되는 이벤트
+ * - key: 브랜드 ID, value: 이번에 반영된 조회수 증가분
+ */
+@Getter
+@AllArgsConstructor
+public class ViewCountsFlushedEvent {
+    private final Map<Long, Long> deltas;
+}
@@ -0,0 +1,46 @@
+package com.kt.backendapp.consultation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 활성 상담 중복 방지 인덱스 존재 확인 (기동 시)
+ * - 상담 신청은 활성 상담을 먼저 조회하지 않고 이 부분 유니크 인덱스 위반으로 중복을 판단함
+ * - ddl-auto: update는 부분 인덱스를 만들지 않으므로, 마이그레이션을 건너뛴 DB에서는 중복 신청이 조용히 허용됨
+ * - 인덱스가 없거나 (CONCURRENTLY 생성 실패로) 무효 상태면 기동을 중단
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveConsultationIndexVerifier {
+
+    // 활성 상담(PENDING, RESCHEDULE_REQUEST, CONFIRMED)은 사용자-브랜드당 하나 (schema.sql의 부분 유니크 인덱스)
+    public static final String INDEX_NAME = "uq_consultation_active_user_brand";
+
+    private static final String INDEX_VALID_SQL =
+        "SELECT i.indisvalid FROM pg_index i " +
+        "JOIN pg_class c ON c.oid = i.indexrelid " +
+        "WHERE c.relname = ? AND i.indisunique AND pg_catalog.pg_table_is_visible(c.oid)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void verify() {
+        List<Boolean> valid = jdbcTemplate.queryForList(INDEX_VALID_SQL, Boolean.class, INDEX_NAME);
+        if (valid.isEmpty()) {
+            throw new IllegalStateException("상담 중복 방지 인덱스(" + INDEX_NAME + ")가 없습니다. "
+                + "migrate-consultation-active-unique.sql을 실행한 뒤 다시 기동하세요.");
+        }
+        if (!Boolean.TRUE.equals(valid.get(0))) {
+            throw new IllegalStateException("상담 중복 방지 인덱스(" + INDEX_NAME + ")가 무효 상태입니다. "
+                + "인덱스를 삭제하고 migrate-consultation-active-unique.sql을 다시 실행하세요.");
+        }
+        log.info("상담 중복 방지 인덱스 확인 완료: {}", INDEX_NAME);
+    }
+}
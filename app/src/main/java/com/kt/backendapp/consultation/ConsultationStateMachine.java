@@ -0,0 +1,253 @@
+package com.kt.backendapp.consultation;
+
+import com.kt.backendapp.cache.ReferenceDataRegistry;
+import com.kt.backendapp.entity.Brand;
+import com.kt.backendapp.entity.BrandManager;
+import com.kt.backendapp.entity.Consultation;
+import com.kt.backendapp.entity.User;
+import com.kt.backendapp.entity.UserResponseType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * 상담 상태 전이 (전이마다 조건부 UPDATE 한 문장)
+ * - 현재 상태와 소유자(사용자 또는 브랜드 매니저)를 WHERE 절에서 함께 확인하고, 응답/알림에 필요한 값은 RETURNING으로 받음
+ *   → 조회 후 검사하고 저장하는 사이에 다른 요청(예: 매니저 확정과 사용자 취소)이 끼어들어 덮어쓰는 일이 없음
+ * - 갱신된 행이 없을 때만 진단용 SELECT 한 번으로 원인을 구분해 기존과 같은 예외/메시지로 변환
+ * - 호출하는 쪽 트랜잭션에 참여 (JPA 트랜잭션과 같은 커넥션 사용)
+ * - 반환하는 Consultation과 연관 엔티티는 RETURNING 값으로 채운 준영속 객체 (응답 변환/알림 FK 지정용)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConsultationStateMachine {
+
+    public static final long PENDING = 1L;
+    public static final long RESCHEDULE_REQUEST = 2L;
+    public static final long CONFIRMED = 3L;
+    public static final long COMPLETED = 4L;
+    public static final long CANCELLED = 5L;
+
+    private static final String RETURNING =
+        " RETURNING c.consultation_id, c.user_id, c.brand_id, c.status_code, c.preferred_date, c.preferred_time, " +
+        "c.manager_note, c.created_at, c.confirmed_at, c.adjusted_date, c.adjusted_time, c.adjustment_reason, " +
+        "c.adjustment_requested_at, c.user_response, c.user_response_at, c.is_active, " +
+        "b.brand_name, b.category_id, b.manager_id, u.name AS user_name, u.email AS user_email, u.phone AS user_phone";
+
+    private static final String DIAGNOSE_SQL =
+        "SELECT c.status_code, c.user_id, b.manager_id " +
+        "FROM consultation c LEFT JOIN brand b ON b.brand_id = c.brand_id " +
+        "WHERE c.consultation_id = :consultationId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    private enum Actor {
+        USER("c.user_id = :actorId"),
+        MANAGER("b.manager_id = :actorId");
+
+        private final String condition;
+
+        Actor(String condition) {
+            this.condition = condition;
+        }
+    }
+
+    /**
+     * 전이 정의: 소유자 조건, 허용되는 현재 상태(SQL + 거부 사유), 변경할 컬럼
+     */
+    private enum Transition {
+        RESCHEDULE(Actor.MANAGER, "본인이 관리하는 브랜드의 상담만 일정 조정할 수 있습니다.",
+            "c.status_code = 1",
+            code -> code == PENDING ? null : "신청 중인 상담만 일정 조정이 가능합니다.",
+            "status_code = 2, adjusted_date = :adjustedDate, adjusted_time = :adjustedTime, " +
+            "adjustment_reason = :adjustmentReason, adjustment_requested_at = :now, " +
+            "manager_note = COALESCE(:managerNote, c.manager_note)"),
+        ACCEPT_RESCHEDULE(Actor.USER, "본인의 상담만 응답할 수 있습니다.",
+            "c.status_code = 2",
+            code -> code == RESCHEDULE_REQUEST ? null : "일정 조정 요청된 상담만 응답이 가능합니다.",
+            "status_code = 3, user_response = 'ACCEPT', user_response_at = :now, confirmed_at = :now, " +
+            "preferred_date = c.adjusted_date, preferred_time = c.adjusted_time"),
+        REJECT_RESCHEDULE(Actor.USER, "본인의 상담만 응답할 수 있습니다.",
+            "c.status_code = 2",
+            code -> code == RESCHEDULE_REQUEST ? null : "일정 조정 요청된 상담만 응답이 가능합니다.",
+            "status_code = 5, user_response = 'REJECT', user_response_at = :now, is_active = FALSE"),
+        CONFIRM(Actor.MANAGER, "본인이 관리하는 브랜드의 상담만 확정할 수 있습니다.",
+            "c.status_code = 1",
+            code -> code == PENDING ? null : "신청 중인 상담만 확정이 가능합니다.",
+            "status_code = 3, confirmed_at = :now"),
+        CANCEL_BY_USER(Actor.USER, "본인의 상담만 취소할 수 있습니다.",
+            "c.status_code NOT IN (4, 5)",
+            Transition::cancelRejection,
+            "status_code = 5, is_active = FALSE"),
+        CANCEL_BY_MANAGER(Actor.MANAGER, "본인이 관리하는 브랜드의 상담만 취소할 수 있습니다.",
+            "c.status_code NOT IN (4, 5)",
+            Transition::cancelRejection,
+            "status_code = 5, is_active = FALSE");
+
+        private final Actor actor;
+        private final String ownershipMessage;
+        private final LongFunction<String> rejection;
+        private final String sql;
+
+        Transition(Actor actor, String ownershipMessage, String stateCondition,
+                   LongFunction<String> rejection, String assignments) {
+            this.actor = actor;
+            this.ownershipMessage = ownershipMessage;
+            this.rejection = rejection;
+            this.sql = "UPDATE consultation c SET " + assignments + " " +
+                "FROM brand b, users u " +
+                "WHERE c.consultation_id = :consultationId " +
+                "AND b.brand_id = c.brand_id AND u.user_id = c.user_id " +
+                "AND " + actor.condition + " AND " + stateCondition +
+                RETURNING;
+        }
+
+        private static String cancelRejection(long code) {
+            if (code == CANCELLED) {
+                return "이미 취소된 상담입니다.";
+            }
+            if (code == COMPLETED) {
+                return "완료된 상담은 취소할 수 없습니다.";
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 매니저 일정 조정 요청 (PENDING → RESCHEDULE_REQUEST)
+     */
+    public Consultation reschedule(Long consultationId, Long managerId, LocalDate adjustedDate, LocalTime adjustedTime,
+                                   String adjustmentReason, String managerNote) {
+        return apply(Transition.RESCHEDULE, consultationId, managerId, new MapSqlParameterSource()
+            .addValue("adjustedDate", adjustedDate)
+            .addValue("adjustedTime", adjustedTime)
+            .addValue("adjustmentReason", adjustmentReason)
+            .addValue("managerNote", managerNote));
+    }
+
+    /**
+     * 사용자 일정 조정 응답 (수락: RESCHEDULE_REQUEST → CONFIRMED, 거절: → CANCELLED)
+     */
+    public Consultation respondToReschedule(Long consultationId, Long userId, UserResponseType response) {
+        Transition transition = response == UserResponseType.ACCEPT
+            ? Transition.ACCEPT_RESCHEDULE : Transition.REJECT_RESCHEDULE;
+        return apply(transition, consultationId, userId, new MapSqlParameterSource());
+    }
+
+    /**
+     * 매니저 바로 확정 (PENDING → CONFIRMED)
+     */
+    public Consultation confirm(Long consultationId, Long managerId) {
+        return apply(Transition.CONFIRM, consultationId, managerId, new MapSqlParameterSource());
+    }
+
+    /**
+     * 사용자 취소 (완료/취소 외 상태 → CANCELLED)
+     */
+    public Consultation cancelByUser(Long consultationId, Long userId) {
+        return apply(Transition.CANCEL_BY_USER, consultationId, userId, new MapSqlParameterSource());
+    }
+
+    /**
+     * 매니저 취소 (완료/취소 외 상태 → CANCELLED)
+     */
+    public Consultation cancelByManager(Long consultationId, Long managerId) {
+        return apply(Transition.CANCEL_BY_MANAGER, consultationId, managerId, new MapSqlParameterSource());
+    }
+
+    private Consultation apply(Transition transition, Long consultationId, Long actorId, MapSqlParameterSource params) {
+        params.addValue("consultationId", consultationId)
+            .addValue("actorId", actorId)
+            .addValue("now", LocalDateTime.now());
+
+        List<Consultation> updated = jdbcTemplate.query(transition.sql, params, this::toConsultation);
+        if (updated.isEmpty()) {
+            throw diagnose(transition, consultationId, actorId);
+        }
+        return updated.get(0);
+    }
+
+    // 갱신되지 않은 원인 구분: 없는 상담 → 권한 없음 → 허용되지 않는 상태 순서 (기존 검사 순서와 동일)
+    private RuntimeException diagnose(Transition transition, Long consultationId, Long actorId) {
+        List<long[]> rows = jdbcTemplate.query(DIAGNOSE_SQL,
+            new MapSqlParameterSource("consultationId", consultationId),
+            (rs, rowNum) -> new long[] {
+                nullableLong(rs, "status_code"), nullableLong(rs, "user_id"), nullableLong(rs, "manager_id")
+            });
+        if (rows.isEmpty()) {
+            return new IllegalArgumentException("존재하지 않는 상담입니다.");
+        }
+
+        long[] row = rows.get(0);
+        long ownerId = transition.actor == Actor.USER ? row[1] : row[2];
+        if (ownerId != actorId) {
+            log.warn("상담 상태 변경 권한 없음 - 상담ID: {}, 전이: {}, 요청자ID: {}, 소유자ID: {}",
+                consultationId, transition, actorId, ownerId);
+            return new IllegalArgumentException(transition.ownershipMessage);
+        }
+
+        String rejection = transition.rejection.apply(row[0]);
+        if (rejection != null) {
+            return new IllegalStateException(rejection);
+        }
+        // 검사 시점에는 허용 상태 → UPDATE와 SELECT 사이에 다른 요청이 상태를 바꾼 경우
+        return new IllegalStateException("다른 요청으로 상담 상태가 변경되었습니다. 다시 시도해주세요.");
+    }
+
+    private static long nullableLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? -1L : value;
+    }
+
+    private Consultation toConsultation(ResultSet rs, int rowNum) throws SQLException {
+        Long statusCode = rs.getObject("status_code", Long.class);
+        Long categoryId = rs.getObject("category_id", Long.class);
+        Long managerId = rs.getObject("manager_id", Long.class);
+        String userResponse = rs.getString("user_response");
+
+        Brand brand = Brand.builder()
+            .brandId(rs.getObject("brand_id", Long.class))
+            .brandName(rs.getString("brand_name"))
+            .category(categoryId != null ? referenceDataRegistry.findCategory(categoryId).orElse(null) : null)
+            .manager(managerId != null ? BrandManager.builder().managerId(managerId).build() : null)
+            .build();
+        User user = User.builder()
+            .userId(rs.getObject("user_id", Long.class))
+            .name(rs.getString("user_name"))
+            .email(rs.getString("user_email"))
+            .phone(rs.getString("user_phone"))
+            .build();
+
+        return Consultation.builder()
+            .consultationId(rs.getObject("consultation_id", Long.class))
+            .user(user)
+            .brand(brand)
+            .status(referenceDataRegistry.findStatus(statusCode)
+                .orElseThrow(() -> new IllegalArgumentException("상담 상태를 찾을 수 없습니다.")))
+            .preferredDate(rs.getObject("preferred_date", LocalDate.class))
+            .preferredTime(rs.getObject("preferred_time", LocalTime.class))
+            .managerNote(rs.getString("manager_note"))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .confirmedAt(rs.getObject("confirmed_at", LocalDateTime.class))
+            .adjustedDate(rs.getObject("adjusted_date", LocalDate.class))
+            .adjustedTime(rs.getObject("adjusted_time", LocalTime.class))
+            .adjustmentReason(rs.getString("adjustment_reason"))
+            .adjustmentRequestedAt(rs.getObject("adjustment_requested_at", LocalDateTime.class))
+            .userResponse(userResponse != null ? UserResponseType.valueOf(userResponse) : null)
+            .userResponseAt(rs.getObject("user_response_at", LocalDateTime.class))
+            .isActive(rs.getBoolean("is_active"))
+            .build();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -51,6 +52,16 @@ public class GlobalExceptionHandler {
             .body(ApiResponse.error("INVALID_REQUEST", ex.getMessage()));
     }
 
+    /**
+     * 요청 파라미터 타입 변환 오류 처리 (예: 존재하지 않는 정렬 기준)
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiResponse<String>> handleTypeMismatchException(MethodArgumentTypeMismatchException ex) {
+        log.error("요청 파라미터 타입 오류 발생: {}={}", ex.getName(), ex.getValue());
+        return ResponseEntity.badRequest()
+            .body(ApiResponse.error("INVALID_REQUEST", "잘못된 요청 파라미터입니다: " + ex.getName()));
+    }
+
     /**
      * 일반적인 Exception 처리
      */
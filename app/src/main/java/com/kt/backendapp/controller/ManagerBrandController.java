@@ -1,18 +1,31 @@
 package com.kt.backendapp.controller;
 
 import com.kt.backendapp.dto.common.ApiResponse;
+import com.kt.backendapp.dto.common.PageResponse;
+import com.kt.backendapp.dto.common.SortOption;
 import com.kt.backendapp.dto.request.brand.BrandCreateRequest;
+import com.kt.backendapp.dto.request.brand.BrandImportFormat;
 import com.kt.backendapp.dto.request.brand.BrandUpdateRequest;
 import com.kt.backendapp.dto.response.brand.BrandDetailResponse;
+import com.kt.backendapp.dto.response.brand.BrandImportResponse;
 import com.kt.backendapp.dto.response.brand.BrandListResponse;
 import com.kt.backendapp.dto.response.brand.CategoryResponse;
+import com.kt.backendapp.service.IBrandImportService;
 import com.kt.backendapp.service.IManagerBrandService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -22,6 +35,9 @@ import java.util.List;
 public class ManagerBrandController {
     
     private final IManagerBrandService managerBrandService;
+    private final IBrandImportService brandImportService;
+    
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
     
     /**
      * 카테고리 목록 조회
@@ -60,6 +76,52 @@ public class ManagerBrandController {
         }
     }
     
+    /**
+     * 전체 브랜드 목록 스트리밍 조회 (매니저용, stream 파라미터가 있으면 이 핸들러로 처리)
+     * GET /api/manager/brands/public?stream=true
+     * - 응답 형태는 일반 목록과 같고, 행을 하나씩 바로 써서 목록 크기와 무관하게 메모리 사용이 일정
+     */
+    @GetMapping(value = "/brands/public", params = {"stream", "!size"})
+    public ResponseEntity<?> streamAllBrands(
+            @RequestHeader(value = "Manager-Id", required = false) Long managerId) {
+        if (managerId == null) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("MISSING_HEADER", "Manager-Id 헤더가 필요합니다."));
+        }
+        
+        StreamingResponseBody body = out -> managerBrandService.writeAllBrands(managerId, out);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+    
+    /**
+     * 전체 브랜드 목록 커서 페이지 조회 (매니저용)
+     * GET /api/manager/brands/public?size={size}&sort={sort}&cursor={nextCursor}
+     */
+    @GetMapping(value = "/brands/public", params = "size")
+    public ResponseEntity<ApiResponse<PageResponse<BrandListResponse>>> getAllBrandsPage(
+            @RequestHeader(value = "Manager-Id", required = false) Long managerId,
+            @RequestParam int size,
+            @RequestParam(defaultValue = "NAME_ASC") SortOption sort,
+            @RequestParam(required = false) String cursor) {
+        try {
+            if (managerId == null) {
+                return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("MISSING_HEADER", "Manager-Id 헤더가 필요합니다."));
+            }
+            
+            PageResponse<BrandListResponse> response = managerBrandService.getAllBrandsPage(managerId, sort, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(response, "전체 브랜드 목록 조회가 완료되었습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_REQUEST", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
+        }
+    }
+    
     /**
      * 내 브랜드 목록 조회 (전체 목록)
      * GET /api/v1/manager/brands
@@ -119,6 +181,36 @@ public class ManagerBrandController {
         }
     }
     
+    /**
+     * 브랜드 일괄 등록 (CSV 또는 NDJSON, 요청 본문을 스트리밍으로 처리)
+     * POST /api/manager/brands/import
+     * - Content-Type: text/csv (첫 줄 헤더) 또는 application/x-ndjson
+     * - 검증에 실패한 행은 건너뛰고 행 번호와 사유를 응답에 포함
+     */
+    @PostMapping(value = "/brands/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ApiResponse<BrandImportResponse>> importBrands(
+            @RequestHeader("Manager-Id") Long managerId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            BrandImportFormat format = TEXT_CSV.isCompatibleWith(mediaType) ? BrandImportFormat.CSV : BrandImportFormat.NDJSON;
+            Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+            
+            try (Reader reader = new InputStreamReader(body, charset)) {
+                BrandImportResponse response = brandImportService.importBrands(managerId, format, reader);
+                return ResponseEntity.ok(ApiResponse.success(response, "브랜드 일괄 등록이 완료되었습니다."));
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("IMPORT_FAILED", e.getMessage()));
+        } catch (Exception e) {
+            log.error("브랜드 일괄 등록 실패: managerId={}, error={}", managerId, e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
+        }
+    }
+    
     /**
      * 브랜드 수정
      * PUT /api/v1/manager/brands/{id}
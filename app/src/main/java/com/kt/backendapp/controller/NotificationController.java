@@ -1,17 +1,21 @@
 package com.kt.backendapp.controller;
 
+import com.kt.backendapp.cache.ConditionalRequests;
+import com.kt.backendapp.cache.ResourceVersions;
 import com.kt.backendapp.dto.common.ApiResponse;
 import com.kt.backendapp.dto.common.PageResponse;
 import com.kt.backendapp.dto.response.notification.NotificationResponse;
 import com.kt.backendapp.entity.Notification;
 import com.kt.backendapp.entity.RecipientType;
 import com.kt.backendapp.service.INotificationService;
+import com.kt.backendapp.util.CreatedAtCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,41 +25,124 @@ import org.springframework.web.bind.annotation.*;
 public class NotificationController {
     
     private final INotificationService notificationService;
+    private final ResourceVersions resourceVersions;
     
     /**
-     * 사용자 알림 목록 조회
+     * 사용자 알림 목록 조회 (첫 페이지, 전체 개수 포함)
+     * - 다음 페이지는 응답의 nextCursor로 커서 조회 사용 (OFFSET/COUNT 없이 조회)
+     * - page는 0만 허용 (1 이상이면 400)
      */
-    @GetMapping("/api/user/notifications")
+    @GetMapping(value = "/api/user/notifications", params = "!cursor")
     public ResponseEntity<ApiResponse<PageResponse<NotificationResponse>>> getUserNotifications(
             @RequestHeader("User-Id") Long userId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        // 첫 페이지만 OFFSET 없이 조회, 이후는 nextCursor로
+        try {
+            CreatedAtCursor.validateFirstPage(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_PARAMETER", e.getMessage()));
+        }
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        String etag = resourceVersions.notificationsETag(userId, RecipientType.USER);
+        if (ConditionalRequests.isNotModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt", "notificationId"));
         Page<Notification> notifications = notificationService.getUserNotifications(userId, pageable);
         
         Page<NotificationResponse> responsePage = notifications.map(NotificationResponse::from);
-        PageResponse<NotificationResponse> pageResponse = PageResponse.of(responsePage);
+        PageResponse<NotificationResponse> pageResponse = PageResponse.of(responsePage,
+            n -> CreatedAtCursor.encode(n.getCreatedAt(), n.getNotificationId()));
+        
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(pageResponse, "알림 목록을 조회했습니다."));
+    }
+    
+    /**
+     * 사용자 알림 목록 커서 조회 (최신순, 전체 개수 없이 다음 묶음만 조회)
+     * GET /api/user/notifications?cursor={nextCursor}&size={size}
+     */
+    @GetMapping(value = "/api/user/notifications", params = "cursor")
+    public ResponseEntity<ApiResponse<PageResponse<NotificationResponse>>> getUserNotificationsAfter(
+            @RequestHeader("User-Id") Long userId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = resourceVersions.notificationsETag(userId, RecipientType.USER);
+        if (ConditionalRequests.isNotModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         
-        return ResponseEntity.ok(ApiResponse.success(pageResponse, "알림 목록을 조회했습니다."));
+        try {
+            PageResponse<NotificationResponse> response =
+                notificationService.getNotificationsAfter(userId, RecipientType.USER, cursor, size);
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(response, "알림 목록을 조회했습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_PARAMETER", e.getMessage()));
+        }
     }
     
     /**
-     * 매니저 알림 목록 조회
+     * 매니저 알림 목록 조회 (첫 페이지, 전체 개수 포함)
+     * - 다음 페이지는 응답의 nextCursor로 커서 조회 사용 (OFFSET/COUNT 없이 조회)
+     * - page는 0만 허용 (1 이상이면 400)
      */
-    @GetMapping("/api/manager/notifications")
+    @GetMapping(value = "/api/manager/notifications", params = "!cursor")
     public ResponseEntity<ApiResponse<PageResponse<NotificationResponse>>> getManagerNotifications(
             @RequestHeader("Manager-Id") Long managerId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        // 첫 페이지만 OFFSET 없이 조회, 이후는 nextCursor로
+        try {
+            CreatedAtCursor.validateFirstPage(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_PARAMETER", e.getMessage()));
+        }
+        
+        String etag = resourceVersions.notificationsETag(managerId, RecipientType.MANAGER);
+        if (ConditionalRequests.isNotModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt", "notificationId"));
         Page<Notification> notifications = notificationService.getManagerNotifications(managerId, pageable);
         
         Page<NotificationResponse> responsePage = notifications.map(NotificationResponse::from);
-        PageResponse<NotificationResponse> pageResponse = PageResponse.of(responsePage);
+        PageResponse<NotificationResponse> pageResponse = PageResponse.of(responsePage,
+            n -> CreatedAtCursor.encode(n.getCreatedAt(), n.getNotificationId()));
         
-        return ResponseEntity.ok(ApiResponse.success(pageResponse, "알림 목록을 조회했습니다."));
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(pageResponse, "알림 목록을 조회했습니다."));
+    }
+    
+    /**
+     * 매니저 알림 목록 커서 조회 (최신순, 전체 개수 없이 다음 묶음만 조회)
+     * GET /api/manager/notifications?cursor={nextCursor}&size={size}
+     */
+    @GetMapping(value = "/api/manager/notifications", params = "cursor")
+    public ResponseEntity<ApiResponse<PageResponse<NotificationResponse>>> getManagerNotificationsAfter(
+            @RequestHeader("Manager-Id") Long managerId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = resourceVersions.notificationsETag(managerId, RecipientType.MANAGER);
+        if (ConditionalRequests.isNotModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        
+        try {
+            PageResponse<NotificationResponse> response =
+                notificationService.getNotificationsAfter(managerId, RecipientType.MANAGER, cursor, size);
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(response, "알림 목록을 조회했습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_PARAMETER", e.getMessage()));
+        }
     }
     
     /**
@@ -71,17 +158,29 @@ public class NotificationController {
      * 사용자 읽지 않은 알림 개수 조회
      */
     @GetMapping("/api/user/notifications/unread-count")
-    public ResponseEntity<ApiResponse<Long>> getUserUnreadCount(@RequestHeader("User-Id") Long userId) {
+    public ResponseEntity<ApiResponse<Long>> getUserUnreadCount(
+            @RequestHeader("User-Id") Long userId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = resourceVersions.notificationsETag(userId, RecipientType.USER);
+        if (ConditionalRequests.isNotModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         long count = notificationService.getUnreadCount(userId, RecipientType.USER);
-        return ResponseEntity.ok(ApiResponse.success(count, "읽지 않은 알림 개수를 조회했습니다."));
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(count, "읽지 않은 알림 개수를 조회했습니다."));
     }
     
     /**
      * 매니저 읽지 않은 알림 개수 조회
      */
     @GetMapping("/api/manager/notifications/unread-count")
-    public ResponseEntity<ApiResponse<Long>> getManagerUnreadCount(@RequestHeader("Manager-Id") Long managerId) {
+    public ResponseEntity<ApiResponse<Long>> getManagerUnreadCount(
+            @RequestHeader("Manager-Id") Long managerId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = resourceVersions.notificationsETag(managerId, RecipientType.MANAGER);
+        if (ConditionalRequests.isNotModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         long count = notificationService.getUnreadCount(managerId, RecipientType.MANAGER);
-        return ResponseEntity.ok(ApiResponse.success(count, "읽지 않은 알림 개수를 조회했습니다."));
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(count, "읽지 않은 알림 개수를 조회했습니다."));
     }
 }
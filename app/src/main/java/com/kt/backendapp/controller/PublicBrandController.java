@@ -1,16 +1,32 @@
 package com.kt.backendapp.controller;
 
+import com.kt.backendapp.cache.ConditionalRequests;
+import com.kt.backendapp.cache.ResourceVersions;
+import com.kt.backendapp.cache.SerializedResponseCache;
 import com.kt.backendapp.dto.common.ApiResponse;
+import com.kt.backendapp.dto.common.PageResponse;
+import com.kt.backendapp.dto.common.SortOption;
+import com.kt.backendapp.dto.common.TrendWindow;
+import com.kt.backendapp.dto.request.brand.BrandFilterRequest;
 import com.kt.backendapp.dto.response.brand.BrandDetailResponse;
+import com.kt.backendapp.dto.response.brand.BrandFilterResponse;
 import com.kt.backendapp.dto.response.brand.BrandListResponse;
-import com.kt.backendapp.dto.response.brand.CategoryResponse;
+import com.kt.backendapp.dto.response.brand.BrandSuggestionResponse;
+import com.kt.backendapp.dto.response.brand.RecommendedBrandResponse;
+import com.kt.backendapp.dto.response.brand.SimilarBrandResponse;
+import com.kt.backendapp.dto.response.brand.TrendingBrandResponse;
 import com.kt.backendapp.service.IPublicBrandService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/public")
@@ -19,18 +35,92 @@ import java.util.List;
 public class PublicBrandController {
     
     private final IPublicBrandService publicBrandService;
+    private final ResourceVersions resourceVersions;
+    private final SerializedResponseCache serializedResponseCache;
     
     /**
      * 공개 브랜드 목록 조회 (인증 불필요, 매니저인 경우 isManaged 필드 포함)
      * GET /api/v1/public/brands
+     * - Manager-Id 헤더가 없는 요청은 getAnonymousPublicBrands가 캐시된 본문으로 처리
      */
     @GetMapping("/brands")
     public ResponseEntity<ApiResponse<List<BrandListResponse>>> getPublicBrands(
-            @RequestHeader(value = "Manager-Id", required = false) Long managerId) {
+            @RequestHeader(value = "Manager-Id", required = false) Long managerId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = resourceVersions.catalogETag(managerId);
+        if (ConditionalRequests.isNotModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         log.info("=== 공개 브랜드 목록 조회 요청: Manager-Id 헤더={} ===", managerId);
         try {
             List<BrandListResponse> response = publicBrandService.getPublicBrands(managerId);
-            return ResponseEntity.ok(ApiResponse.success(response, "공개 브랜드 목록 조회가 완료되었습니다."));
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(response, "공개 브랜드 목록 조회가 완료되었습니다."));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
+        }
+    }
+    
+    /**
+     * 공개 브랜드 목록 조회 (비로그인 요청, Manager-Id 헤더가 없으면 이 핸들러로 처리)
+     * GET /api/public/brands
+     * - isManaged가 모두 false로 같으므로 카탈로그 버전별로 직렬화/압축해 둔 본문을 그대로 응답
+     */
+    @GetMapping(value = "/brands", headers = "!Manager-Id", params = {"!size", "!stream"})
+    public ResponseEntity<?> getAnonymousPublicBrands(
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+            @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
+        try {
+            return cachedResponse("brands", resourceVersions.catalogETag(null), ifNoneMatch, acceptEncoding,
+                () -> ApiResponse.success(publicBrandService.getPublicBrands(null), "공개 브랜드 목록 조회가 완료되었습니다."));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
+        }
+    }
+    
+    /**
+     * 공개 브랜드 목록 스트리밍 조회 (stream 파라미터가 있으면 이 핸들러로 처리)
+     * GET /api/public/brands?stream=true
+     * - 응답 형태는 일반 목록과 같고, 행을 하나씩 바로 써서 목록 크기와 무관하게 메모리 사용이 일정
+     */
+    @GetMapping(value = "/brands", params = {"stream", "!size"})
+    public ResponseEntity<StreamingResponseBody> streamPublicBrands(
+            @RequestHeader(value = "Manager-Id", required = false) Long managerId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = resourceVersions.catalogETag(managerId);
+        if (ConditionalRequests.isNotModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        log.info("=== 공개 브랜드 목록 스트리밍 요청: Manager-Id 헤더={} ===", managerId);
+        StreamingResponseBody body = out -> publicBrandService.writePublicBrands(managerId, out);
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+    
+    /**
+     * 공개 브랜드 목록 커서 페이지 조회 (size 파라미터가 있으면 이 핸들러로 처리)
+     * GET /api/public/brands?size={size}&sort={sort}&cursor={nextCursor}
+     */
+    @GetMapping(value = "/brands", params = "size")
+    public ResponseEntity<ApiResponse<PageResponse<BrandListResponse>>> getPublicBrandsPage(
+            @RequestParam int size,
+            @RequestParam(defaultValue = "NAME_ASC") SortOption sort,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = "Manager-Id", required = false) Long managerId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = resourceVersions.catalogETag(managerId);
+        if (ConditionalRequests.isNotModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        try {
+            PageResponse<BrandListResponse> response = publicBrandService.getPublicBrandsPage(managerId, sort, cursor, size);
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(response, "공개 브랜드 목록 조회가 완료되었습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_REQUEST", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                 .body(ApiResponse.error("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
@@ -42,10 +132,18 @@ public class PublicBrandController {
      * GET /api/v1/public/brands/{id}
      */
     @GetMapping("/brands/{id}")
-    public ResponseEntity<ApiResponse<BrandDetailResponse>> getPublicBrandDetail(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<BrandDetailResponse>> getPublicBrandDetail(
+            @PathVariable Long id,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = resourceVersions.brandETag(id);
+        if (ConditionalRequests.isNotModified(ifNoneMatch, etag)) {
+            // 본문은 생략해도 조회수는 집계 (메모리 누적만 하므로 DB 조회 없음)
+            publicBrandService.recordView(id);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         try {
             BrandDetailResponse response = publicBrandService.getPublicBrandDetail(id);
-            return ResponseEntity.ok(ApiResponse.success(response, "공개 브랜드 상세 조회가 완료되었습니다."));
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(response, "공개 브랜드 상세 조회가 완료되었습니다."));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                 .body(ApiResponse.error("INVALID_REQUEST", e.getMessage()));
@@ -62,10 +160,44 @@ public class PublicBrandController {
     @GetMapping("/brands/category/{categoryId}")
     public ResponseEntity<ApiResponse<List<BrandListResponse>>> getBrandsByCategory(
             @PathVariable Long categoryId,
-            @RequestHeader(value = "Manager-Id", required = false) Long managerId) {
+            @RequestHeader(value = "Manager-Id", required = false) Long managerId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = resourceVersions.catalogETag(managerId);
+        if (ConditionalRequests.isNotModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         try {
             List<BrandListResponse> response = publicBrandService.getBrandsByCategory(categoryId, managerId);
-            return ResponseEntity.ok(ApiResponse.success(response, "카테고리별 브랜드 목록 조회가 완료되었습니다."));
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(response, "카테고리별 브랜드 목록 조회가 완료되었습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_REQUEST", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
+        }
+    }
+    
+    /**
+     * 카테고리별 브랜드 목록 커서 페이지 조회
+     * GET /api/public/brands/category/{categoryId}?size={size}&sort={sort}&cursor={nextCursor}
+     */
+    @GetMapping(value = "/brands/category/{categoryId}", params = "size")
+    public ResponseEntity<ApiResponse<PageResponse<BrandListResponse>>> getBrandsByCategoryPage(
+            @PathVariable Long categoryId,
+            @RequestParam int size,
+            @RequestParam(defaultValue = "VIEW_COUNT_DESC") SortOption sort,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = "Manager-Id", required = false) Long managerId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = resourceVersions.catalogETag(managerId);
+        if (ConditionalRequests.isNotModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        try {
+            PageResponse<BrandListResponse> response =
+                publicBrandService.getBrandsByCategoryPage(categoryId, managerId, sort, cursor, size);
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(response, "카테고리별 브랜드 목록 조회가 완료되었습니다."));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                 .body(ApiResponse.error("INVALID_REQUEST", e.getMessage()));
@@ -82,10 +214,145 @@ public class PublicBrandController {
     @GetMapping("/brands/search")
     public ResponseEntity<ApiResponse<List<BrandListResponse>>> searchBrands(
             @RequestParam String keyword,
-            @RequestHeader(value = "Manager-Id", required = false) Long managerId) {
+            @RequestHeader(value = "Manager-Id", required = false) Long managerId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = resourceVersions.catalogETag(managerId);
+        if (ConditionalRequests.isNotModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         try {
             List<BrandListResponse> response = publicBrandService.searchBrands(keyword, managerId);
-            return ResponseEntity.ok(ApiResponse.success(response, "브랜드 검색이 완료되었습니다."));
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(response, "브랜드 검색이 완료되었습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_REQUEST", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
+        }
+    }
+    
+    /**
+     * 브랜드 검색 커서 페이지 조회
+     * GET /api/public/brands/search?keyword={keyword}&size={size}&sort={sort}&cursor={nextCursor}
+     */
+    @GetMapping(value = "/brands/search", params = "size")
+    public ResponseEntity<ApiResponse<PageResponse<BrandListResponse>>> searchBrandsPage(
+            @RequestParam String keyword,
+            @RequestParam int size,
+            @RequestParam(defaultValue = "VIEW_COUNT_DESC") SortOption sort,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = "Manager-Id", required = false) Long managerId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = resourceVersions.catalogETag(managerId);
+        if (ConditionalRequests.isNotModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        try {
+            PageResponse<BrandListResponse> response =
+                publicBrandService.searchBrandsPage(keyword, managerId, sort, cursor, size);
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(response, "브랜드 검색이 완료되었습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_REQUEST", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
+        }
+    }
+    
+    /**
+     * 브랜드 재무 지표 필터 (인증 불필요, 결과 페이지 + 패싯 개수)
+     * GET /api/public/brands/filter?categoryId=&minInitialCost=&maxInitialCost=&...&sort=&cursor=&size=
+     */
+    @GetMapping("/brands/filter")
+    public ResponseEntity<ApiResponse<BrandFilterResponse>> filterBrands(
+            @ModelAttribute BrandFilterRequest request,
+            @RequestHeader(value = "Manager-Id", required = false) Long managerId) {
+        try {
+            BrandFilterResponse response = publicBrandService.filterBrands(request, managerId);
+            return ResponseEntity.ok(ApiResponse.success(response, "브랜드 필터 조회가 완료되었습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_REQUEST", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
+        }
+    }
+    
+    /**
+     * 인기 급상승 브랜드 (인증 불필요, 최근 조회수 기준)
+     * GET /api/public/brands/trending?window=DAY|WEEK&categoryId={categoryId}&limit={limit}
+     */
+    @GetMapping("/brands/trending")
+    public ResponseEntity<ApiResponse<List<TrendingBrandResponse>>> getTrendingBrands(
+            @RequestParam(defaultValue = "DAY") TrendWindow window,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<TrendingBrandResponse> response = publicBrandService.getTrendingBrands(window, categoryId, limit);
+            return ResponseEntity.ok(ApiResponse.success(response, "인기 급상승 브랜드 조회가 완료되었습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_REQUEST", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
+        }
+    }
+    
+    /**
+     * 함께 찜한 브랜드 (인증 불필요, 이 브랜드를 찜한 사용자가 함께 찜한 브랜드)
+     * GET /api/public/brands/{id}/also-saved?limit={limit}
+     */
+    @GetMapping("/brands/{id}/also-saved")
+    public ResponseEntity<ApiResponse<List<RecommendedBrandResponse>>> getAlsoSavedBrands(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<RecommendedBrandResponse> response = publicBrandService.getAlsoSavedBrands(id, limit);
+            return ResponseEntity.ok(ApiResponse.success(response, "함께 찜한 브랜드 조회가 완료되었습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_REQUEST", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
+        }
+    }
+    
+    /**
+     * 재무 지표가 비슷한 브랜드 (인증 불필요, 카테고리 무관)
+     * GET /api/public/brands/{id}/similar?limit={limit}
+     */
+    @GetMapping("/brands/{id}/similar")
+    public ResponseEntity<ApiResponse<List<SimilarBrandResponse>>> getSimilarBrands(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<SimilarBrandResponse> response = publicBrandService.getSimilarBrands(id, limit);
+            return ResponseEntity.ok(ApiResponse.success(response, "비슷한 브랜드 조회가 완료되었습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_REQUEST", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
+        }
+    }
+    
+    /**
+     * 브랜드명 자동완성 (인증 불필요, 부분 음절/초성 입력 지원)
+     * GET /api/public/brands/autocomplete?keyword={keyword}&limit={limit}
+     */
+    @GetMapping("/brands/autocomplete")
+    public ResponseEntity<ApiResponse<List<BrandSuggestionResponse>>> autocompleteBrands(
+            @RequestParam(defaultValue = "") String keyword,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<BrandSuggestionResponse> response = publicBrandService.autocompleteBrands(keyword, limit);
+            return ResponseEntity.ok(ApiResponse.success(response, "브랜드 자동완성 조회가 완료되었습니다."));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                 .body(ApiResponse.error("INVALID_REQUEST", e.getMessage()));
@@ -98,15 +365,41 @@ public class PublicBrandController {
     /**
      * 카테고리 목록 조회 (인증 불필요)
      * GET /api/public/categories
+     * - 요청자와 무관하게 같은 응답이므로 버전별로 직렬화/압축해 둔 본문을 그대로 응답
      */
     @GetMapping("/categories")
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getCategories() {
+    public ResponseEntity<?> getCategories(
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+            @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
         try {
-            List<CategoryResponse> response = publicBrandService.getCategories();
-            return ResponseEntity.ok(ApiResponse.success(response, "카테고리 목록 조회가 완료되었습니다."));
+            return cachedResponse("categories", resourceVersions.categoriesETag(), ifNoneMatch, acceptEncoding,
+                () -> ApiResponse.success(publicBrandService.getCategories(), "카테고리 목록 조회가 완료되었습니다."));
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                 .body(ApiResponse.error("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
         }
     }
+    
+    // 직렬화된 본문 캐시로 응답 (gzip 허용 시 압축본, 표현마다 ETag를 구분)
+    private ResponseEntity<?> cachedResponse(String key, String etag, String ifNoneMatch, String acceptEncoding,
+                                             Supplier<?> body) {
+        boolean gzip = ConditionalRequests.acceptsGzip(acceptEncoding);
+        String representationTag = gzip ? etag.substring(0, etag.length() - 1) + "-gz\"" : etag;
+        if (ConditionalRequests.isNotModified(ifNoneMatch, representationTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(representationTag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .build();
+        }
+        
+        SerializedResponseCache.Body cached = serializedResponseCache.get(key, etag, body);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .eTag(representationTag)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+            .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.gzip());
+        }
+        return response.body(cached.identity());
+    }
 }
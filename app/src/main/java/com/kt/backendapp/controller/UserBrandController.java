@@ -1,6 +1,8 @@
 package com.kt.backendapp.controller;
 
 import com.kt.backendapp.dto.common.ApiResponse;
+import com.kt.backendapp.dto.common.PageResponse;
+import com.kt.backendapp.dto.common.SortOption;
 import com.kt.backendapp.dto.response.brand.BrandDetailResponse;
 import com.kt.backendapp.dto.response.brand.BrandListResponse;
 import com.kt.backendapp.service.IUserBrandService;
@@ -39,6 +41,28 @@ public class UserBrandController {
         }
     }
     
+    /**
+     * 유저용 브랜드 목록 커서 페이지 조회 (User-Id 헤더 필요)
+     * GET /api/user/brands?size={size}&sort={sort}&cursor={nextCursor}
+     */
+    @GetMapping(value = "/brands", params = "size")
+    public ResponseEntity<ApiResponse<PageResponse<BrandListResponse>>> getUserBrandsPage(
+            @RequestHeader("User-Id") Long userId,
+            @RequestParam int size,
+            @RequestParam(defaultValue = "NAME_ASC") SortOption sort,
+            @RequestParam(required = false) String cursor) {
+        try {
+            PageResponse<BrandListResponse> response = userBrandService.getUserBrandsPage(userId, sort, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(response, "유저용 브랜드 목록 조회가 완료되었습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_REQUEST", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
+        }
+    }
+    
     /**
      * 사용자의 찜한 브랜드 목록 조회 (User-Id 헤더 필요)
      * GET /api/user/brands/saved
@@ -6,6 +6,7 @@ import com.kt.backendapp.dto.request.consultation.ConsultationCreateRequest;
 import com.kt.backendapp.dto.request.consultation.ConsultationUserResponseRequest;
 import com.kt.backendapp.dto.response.consultation.ConsultationResponse;
 import com.kt.backendapp.service.IConsultationService;
+import com.kt.backendapp.util.CreatedAtCursor;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -57,23 +58,54 @@ public class UserConsultationController {
     }
     
     /**
-     * 사용자의 상담 목록 조회
+     * 사용자의 상담 목록 조회 (첫 페이지, 전체 개수 포함)
+     * - 다음 페이지는 응답의 nextCursor로 커서 조회 사용 (OFFSET/COUNT 없이 조회)
+     * - page는 0만 허용 (1 이상이면 400)
      */
-    @GetMapping
+    @GetMapping(params = "!cursor")
     public ResponseEntity<ApiResponse<PageResponse<ConsultationResponse>>> getUserConsultations(
             @RequestHeader("User-Id") Long userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sort,
             @RequestParam(defaultValue = "desc") String direction) {
-        
-        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
-        
-        Page<ConsultationResponse> consultations = consultationService.getUserConsultations(userId, pageable);
-        PageResponse<ConsultationResponse> pageResponse = PageResponse.of(consultations);
-        
-        return ResponseEntity.ok(ApiResponse.success(pageResponse, "상담 목록을 조회했습니다."));
+        try {
+            // 첫 페이지만 OFFSET 없이 조회, 이후는 nextCursor로
+            CreatedAtCursor.validateFirstPage(page);
+            Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+            Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
+            
+            Page<ConsultationResponse> consultations = consultationService.getUserConsultations(userId, pageable);
+            PageResponse<ConsultationResponse> pageResponse = PageResponse.of(consultations,
+                c -> CreatedAtCursor.encode(c.getCreatedAt(), c.getConsultationId()));
+            
+            return ResponseEntity.ok(ApiResponse.success(pageResponse, "상담 목록을 조회했습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_PARAMETER", e.getMessage()));
+        }
+    }
+    
+    /**
+     * 사용자의 상담 목록 커서 조회 (최신순, 전체 개수 없이 다음 묶음만 조회)
+     * GET /api/user/consultations?cursor={nextCursor}&size={size}
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<PageResponse<ConsultationResponse>>> getUserConsultationsAfter(
+            @RequestHeader("User-Id") Long userId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            PageResponse<ConsultationResponse> response = consultationService.getUserConsultationsAfter(userId, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(response, "상담 목록을 조회했습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("INVALID_PARAMETER", e.getMessage()));
+        } catch (Exception e) {
+            log.error("상담 목록 커서 조회 중 오류 발생 - 사용자ID: {}", userId, e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("INTERNAL_ERROR", "상담 목록 조회 중 오류가 발생했습니다."));
+        }
     }
     
     /**
@@ -5,8 +5,10 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.Function;
 
 @Data
 @NoArgsConstructor
@@ -15,16 +17,17 @@ import java.util.List;
 public class PageResponse<T> {
     private List<T> content;
     private PageInfo pageInfo;
+    private String nextCursor;      // 다음 페이지 커서 (커서 방식 조회에서만 사용, 마지막 페이지면 null)
     
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
     public static class PageInfo {
-        private int page;          // 현재 페이지 (0부터 시작)
+        private int page;          // 현재 페이지 (0부터 시작, 슬라이스 조회에서는 -1)
         private int size;          // 페이지 크기
-        private long totalElements; // 전체 요소 수
-        private int totalPages;    // 전체 페이지 수
+        private long totalElements; // 전체 요소 수 (슬라이스 조회에서는 집계하지 않으므로 -1)
+        private int totalPages;    // 전체 페이지 수 (슬라이스 조회에서는 -1)
         private boolean first;     // 첫 번째 페이지 여부
         private boolean last;      // 마지막 페이지 여부
         private boolean hasNext;   // 다음 페이지 존재 여부
@@ -64,4 +67,54 @@ public class PageResponse<T> {
                 .build())
             .build();
     }
+    
+    // 페이지 조회 결과에 다음 페이지 커서를 붙여 생성 (다음 페이지가 있으면 마지막 항목으로 커서 생성)
+    public static <T> PageResponse<T> of(Page<T> page, Function<T, String> cursorOf) {
+        PageResponse<T> response = of(page);
+        if (page.hasNext() && page.hasContent()) {
+            List<T> content = page.getContent();
+            response.setNextCursor(cursorOf.apply(content.get(content.size() - 1)));
+        }
+        return response;
+    }
+    
+    // 슬라이스(keyset, COUNT 없음) 조회 결과로 PageResponse 생성
+    public static <T> PageResponse<T> ofSlice(Slice<T> slice, Function<T, String> cursorOf) {
+        List<T> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+            ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return PageResponse.<T>builder()
+            .content(content)
+            .pageInfo(PageInfo.builder()
+                .page(-1)
+                .size(slice.getSize())
+                .totalElements(-1)
+                .totalPages(-1)
+                .first(false)
+                .last(nextCursor == null)
+                .hasNext(nextCursor != null)
+                .hasPrevious(true)
+                .build())
+            .nextCursor(nextCursor)
+            .build();
+    }
+    
+    // 커서(keyset) 방식 조회 결과로 PageResponse 생성
+    public static <T> PageResponse<T> ofCursor(List<T> content, int offset, int size, long totalElements, String nextCursor) {
+        int totalPages = (int) ((totalElements + size - 1) / size);
+        return PageResponse.<T>builder()
+            .content(content)
+            .pageInfo(PageInfo.builder()
+                .page(offset / size)
+                .size(size)
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .first(offset == 0)
+                .last(nextCursor == null)
+                .hasNext(nextCursor != null)
+                .hasPrevious(offset > 0)
+                .build())
+            .nextCursor(nextCursor)
+            .build();
+    }
 }
\ No newline at end of file
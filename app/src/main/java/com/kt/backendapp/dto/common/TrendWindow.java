@@ -0,0 +1,11 @@
+package com.kt.backendapp.dto.common;
+
+/**
+ * 인기 급상승 집계 구간
+ * - DAY: 최근 24시간 (시간 단위 구간, 반감기 6시간)
+ * - WEEK: 최근 7일 (일 단위 구간, 반감기 2일)
+ */
+public enum TrendWindow {
+    DAY,
+    WEEK
+}
@@ -0,0 +1,35 @@
+package com.kt.backendapp.dto.request.brand;
+
+import com.kt.backendapp.dto.common.SortOption;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 브랜드 필터 조건 (쿼리 파라미터 바인딩용)
+ * - 범위 조건은 min/max 중 하나만 지정해도 되며 양 끝을 포함
+ */
+@Data
+@NoArgsConstructor
+public class BrandFilterRequest {
+    
+    private Long categoryId;
+    
+    private BigDecimal minInitialCost;
+    private BigDecimal maxInitialCost;
+    
+    private BigDecimal minTotalInvestment;
+    private BigDecimal maxTotalInvestment;
+    
+    private BigDecimal minAvgMonthlyRevenue;
+    private BigDecimal maxAvgMonthlyRevenue;
+    
+    private Integer minStoreCount;
+    private Integer maxStoreCount;
+    
+    // 결과 페이지 (커서 방식)
+    private SortOption sort = SortOption.VIEW_COUNT_DESC;
+    private String cursor;
+    private int size = 20;
+}
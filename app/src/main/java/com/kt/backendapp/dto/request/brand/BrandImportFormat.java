@@ -0,0 +1,9 @@
+package com.kt.backendapp.dto.request.brand;
+
+/**
+ * 브랜드 일괄 등록 입력 형식
+ */
+public enum BrandImportFormat {
+    CSV,        // 첫 줄은 헤더 (brandName, categoryId, initialCost, totalInvestment, avgMonthlyRevenue, storeCount, brandDescription)
+    NDJSON      // 한 줄에 BrandCreateRequest JSON 객체 하나
+}
@@ -0,0 +1,54 @@
+package com.kt.backendapp.dto.response.brand;
+
+import com.kt.backendapp.catalog.BrandMetric;
+import com.kt.backendapp.dto.common.PageResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 브랜드 필터 결과 (결과 페이지 + 패싯 개수)
+ * - 각 패싯의 개수는 그 패싯 자신의 조건을 뺀 나머지 조건 기준 (선택을 바꿨을 때의 결과 수)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrandFilterResponse {
+    private PageResponse<BrandListResponse> brands;
+    private List<MetricFacet> metricFacets;
+    private List<CategoryFacet> categoryFacets;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class MetricFacet {
+        private BrandMetric metric;
+        private List<Bucket> buckets;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Bucket {
+        private BigDecimal from;        // 구간 시작 (포함)
+        private BigDecimal to;          // 구간 끝 (마지막 구간만 포함)
+        private long count;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CategoryFacet {
+        private Long categoryId;
+        private String categoryName;
+        private long count;
+    }
+}
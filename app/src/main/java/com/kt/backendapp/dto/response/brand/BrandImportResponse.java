@@ -0,0 +1,30 @@
+package com.kt.backendapp.dto.response.brand;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrandImportResponse {
+    private int totalRows;              // 읽은 데이터 행 수 (CSV 헤더 제외)
+    private int importedCount;          // 등록된 브랜드 수
+    private int failedCount;            // 실패한 행 수
+    private boolean errorsTruncated;    // 실패 행이 많아 errors에 일부만 담겼는지
+    private List<RowError> errors;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowError {
+        private long rowNumber;         // CSV는 헤더를 1행으로 센 행 번호, NDJSON은 줄 번호
+        private String brandName;
+        private String message;
+    }
+}
@@ -1,5 +1,6 @@
 package com.kt.backendapp.dto.response.brand;
 
+import com.kt.backendapp.catalog.BrandCatalogEntry;
 import com.kt.backendapp.entity.Brand;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -63,4 +64,26 @@ public class BrandListResponse {
         response.setManaged(isManaged);
         return response;
     }
+    
+    // 카탈로그 항목 → DTO 변환 메소드 (찜 상태와 관리 여부는 요청마다 적용)
+    public static BrandListResponse from(BrandCatalogEntry entry, boolean isSaved, boolean isManaged) {
+        if (entry == null) {
+            return null;
+        }
+        
+        return BrandListResponse.builder()
+            .brandId(entry.getBrandId())
+            .brandName(entry.getBrandName())
+            .categoryName(entry.getCategoryName())
+            .viewCount(entry.getViewCount())
+            .saveCount(entry.getSaveCount())
+            .initialCost(entry.getInitialCost())
+            .avgMonthlyRevenue(entry.getAvgMonthlyRevenue())
+            .storeCount(entry.getStoreCount())
+            .brandDescription(entry.getBrandDescription())
+            .managerName(entry.getManagerName())
+            .isSaved(isSaved)
+            .isManaged(isManaged)
+            .build();
+    }
 }
@@ -1,7 +1,7 @@
 package com.kt.backendapp.dto.response.brand;
 
 import com.kt.backendapp.entity.BrandManager;
-import com.kt.backendapp.entity.Brand;
+import com.kt.backendapp.catalog.BrandCatalogEntry;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -45,13 +45,12 @@ public class BrandManagerResponse {
     }
     
     // 관리 브랜드 리스트 포함 변환 메소드
-    public static BrandManagerResponse from(BrandManager manager, List<Brand> managedBrands) {
+    public static BrandManagerResponse from(BrandManager manager, List<BrandCatalogEntry> managedBrands) {
         List<ManagedBrand> brandInfoList = managedBrands.stream()
             .map(brand -> ManagedBrand.builder()
                 .brandId(brand.getBrandId())
                 .brandName(brand.getBrandName())
-                .categoryName(brand.getCategory() != null ? 
-                    brand.getCategory().getCategoryName() : null)
+                .categoryName(brand.getCategoryId() != null ? brand.getCategoryName() : null)
                 .build())
             .collect(Collectors.toList());
         
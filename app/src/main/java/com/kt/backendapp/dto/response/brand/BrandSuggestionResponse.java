@@ -0,0 +1,28 @@
+package com.kt.backendapp.dto.response.brand;
+
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrandSuggestionResponse {
+    private Long brandId;
+    private String brandName;
+    private String categoryName;
+    private Long viewCount;         // 인기도 (정렬 기준)
+    
+    // 카탈로그 항목 → DTO 변환 메소드
+    public static BrandSuggestionResponse from(BrandCatalogEntry entry) {
+        return BrandSuggestionResponse.builder()
+            .brandId(entry.getBrandId())
+            .brandName(entry.getBrandName())
+            .categoryName(entry.getCategoryName())
+            .viewCount(entry.getViewCount())
+            .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.kt.backendapp.dto.response.brand;
+
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import com.kt.backendapp.recommend.CoSaveRecommender;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecommendedBrandResponse {
+    private Long brandId;
+    private String brandName;
+    private String categoryName;
+    private double similarity;      // 함께 찜한 비율 기반 코사인 유사도 (0~1, 정렬 기준)
+    private int coSaveCount;        // 두 브랜드를 모두 찜한 사용자 수
+    
+    // 이웃 항목 + 카탈로그 항목 → DTO 변환 메소드
+    public static RecommendedBrandResponse from(CoSaveRecommender.Neighbour neighbour, BrandCatalogEntry entry) {
+        return RecommendedBrandResponse.builder()
+            .brandId(entry.getBrandId())
+            .brandName(entry.getBrandName())
+            .categoryName(entry.getCategoryName())
+            .similarity(Math.round(neighbour.similarity() * 1000) / 1000.0)
+            .coSaveCount(neighbour.coSaves())
+            .build();
+    }
+}
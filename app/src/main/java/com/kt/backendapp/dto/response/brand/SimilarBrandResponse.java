@@ -0,0 +1,38 @@
+package com.kt.backendapp.dto.response.brand;
+
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimilarBrandResponse {
+    private Long brandId;
+    private String brandName;
+    private String categoryName;
+    private BigDecimal initialCost;
+    private BigDecimal totalInvestment;
+    private BigDecimal avgMonthlyRevenue;
+    private Integer storeCount;
+    private double distance;        // 재무 지표 표준화 공간에서의 거리 (작을수록 비슷함, 정렬 기준)
+    
+    // 카탈로그 항목 → DTO 변환 메소드
+    public static SimilarBrandResponse from(BrandCatalogEntry entry, double distance) {
+        return SimilarBrandResponse.builder()
+            .brandId(entry.getBrandId())
+            .brandName(entry.getBrandName())
+            .categoryName(entry.getCategoryName())
+            .initialCost(entry.getInitialCost())
+            .totalInvestment(entry.getTotalInvestment())
+            .avgMonthlyRevenue(entry.getAvgMonthlyRevenue())
+            .storeCount(entry.getStoreCount())
+            .distance(Math.round(distance * 1000) / 1000.0)
+            .build();
+    }
+}
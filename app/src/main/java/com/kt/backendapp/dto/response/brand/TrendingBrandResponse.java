@@ -0,0 +1,32 @@
+package com.kt.backendapp.dto.response.brand;
+
+import com.kt.backendapp.catalog.BrandTrendCounter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendingBrandResponse {
+    private Long brandId;
+    private String brandName;
+    private String categoryName;
+    private Long viewCount;         // 누적 조회수
+    private long recentViews;       // 집계 구간 내 조회수
+    private double trendScore;      // 최근 구간일수록 가중치가 큰 감쇠 점수 (정렬 기준)
+    
+    // 순위 항목 → DTO 변환 메소드
+    public static TrendingBrandResponse from(BrandTrendCounter.Trend trend) {
+        return TrendingBrandResponse.builder()
+            .brandId(trend.entry().getBrandId())
+            .brandName(trend.entry().getBrandName())
+            .categoryName(trend.entry().getCategoryName())
+            .viewCount(trend.entry().getViewCount())
+            .recentViews(trend.recentViews())
+            .trendScore(Math.round(trend.score() * 100) / 100.0)
+            .build();
+    }
+}
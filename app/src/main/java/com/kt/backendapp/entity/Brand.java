@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 @Builder
 public class Brand {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "brand_brand_id_gen")
+    @SequenceGenerator(name = "brand_brand_id_gen", sequenceName = "brand_brand_id_seq", allocationSize = 50)
     @Column(name = "brand_id")
     private Long brandId;
     
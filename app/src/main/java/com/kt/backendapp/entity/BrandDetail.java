@@ -16,7 +16,8 @@ import java.math.BigDecimal;
 @Builder
 public class BrandDetail {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "brand_detail_detail_id_gen")
+    @SequenceGenerator(name = "brand_detail_detail_id_gen", sequenceName = "brand_detail_detail_id_seq", allocationSize = 50)
     @Column(name = "detail_id")
     private Long detailId;
     
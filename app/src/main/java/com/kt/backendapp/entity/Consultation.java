@@ -18,7 +18,8 @@ import java.time.LocalTime;
 @Builder
 public class Consultation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "consultation_consultation_id_gen")
+    @SequenceGenerator(name = "consultation_consultation_id_gen", sequenceName = "consultation_consultation_id_seq", allocationSize = 50)
     @Column(name = "consultation_id")
     private Long consultationId;
     
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @Builder
 public class Notification {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_notification_id_gen")
+    @SequenceGenerator(name = "notification_notification_id_gen", sequenceName = "notification_notification_id_seq", allocationSize = 50)
     @Column(name = "notification_id")
     private Long notificationId;
     
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @Builder
 public class SavedBrand {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saved_brand_save_id_gen")
+    @SequenceGenerator(name = "saved_brand_save_id_gen", sequenceName = "saved_brand_save_id_seq", allocationSize = 50)
     @Column(name = "save_id")
     private Long saveId;
     
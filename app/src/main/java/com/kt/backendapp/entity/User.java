@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 @Builder
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_user_id_gen")
+    @SequenceGenerator(name = "users_user_id_gen", sequenceName = "users_user_id_seq", allocationSize = 50)
     @Column(name = "user_id")
     private Long userId;
     
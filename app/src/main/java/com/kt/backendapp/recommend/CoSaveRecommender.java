@@ -0,0 +1,304 @@
+package com.kt.backendapp.recommend;
+
+import com.kt.backendapp.catalog.BrandSaveToggledEvent;
+import com.kt.backendapp.repository.SavedBrandRepository;
+import com.kt.backendapp.util.LongHashSet;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 함께 찜한 브랜드 추천 (아이템 간 코사인 유사도)
+ * - 유사도(a, b) = 두 브랜드를 모두 찜한 사용자 수 / sqrt(a 찜 사용자 수 × b 찜 사용자 수)
+ * - 브랜드별 상위 MAX_NEIGHBOURS개 이웃만 저장하는 희소 이웃 테이블을 유지하고 조회는 맵 조회 한 번
+ * - 전체 재계산은 백그라운드에서 주기적으로 실행 (찜 목록 한 번 조회 → 브랜드 단위로 fork/join 병렬 계산)
+ * - 찜/찜해제는 커밋 후 이벤트로 받아 영향받은 브랜드의 이웃 목록만 다시 계산
+ *   (해당 브랜드, 그 사용자가 찜한 브랜드, 해당 브랜드의 현재 이웃)
+ * - 계산은 요청 스레드가 아닌 전용 스레드에서 실행 (증분: 단일 스레드로 이벤트 순서 유지, 전체: 전용 fork/join 풀)
+ * - 스레드 풀은 빈으로 등록하지 않고 내부에서 생성 (Executor 빈이 생기면 Boot 기본 applicationTaskExecutor가 만들어지지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CoSaveRecommender {
+
+    public static final int MAX_NEIGHBOURS = 20;
+
+    private final SavedBrandRepository savedBrandRepository;
+
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean();
+
+    // 찜/찜해제 증분 반영 (커밋한 요청 스레드는 작업을 넘기기만 함)
+    private final ExecutorService updateExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "co-save-update");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 전체 재계산 전용 (공용 commonPool을 쓰는 다른 병렬 작업과 CPU를 나눠 쓰지 않도록 분리)
+    private final ForkJoinPool rebuildPool = new ForkJoinPool(
+        Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+        pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("co-save-rebuild-" + thread.getPoolIndex());
+            return thread;
+        },
+        null, false);
+
+    // 아래 필드의 쓰기는 모두 synchronized (this) 안에서만
+    private Map<Long, LongHashSet> saversByBrand = new HashMap<>();
+    private Map<Long, LongHashSet> brandsByUser = new HashMap<>();
+    private final List<BrandSaveToggledEvent> pendingDuringRebuild = new ArrayList<>();
+    private boolean rebuilding;
+    private boolean loaded;
+
+    private volatile Map<Long, List<Neighbour>> neighbours = new ConcurrentHashMap<>();
+
+    /**
+     * 이웃 브랜드 하나 (유사도 내림차순으로 저장)
+     */
+    public record Neighbour(long brandId, double similarity, int coSaves) {
+    }
+
+    /**
+     * 함께 찜한 브랜드 목록 (아직 계산 전이거나 찜한 사용자가 없으면 빈 목록)
+     */
+    public List<Neighbour> neighbours(Long brandId) {
+        return neighbours.getOrDefault(brandId, List.of());
+    }
+
+    /**
+     * 주기적 전체 재계산 (스케줄러 스레드는 작업을 넘기기만 하고 바로 반환)
+     */
+    @Scheduled(initialDelayString = "${app.recommend.initial-delay-ms:10000}",
+               fixedDelayString = "${app.recommend.rebuild-interval-ms:3600000}")
+    public void scheduleRebuild() {
+        if (rebuildRunning.compareAndSet(false, true)) {
+            try {
+                rebuildPool.execute(() -> {
+                    try {
+                        rebuild();
+                    } finally {
+                        rebuildRunning.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                rebuildRunning.set(false);
+                log.warn("함께 찜한 브랜드 재계산 작업을 시작하지 못했습니다: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 찜 목록 전체로 이웃 테이블 재계산
+     * - 재계산 중 들어온 찜 이벤트는 따로 모아 두었다가 교체 직후 다시 적용 (집합 추가/삭제라 중복 적용해도 결과 동일)
+     */
+    public void rebuild() {
+        synchronized (this) {
+            rebuilding = true;
+            pendingDuringRebuild.clear();
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+            Map<Long, LongHashSet> savers = new HashMap<>();
+            Map<Long, LongHashSet> saved = new HashMap<>();
+            for (Object[] row : savedBrandRepository.findAllUserBrandPairs()) {
+                long userId = (Long) row[0];
+                long brandId = (Long) row[1];
+                savers.computeIfAbsent(brandId, id -> new LongHashSet()).add(userId);
+                saved.computeIfAbsent(userId, id -> new LongHashSet()).add(brandId);
+            }
+
+            long[] brandIds = savers.keySet().stream().mapToLong(Long::longValue).toArray();
+            Map<Long, List<Neighbour>> rows = new ConcurrentHashMap<>(Math.max(16, brandIds.length * 2));
+            rebuildPool.invoke(new RowTask(brandIds, 0, brandIds.length, savers, saved, rows));
+
+            synchronized (this) {
+                saversByBrand = savers;
+                brandsByUser = saved;
+                neighbours = rows;
+                Set<Long> dirty = new HashSet<>();
+                for (BrandSaveToggledEvent event : pendingDuringRebuild) {
+                    dirty.addAll(apply(event));
+                }
+                recompute(dirty);
+                pendingDuringRebuild.clear();
+                rebuilding = false;
+                loaded = true;
+            }
+            log.info("함께 찜한 브랜드 이웃 테이블 재계산 완료: 브랜드 수={}, 사용자 수={}, 소요시간={}ms",
+                brandIds.length, saved.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("함께 찜한 브랜드 이웃 테이블 재계산 실패: {}", e.getMessage(), e);
+            synchronized (this) {
+                pendingDuringRebuild.clear();
+                rebuilding = false;
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBrandSaveToggled(BrandSaveToggledEvent event) {
+        try {
+            updateExecutor.execute(() -> applyToggle(event));
+        } catch (RejectedExecutionException e) {
+            // 종료 중: 다음 기동 시 전체 재계산이 DB 상태를 읽으므로 무시
+            log.warn("찜 변경 반영 작업을 넘기지 못했습니다: brandId={}, {}", event.getBrandId(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updateExecutor.shutdownNow();
+        rebuildPool.shutdownNow();
+    }
+
+    private synchronized void applyToggle(BrandSaveToggledEvent event) {
+        if (rebuilding) {
+            pendingDuringRebuild.add(event);
+        }
+        // 첫 재계산 전이면 재계산이 DB에서 반영된 상태를 읽으므로 건너뜀
+        if (!loaded) {
+            return;
+        }
+        recompute(apply(event));
+    }
+
+    // 찜 집합 갱신 후 이웃 목록을 다시 계산해야 하는 브랜드 반환
+    private Set<Long> apply(BrandSaveToggledEvent event) {
+        long userId = event.getUserId();
+        long brandId = event.getBrandId();
+        LongHashSet userBrands = brandsByUser.computeIfAbsent(userId, id -> new LongHashSet());
+        LongHashSet brandSavers = saversByBrand.computeIfAbsent(brandId, id -> new LongHashSet());
+        if (event.isSaved()) {
+            userBrands.add(brandId);
+            brandSavers.add(userId);
+        } else {
+            userBrands.remove(brandId);
+            brandSavers.remove(userId);
+        }
+
+        Set<Long> dirty = new HashSet<>();
+        dirty.add(brandId);
+        for (long other : userBrands.toArray()) {
+            dirty.add(other);
+        }
+        for (Neighbour neighbour : neighbours(brandId)) {
+            dirty.add(neighbour.brandId());
+        }
+
+        if (userBrands.isEmpty()) {
+            brandsByUser.remove(userId);
+        }
+        if (brandSavers.isEmpty()) {
+            saversByBrand.remove(brandId);
+        }
+        return dirty;
+    }
+
+    private void recompute(Set<Long> brandIds) {
+        for (Long brandId : brandIds) {
+            List<Neighbour> row = computeRow(brandId, saversByBrand, brandsByUser);
+            if (row.isEmpty()) {
+                neighbours.remove(brandId);
+            } else {
+                neighbours.put(brandId, row);
+            }
+        }
+    }
+
+    private static List<Neighbour> computeRow(long brandId, Map<Long, LongHashSet> saversByBrand,
+                                              Map<Long, LongHashSet> brandsByUser) {
+        LongHashSet savers = saversByBrand.get(brandId);
+        if (savers == null || savers.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> coSaves = new HashMap<>();
+        for (long userId : savers.toArray()) {
+            LongHashSet userBrands = brandsByUser.get(userId);
+            if (userBrands == null) {
+                continue;
+            }
+            for (long other : userBrands.toArray()) {
+                if (other != brandId) {
+                    coSaves.merge(other, 1, Integer::sum);
+                }
+            }
+        }
+
+        List<Neighbour> row = new ArrayList<>(coSaves.size());
+        coSaves.forEach((other, count) -> {
+            LongHashSet otherSavers = saversByBrand.get(other);
+            int otherCount = otherSavers != null ? otherSavers.size() : 0;
+            if (otherCount > 0) {
+                row.add(new Neighbour(other, count / Math.sqrt((double) savers.size() * otherCount), count));
+            }
+        });
+        row.sort(Comparator.comparingDouble(Neighbour::similarity).reversed()
+            .thenComparing(Comparator.comparingInt(Neighbour::coSaves).reversed())
+            .thenComparingLong(Neighbour::brandId));
+        return List.copyOf(row.subList(0, Math.min(MAX_NEIGHBOURS, row.size())));
+    }
+
+    /**
+     * 브랜드 구간을 반씩 나눠 병렬로 이웃 목록 계산 (입력 맵은 계산 중 변경되지 않음)
+     */
+    private static final class RowTask extends RecursiveAction {
+        private static final int THRESHOLD = 64;
+
+        private final long[] brandIds;
+        private final int from;
+        private final int to;
+        private final Map<Long, LongHashSet> saversByBrand;
+        private final Map<Long, LongHashSet> brandsByUser;
+        private final Map<Long, List<Neighbour>> rows;
+
+        RowTask(long[] brandIds, int from, int to, Map<Long, LongHashSet> saversByBrand,
+                Map<Long, LongHashSet> brandsByUser, Map<Long, List<Neighbour>> rows) {
+            this.brandIds = brandIds;
+            this.from = from;
+            this.to = to;
+            this.saversByBrand = saversByBrand;
+            this.brandsByUser = brandsByUser;
+            this.rows = rows;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    List<Neighbour> row = computeRow(brandIds[i], saversByBrand, brandsByUser);
+                    if (!row.isEmpty()) {
+                        rows.put(brandIds[i], row);
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RowTask(brandIds, from, middle, saversByBrand, brandsByUser, rows),
+                      new RowTask(brandIds, middle, to, saversByBrand, brandsByUser, rows));
+        }
+    }
+}
@@ -11,15 +11,15 @@ import java.math.BigDecimal;
 import java.util.Optional;
 
 @Repository
-public interface BrandDetailRepository extends JpaRepository<BrandDetail, Long> {
+public interface BrandDetailRepository extends JpaRepository<BrandDetail, Long>, BrandDetailRepositoryCustom {
     /**
      * 브랜드 ID로 브랜드 상세 정보 조회
      */
     Optional<BrandDetail> findByBrandBrandId(Long brandId);
     
     /**
-     * 브랜드 조회수 증가
-     * - 브랜드 상세 페이지 조회 시 호출
+     * 브랜드 조회수 증가 (단건)
+     * - 일반 조회 경로는 ViewCountService의 write-behind 버퍼 + addViewCounts 일괄 반영 사용
      * - 동시성 문제 방지를 위해 UPDATE 쿼리 사용
      * - null 안전성을 위해 COALESCE 사용
      */
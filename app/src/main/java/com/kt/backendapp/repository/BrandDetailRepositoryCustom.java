@@ -0,0 +1,16 @@
+package com.kt.backendapp.repository;
+
+import java.util.Map;
+
+/**
+ * BrandDetail 커스텀 쿼리 (JDBC 직접 사용)
+ */
+public interface BrandDetailRepositoryCustom {
+    
+    /**
+     * 여러 브랜드의 조회수를 한 번의 UPDATE로 증가
+     * - key: 브랜드 ID, value: 증가시킬 조회수
+     * - 반환값: 갱신된 행 수
+     */
+    int addViewCounts(Map<Long, Long> deltas);
+}
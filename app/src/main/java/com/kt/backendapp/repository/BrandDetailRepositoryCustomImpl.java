@@ -0,0 +1,49 @@
+package com.kt.backendapp.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class BrandDetailRepositoryCustomImpl implements BrandDetailRepositoryCustom {
+    
+    /**
+     * unnest로 (brand_id, delta) 배열을 펼쳐 다중 행을 한 문장으로 갱신
+     * - 브랜드 수와 관계없이 한 번의 왕복으로 처리
+     */
+    private static final String ADD_VIEW_COUNTS_SQL =
+        "UPDATE brand_detail bd " +
+        "SET view_count = COALESCE(bd.view_count, 0) + v.delta " +
+        "FROM unnest(?::bigint[], ?::bigint[]) AS v(brand_id, delta) " +
+        "WHERE bd.brand_id = v.brand_id";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public int addViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        
+        Long[] brandIds = new Long[deltas.size()];
+        Long[] counts = new Long[deltas.size()];
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            brandIds[i] = entry.getKey();
+            counts[i] = entry.getValue();
+            i++;
+        }
+        
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(ADD_VIEW_COUNTS_SQL);
+            Array idArray = connection.createArrayOf("bigint", brandIds);
+            Array deltaArray = connection.createArrayOf("bigint", counts);
+            ps.setArray(1, idArray);
+            ps.setArray(2, deltaArray);
+            return ps;
+        });
+    }
+}
@@ -1,16 +1,19 @@
 package com.kt.backendapp.repository;
 
+import com.kt.backendapp.catalog.BrandCatalogEntry;
 import com.kt.backendapp.entity.Brand;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import com.kt.backendapp.entity.BrandCategory;
 
 @Repository
-public interface BrandRepository extends JpaRepository<Brand, Long> {
+public interface BrandRepository extends JpaRepository<Brand, Long>, BrandRepositoryCustom {
     
     /**
      * 브랜드 상세 조회 (기본 정보만)
@@ -20,27 +23,29 @@ public interface BrandRepository extends JpaRepository<Brand, Long> {
     // findById는 JpaRepository에서 기본 제공하므로 별도 메서드 불필요
     
     /**
-     * 전체 브랜드 목록 조회 (연관 엔티티 포함)
-     * - 모든 브랜드를 상세 정보와 함께 조회
-     * - LEFT JOIN FETCH로 N+1 문제 방지
+     * 브랜드 조회 (카테고리, 상세정보 함께)
+     * - 상담 신청 응답의 카테고리명을 위해 카테고리를 같은 SELECT에서 조인 (지연 로딩 쿼리가 따로 나가지 않음)
+     * - 상세정보는 역방향 OneToOne이라 지연 로딩되지 않으므로 함께 조인해 추가 SELECT를 막음
      */
-    @Query("SELECT b FROM Brand b " +
-           "LEFT JOIN FETCH b.details d " +
-           "LEFT JOIN FETCH b.category c " +
-           "LEFT JOIN FETCH b.manager m " +
-           "ORDER BY b.brandName ASC")
-    List<Brand> findAllWithDetails();
+    @EntityGraph(attributePaths = {"category", "details"})
+    Optional<Brand> findWithCategoryByBrandId(Long brandId);
     
     /**
-     * 관련 브랜드 조회 (같은 카테고리, 현재 브랜드 제외)
-     * - 같은 카테고리 내에서 현재 브랜드를 제외한 다른 브랜드들
-     * - 조회수 높은 순으로 정렬
+     * 전체 브랜드 목록 조회 (카탈로그 항목 프로젝션)
+     * - 목록에 필요한 컬럼만 생성자 프로젝션으로 조회 (엔티티/프록시/변경감지 스냅샷 없음)
+     * - 카탈로그 전체 적재용
      */
-    @Query("SELECT b FROM Brand b LEFT JOIN FETCH b.details d LEFT JOIN FETCH b.category c " +
-           "WHERE c.categoryId = :categoryId AND b.brandId != :excludeBrandId " +
-           "ORDER BY d.viewCount DESC")
-    List<Brand> findRelatedBrands(@Param("categoryId") Long categoryId, 
-                                 @Param("excludeBrandId") Long excludeBrandId);
+    @Query("SELECT new com.kt.backendapp.catalog.BrandCatalogEntry(" +
+           "b.brandId, b.brandName, c.categoryId, c.categoryName, m.managerId, m.name, " +
+           "d.viewCount, d.saveCount, d.initialCost, d.totalInvestment, d.avgMonthlyRevenue, " +
+           "d.storeCount, d.brandDescription) " +
+           "FROM Brand b " +
+           "LEFT JOIN b.details d " +
+           "LEFT JOIN b.category c " +
+           "LEFT JOIN b.manager m " +
+           "ORDER BY b.brandName ASC")
+    List<BrandCatalogEntry> findAllCatalogEntries();
+    
     /**
      * 브랜드명 중복 체크
      * - 매니저 회원가입 시 브랜드명 중복 확인용
@@ -60,15 +65,21 @@ public interface BrandRepository extends JpaRepository<Brand, Long> {
     List<Brand> findByManagerManagerId(@Param("managerId") Long managerId);
     
     /**
-     * 매니저별 브랜드 목록 조회 (전체)
+     * 매니저별 브랜드 목록 조회 (전체, 카탈로그 항목 프로젝션)
      * - 페이징 없이 매니저의 모든 브랜드 조회
+     * - 목록에 필요한 컬럼만 조회 (엔티티 로드 없음)
      */
-    @Query("SELECT b FROM Brand b " +
-           "LEFT JOIN FETCH b.details d " +
-           "LEFT JOIN FETCH b.category c " +
-           "WHERE b.manager.managerId = :managerId " +
+    @Query("SELECT new com.kt.backendapp.catalog.BrandCatalogEntry(" +
+           "b.brandId, b.brandName, c.categoryId, c.categoryName, m.managerId, m.name, " +
+           "d.viewCount, d.saveCount, d.initialCost, d.totalInvestment, d.avgMonthlyRevenue, " +
+           "d.storeCount, d.brandDescription) " +
+           "FROM Brand b " +
+           "LEFT JOIN b.details d " +
+           "LEFT JOIN b.category c " +
+           "JOIN b.manager m " +
+           "WHERE m.managerId = :managerId " +
            "ORDER BY b.brandName ASC")
-    List<Brand> findAllByManagerManagerId(@Param("managerId") Long managerId);
+    List<BrandCatalogEntry> findCatalogEntriesByManagerId(@Param("managerId") Long managerId);
     
     /**
      * 카테고리별 브랜드 수 조회
@@ -82,6 +93,16 @@ public interface BrandRepository extends JpaRepository<Brand, Long> {
      */
     Long countByCategory(BrandCategory category);
     
+    /**
+     * 전체 카테고리별 브랜드 수 한 번에 조회 (GROUP BY)
+     * - 반환값: [categoryId, 브랜드수] 목록 (브랜드가 없는 카테고리는 포함되지 않음)
+     * - 카테고리 목록 캐시 적재/재계산용
+     */
+    @Query("SELECT b.category.categoryId, COUNT(b) FROM Brand b " +
+           "WHERE b.category IS NOT NULL " +
+           "GROUP BY b.category.categoryId")
+    List<Object[]> countBrandsGroupByCategory();
+    
     /**
      * 카테고리 내 브랜드 목록 조회 (연관 엔티티 포함)
      * - 특정 카테고리의 모든 브랜드를 상세 정보와 함께 조회
@@ -0,0 +1,18 @@
+package com.kt.backendapp.repository;
+
+import com.kt.backendapp.dto.request.brand.BrandCreateRequest;
+
+import java.util.List;
+
+/**
+ * Brand 커스텀 쿼리 (JDBC 직접 사용)
+ */
+public interface BrandRepositoryCustom {
+    
+    /**
+     * 브랜드와 브랜드 상세를 배치 INSERT로 일괄 등록
+     * - 반환값: 입력 순서대로 생성된 브랜드 ID
+     * - 호출하는 쪽의 트랜잭션에 참여
+     */
+    List<Long> insertBrands(List<BrandCreateRequest> requests, Long managerId);
+}
@@ -0,0 +1,99 @@
+package com.kt.backendapp.repository;
+
+import com.kt.backendapp.dto.request.brand.BrandCreateRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BrandRepositoryCustomImpl implements BrandRepositoryCustom {
+    
+    /**
+     * brand_id 시퀀스에서 필요한 개수만큼 한 번에 발급
+     * - IDENTITY 방식은 행마다 생성 키를 돌려받아야 해서 배치가 불가능하므로 ID를 먼저 받아 명시적으로 INSERT
+     * - 시퀀스는 pooled-lo 방식(Brand 엔티티와 동일): nextval 값 하나가 [값, 값 + 증가폭) 구간을 예약
+     *   → 필요한 구간 수만큼만 nextval을 호출하고 구간을 펼쳐서 사용
+     */
+    private static final String RESERVE_BRAND_IDS_SQL =
+        "SELECT r.lo + g.i " +
+        "FROM (SELECT seqincrement AS step FROM pg_sequence " +
+        "      WHERE seqrelid = 'brand_brand_id_seq'::regclass) s " +
+        "CROSS JOIN LATERAL (SELECT nextval('brand_brand_id_seq') AS lo " +
+        "                    FROM generate_series(1, (? + s.step - 1) / s.step)) r " +
+        "CROSS JOIN LATERAL generate_series(0, s.step - 1) AS g(i) " +
+        "ORDER BY 1 " +
+        "LIMIT ?";
+    
+    private static final String INSERT_BRAND_SQL =
+        "INSERT INTO brand (brand_id, brand_name, category_id, manager_id) VALUES (?, ?, ?, ?)";
+    
+    private static final String INSERT_BRAND_DETAIL_SQL =
+        "INSERT INTO brand_detail (brand_id, view_count, save_count, initial_cost, total_investment, " +
+        "avg_monthly_revenue, store_count, brand_description) VALUES (?, 0, 0, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public List<Long> insertBrands(List<BrandCreateRequest> requests, Long managerId) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        
+        List<Long> brandIds = jdbcTemplate.queryForList(RESERVE_BRAND_IDS_SQL, Long.class,
+            requests.size(), requests.size());
+        
+        jdbcTemplate.batchUpdate(INSERT_BRAND_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                BrandCreateRequest request = requests.get(i);
+                ps.setLong(1, brandIds.get(i));
+                ps.setString(2, request.getBrandName());
+                ps.setLong(3, request.getCategoryId());
+                ps.setLong(4, managerId);
+            }
+            
+            @Override
+            public int getBatchSize() {
+                return requests.size();
+            }
+        });
+        
+        jdbcTemplate.batchUpdate(INSERT_BRAND_DETAIL_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                BrandCreateRequest request = requests.get(i);
+                ps.setLong(1, brandIds.get(i));
+                setDecimal(ps, 2, request.getInitialCost());
+                setDecimal(ps, 3, request.getTotalInvestment());
+                setDecimal(ps, 4, request.getAvgMonthlyRevenue());
+                if (request.getStoreCount() != null) {
+                    ps.setInt(5, request.getStoreCount());
+                } else {
+                    ps.setNull(5, Types.INTEGER);
+                }
+                ps.setString(6, request.getBrandDescription());
+            }
+            
+            @Override
+            public int getBatchSize() {
+                return requests.size();
+            }
+        });
+        
+        return brandIds;
+    }
+    
+    private static void setDecimal(PreparedStatement ps, int index, BigDecimal value) throws SQLException {
+        if (value != null) {
+            ps.setBigDecimal(index, value);
+        } else {
+            ps.setNull(index, Types.DECIMAL);
+        }
+    }
+}
@@ -3,35 +3,68 @@ package com.kt.backendapp.repository;
 import com.kt.backendapp.entity.Consultation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ConsultationRepository extends JpaRepository<Consultation, Long> {
     
-    // 중복 신청 방지를 위한 활성 상담 조회 (PENDING, RESCHEDULE_REQUEST, CONFIRMED)
-    @Query("SELECT c FROM Consultation c WHERE c.user.userId = :userId " +
-           "AND c.brand.brandId = :brandId " +
-           "AND c.status.statusCode IN (1, 2, 3) " +
-           "AND c.isActive = true")
-    Optional<Consultation> findActiveConsultation(@Param("userId") Long userId, 
-                                                 @Param("brandId") Long brandId);
-    
     // 사용자의 모든 상담 목록 조회 (취소된 것도 포함)
-    @Query("SELECT c FROM Consultation c WHERE c.user.userId = :userId " +
-           "ORDER BY c.createdAt DESC")
+    // - 응답 변환에 쓰는 사용자/브랜드/카테고리/상태를 한 번에 조인 조회 (행마다 지연 로딩하지 않음)
+    // - brand.details는 역방향 일대일이라 지연 로딩이 안 되므로(바이트코드 향상 미사용) 함께 조인해 브랜드별 추가 조회 방지
+    // - 개수 쿼리는 조인 없이 consultation 테이블만 사용
+    @EntityGraph(attributePaths = {"user", "brand", "brand.category", "brand.details", "status"})
+    @Query(value = "SELECT c FROM Consultation c WHERE c.user.userId = :userId " +
+                   "ORDER BY c.createdAt DESC, c.consultationId DESC",
+           countQuery = "SELECT COUNT(c) FROM Consultation c WHERE c.user.userId = :userId")
     Page<Consultation> findAllConsultationsByUserId(@Param("userId") Long userId, Pageable pageable);
     
     // 매니저의 모든 상담 목록 조회 (취소된 것도 포함)
-    @Query("SELECT c FROM Consultation c WHERE c.brand.manager.managerId = :managerId " +
-           "ORDER BY c.createdAt DESC")
+    // - 응답 변환에 쓰는 사용자/브랜드/카테고리/상태를 한 번에 조인 조회 (행마다 지연 로딩하지 않음)
+    // - brand.details는 역방향 일대일이라 지연 로딩이 안 되므로(바이트코드 향상 미사용) 함께 조인해 브랜드별 추가 조회 방지
+    // - 개수 쿼리는 매니저 조건에 필요한 brand 조인만 사용
+    @EntityGraph(attributePaths = {"user", "brand", "brand.category", "brand.details", "status"})
+    @Query(value = "SELECT c FROM Consultation c WHERE c.brand.manager.managerId = :managerId " +
+                   "ORDER BY c.createdAt DESC, c.consultationId DESC",
+           countQuery = "SELECT COUNT(c) FROM Consultation c JOIN c.brand b WHERE b.manager.managerId = :managerId")
     Page<Consultation> findAllConsultationsByManagerId(@Param("managerId") Long managerId, Pageable pageable);
     
+    // 사용자의 상담 목록 커서 조회 ((created_at, consultation_id)가 커서보다 작은 행부터, 개수 쿼리 없음)
+    // - created_at <= 조건을 따로 두어 (user_id, created_at DESC, consultation_id DESC) 인덱스 범위 탐색으로 시작
+    // - brand.details는 역방향 일대일이라 함께 조인 (행마다 추가 조회 방지)
+    @EntityGraph(attributePaths = {"user", "brand", "brand.category", "brand.details", "status"})
+    @Query("SELECT c FROM Consultation c WHERE c.user.userId = :userId " +
+           "AND c.createdAt <= :createdAt " +
+           "AND (c.createdAt < :createdAt OR c.consultationId < :consultationId) " +
+           "ORDER BY c.createdAt DESC, c.consultationId DESC")
+    Slice<Consultation> findUserConsultationsBefore(@Param("userId") Long userId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("consultationId") Long consultationId,
+                                                    Pageable pageable);
+    
+    // 매니저의 상담 목록 커서 조회 ((created_at, consultation_id)가 커서보다 작은 행부터, 개수 쿼리 없음)
+    // - consultation에 매니저 컬럼이 없어 인덱스 범위 탐색 한 번으로 끝나지 않음:
+    //   매니저 브랜드(idx_brand_manager)마다 (brand_id, created_at DESC, consultation_id DESC) 인덱스에서 커서 이전 행을 읽고
+    //   합친 뒤 상위 size개를 정렬 (OFFSET 건너뛰기/COUNT는 없지만 비용은 매니저 브랜드 수에 비례)
+    // - brand.details는 역방향 일대일이라 함께 조인 (행마다 추가 조회 방지)
+    @EntityGraph(attributePaths = {"user", "brand", "brand.category", "brand.details", "status"})
+    @Query("SELECT c FROM Consultation c WHERE c.brand.manager.managerId = :managerId " +
+           "AND c.createdAt <= :createdAt " +
+           "AND (c.createdAt < :createdAt OR c.consultationId < :consultationId) " +
+           "ORDER BY c.createdAt DESC, c.consultationId DESC")
+    Slice<Consultation> findManagerConsultationsBefore(@Param("managerId") Long managerId,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("consultationId") Long consultationId,
+                                                       Pageable pageable);
+    
     // 기존 메서드들 (호환성 유지)
     Page<Consultation> findByUserUserId(Long userId, Pageable pageable);
     
@@ -44,7 +77,8 @@ public interface ConsultationRepository extends JpaRepository<Consultation, Long
            "AND c.isActive = true")
     Page<Consultation> findActiveConsultationsByUserId(@Param("userId") Long userId, Pageable pageable);
     
-    // 일정 조정 요청된 상담 목록 조회 (사용자용)
+    // 일정 조정 요청된 상담 목록 조회 (사용자용, 응답 변환에 쓰는 연관 엔티티 함께 조회)
+    @EntityGraph(attributePaths = {"user", "brand", "brand.category", "brand.details", "status"})
     @Query("SELECT c FROM Consultation c WHERE c.user.userId = :userId " +
            "AND c.status.statusCode = 2 " +
            "AND c.isActive = true")
@@ -4,12 +4,16 @@ import com.kt.backendapp.entity.Notification;
 import com.kt.backendapp.entity.RecipientType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     
@@ -17,6 +21,22 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     Page<Notification> findByRecipientIdAndRecipientTypeOrderByCreatedAtDesc(
         Long recipientId, RecipientType recipientType, Pageable pageable);
     
+    // 수신자 알림 커서 조회 ((created_at, notification_id)가 커서보다 작은 행부터, 개수 쿼리 없음)
+    // - created_at <= 조건을 따로 두어 (recipient_id, recipient_type, created_at DESC, notification_id DESC) 인덱스 범위 탐색으로 시작
+    // - 응답 변환에 쓰는 상담/브랜드/사용자/상태를 한 번에 조인 조회
+    // - 브랜드를 엔티티로 읽으면 역방향 일대일인 brand.details가 브랜드마다 따로 조회되므로 함께 조인
+    @EntityGraph(attributePaths = {"consultation", "consultation.brand", "consultation.brand.details",
+                                   "consultation.user", "status"})
+    @Query("SELECT n FROM Notification n WHERE n.recipientId = :recipientId AND n.recipientType = :recipientType " +
+           "AND n.createdAt <= :createdAt " +
+           "AND (n.createdAt < :createdAt OR n.notificationId < :notificationId) " +
+           "ORDER BY n.createdAt DESC, n.notificationId DESC")
+    Slice<Notification> findByRecipientBefore(@Param("recipientId") Long recipientId,
+                                              @Param("recipientType") RecipientType recipientType,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("notificationId") Long notificationId,
+                                              Pageable pageable);
+    
     // 읽지 않은 알림 개수 조회
     long countByRecipientIdAndRecipientTypeAndIsReadFalse(
         Long recipientId, RecipientType recipientType);
@@ -1,5 +1,6 @@
 package com.kt.backendapp.repository;
 
+import com.kt.backendapp.catalog.BrandCatalogEntry;
 import com.kt.backendapp.entity.SavedBrand;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -32,6 +33,14 @@ public interface SavedBrandRepository extends JpaRepository<SavedBrand, Long> {
      */
     boolean existsByUserUserIdAndBrandBrandId(Long userId, Long brandId);
     
+    /**
+     * 사용자가 찜한 브랜드 ID 목록 조회
+     * - 브랜드 목록/상세/찜 상태 조회에서 브랜드마다 exists 쿼리를 날리지 않도록 한 번에 로드
+     * - 엔티티 없이 ID 컬럼만 조회 (saved_brand 테이블 단독, 조인 없음)
+     */
+    @Query("SELECT sb.brand.brandId FROM SavedBrand sb WHERE sb.user.userId = :userId")
+    List<Long> findBrandIdsByUserId(@Param("userId") Long userId);
+    
     /**
      * 특정 사용자의 특정 브랜드 찜 삭제
      * - 찜 취소 시 사용
@@ -41,16 +50,27 @@ public interface SavedBrandRepository extends JpaRepository<SavedBrand, Long> {
     void deleteByUserUserIdAndBrandBrandId(Long userId, Long brandId);
     
     /**
-     * 사용자의 찜 목록 조회 (브랜드 정보 함께 로드)
-     * - FETCH JOIN으로 브랜드 상세 정보까지 한 번에 로드
-     * - N+1 문제 방지
+     * 사용자의 찜한 브랜드 목록 조회 (카탈로그 항목 프로젝션)
+     * - 목록에 필요한 컬럼만 생성자 프로젝션으로 조회 (SavedBrand/Brand 엔티티 로드 없음)
      * - 최근 찜한 순서로 정렬 (savedAt DESC)
      */
-    @Query("SELECT sb FROM SavedBrand sb " +
-           "JOIN FETCH sb.brand b " +
-           "JOIN FETCH b.details " +
-           "JOIN FETCH b.category " +
+    @Query("SELECT new com.kt.backendapp.catalog.BrandCatalogEntry(" +
+           "b.brandId, b.brandName, c.categoryId, c.categoryName, m.managerId, m.name, " +
+           "d.viewCount, d.saveCount, d.initialCost, d.totalInvestment, d.avgMonthlyRevenue, " +
+           "d.storeCount, d.brandDescription) " +
+           "FROM SavedBrand sb " +
+           "JOIN sb.brand b " +
+           "JOIN b.details d " +
+           "JOIN b.category c " +
+           "LEFT JOIN b.manager m " +
            "WHERE sb.user.userId = :userId " +
            "ORDER BY sb.savedAt DESC")
-    List<SavedBrand> findByUserUserIdWithBrand(@Param("userId") Long userId);
+    List<BrandCatalogEntry> findSavedCatalogEntriesByUserId(@Param("userId") Long userId);
+    
+    /**
+     * 전체 (사용자 ID, 브랜드 ID) 찜 쌍 조회
+     * - 함께 찜한 브랜드 추천의 전체 재계산용 (saved_brand 테이블 단독, 조인 없음)
+     */
+    @Query("SELECT sb.user.userId, sb.brand.brandId FROM SavedBrand sb")
+    List<Object[]> findAllUserBrandPairs();
 }
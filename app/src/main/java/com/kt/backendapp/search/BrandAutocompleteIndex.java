@@ -0,0 +1,207 @@
+package com.kt.backendapp.search;
+
+import com.kt.backendapp.catalog.BrandCatalog;
+import com.kt.backendapp.catalog.BrandCatalogChangedEvent;
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import com.kt.backendapp.catalog.BrandCatalogSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 브랜드명 자동완성 색인 (한글 자모/초성 접두어 트라이)
+ * - 자모 트라이: 이름을 자모 단위로 분해해 색인 ("벅" → "ㅂㅓㄱ"이 "버거"의 접두어로 일치)
+ * - 초성 트라이: 이름의 초성만 색인 ("ㅂㄱ" → "버거")
+ * - 이름 전체와 공백 뒤 각 단어 시작 위치를 모두 키로 넣어 중간 단어로도 일치
+ * - 인기도(조회수)순 상위 결과를 트라이 노드마다 캐시해 두어 조회는 접두어 길이만큼만 탐색
+ * - 브랜드 등록/수정/삭제와 조회수 반영을 카탈로그 이벤트로 받아 해당 브랜드만 증분 갱신
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BrandAutocompleteIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final BrandCatalog brandCatalog;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Long> scores = new HashMap<>();
+    private final Map<Long, BrandKeys> keysByBrand = new HashMap<>();
+    private final Comparator<Long> ranking = (a, b) -> {
+        int compare = Long.compare(scores.getOrDefault(b, 0L), scores.getOrDefault(a, 0L));
+        return compare != 0 ? compare : Long.compare(a, b);
+    };
+    private PrefixTrie jamoTrie = new PrefixTrie(MAX_SUGGESTIONS, ranking);
+    private PrefixTrie chosungTrie = new PrefixTrie(MAX_SUGGESTIONS, ranking);
+    private volatile boolean loaded;
+
+    /**
+     * 입력 중인 검색어로 시작하는 브랜드 (인기도순, 최대 limit개)
+     */
+    public List<BrandCatalogEntry> suggest(String keyword, int limit) {
+        String query = SearchText.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        ensureLoaded();
+
+        List<Long> ids;
+        lock.readLock().lock();
+        try {
+            Set<Long> merged = new LinkedHashSet<>(jamoTrie.lookup(HangulJamo.decompose(query), limit));
+            if (HangulJamo.isChosungQuery(query)) {
+                merged.addAll(chosungTrie.lookup(HangulJamo.chosung(query), limit));
+            }
+            ids = new ArrayList<>(merged);
+            ids.sort(ranking);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        BrandCatalogSnapshot snapshot = brandCatalog.snapshot();
+        List<BrandCatalogEntry> suggestions = new ArrayList<>(Math.min(limit, ids.size()));
+        for (Long brandId : ids) {
+            BrandCatalogEntry entry = snapshot.get(brandId);
+            if (entry != null) {
+                suggestions.add(entry);
+                if (suggestions.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return suggestions;
+    }
+
+    @EventListener
+    public void onCatalogChanged(BrandCatalogChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded || event.getCause() == BrandCatalogChangedEvent.Cause.RELOAD) {
+                rebuild(event.getSnapshot());
+                return;
+            }
+
+            Set<Long> addedIds = new HashSet<>();
+            for (BrandCatalogEntry entry : event.getAdded()) {
+                addedIds.add(entry.getBrandId());
+            }
+            for (BrandCatalogEntry entry : event.getRemoved()) {
+                if (!addedIds.contains(entry.getBrandId())) {
+                    removeBrand(entry.getBrandId());
+                }
+            }
+            for (BrandCatalogEntry entry : event.getAdded()) {
+                upsertBrand(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 아직 카탈로그 이벤트를 받기 전이면 현재 스냅샷으로 색인 생성
+    // (카탈로그 잠금 → 색인 잠금 순서를 지키기 위해 스냅샷은 잠금 밖에서 조회)
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        BrandCatalogSnapshot snapshot = brandCatalog.snapshot();
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                rebuild(snapshot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rebuild(BrandCatalogSnapshot snapshot) {
+        long startTime = System.currentTimeMillis();
+        scores.clear();
+        keysByBrand.clear();
+        jamoTrie = new PrefixTrie(MAX_SUGGESTIONS, ranking);
+        chosungTrie = new PrefixTrie(MAX_SUGGESTIONS, ranking);
+        for (BrandCatalogEntry entry : snapshot.entries()) {
+            insertBrand(entry, BrandKeys.of(entry.getBrandName()));
+        }
+        loaded = true;
+        log.info("브랜드 자동완성 색인 생성 완료: 브랜드 수={}, 소요시간={}ms",
+            keysByBrand.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private void upsertBrand(BrandCatalogEntry entry) {
+        BrandKeys keys = BrandKeys.of(entry.getBrandName());
+        BrandKeys previous = keysByBrand.get(entry.getBrandId());
+        if (keys.equals(previous)) {
+            updateScore(entry);
+            return;
+        }
+        if (previous != null) {
+            removeBrand(entry.getBrandId());
+        }
+        insertBrand(entry, keys);
+    }
+
+    private void insertBrand(BrandCatalogEntry entry, BrandKeys keys) {
+        Long brandId = entry.getBrandId();
+        scores.put(brandId, entry.getViewCount());
+        keysByBrand.put(brandId, keys);
+        keys.jamo().forEach(key -> jamoTrie.insert(key, brandId));
+        keys.chosung().forEach(key -> chosungTrie.insert(key, brandId));
+    }
+
+    private void updateScore(BrandCatalogEntry entry) {
+        Long brandId = entry.getBrandId();
+        Long previous = scores.put(brandId, entry.getViewCount());
+        if (previous == null || previous.equals(entry.getViewCount())) {
+            return;
+        }
+        boolean decreased = entry.getViewCount() < previous;
+        BrandKeys keys = keysByBrand.get(brandId);
+        keys.jamo().forEach(key -> jamoTrie.update(key, brandId, decreased));
+        keys.chosung().forEach(key -> chosungTrie.update(key, brandId, decreased));
+    }
+
+    private void removeBrand(Long brandId) {
+        BrandKeys keys = keysByBrand.remove(brandId);
+        if (keys == null) {
+            return;
+        }
+        // 재계산 중 순위 비교에 점수가 필요하므로 점수는 트라이에서 뺀 뒤 제거
+        keys.jamo().forEach(key -> jamoTrie.remove(key, brandId));
+        keys.chosung().forEach(key -> chosungTrie.remove(key, brandId));
+        scores.remove(brandId);
+    }
+
+    /**
+     * 브랜드 하나의 색인 키 (이름 전체 + 각 단어 시작 위치부터의 나머지)
+     */
+    private record BrandKeys(List<String> jamo, List<String> chosung) {
+
+        static BrandKeys of(String brandName) {
+            String name = SearchText.normalize(brandName);
+            Set<String> jamo = new LinkedHashSet<>();
+            Set<String> chosung = new LinkedHashSet<>();
+            for (int start = 0; start < name.length(); start++) {
+                if (start == 0 || name.charAt(start - 1) == ' ') {
+                    String suffix = name.substring(start);
+                    jamo.add(HangulJamo.decompose(suffix));
+                    chosung.add(HangulJamo.chosung(suffix));
+                }
+            }
+            return new BrandKeys(List.copyOf(jamo), List.copyOf(chosung));
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.kt.backendapp.search;
+
+import com.kt.backendapp.catalog.BrandCatalog;
+import com.kt.backendapp.catalog.BrandCatalogChangedEvent;
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import com.kt.backendapp.catalog.BrandCatalogSnapshot;
+import com.kt.backendapp.catalog.BrandMetric;
+import com.kt.backendapp.catalog.CategoryStatistics;
+import com.kt.backendapp.util.LongHashSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 브랜드 재무 지표 필터/패싯 색인 (열 기반)
+ * - 행은 브랜드 ID 오름차순, 지표마다 값 배열(double[])과 값 기준 정렬 순열(int[])을 유지
+ * - 범위 조건은 정렬 순열에서 이진 탐색한 구간을 비트셋으로 만들고, 조건끼리는 비트셋 AND로 교차
+ * - 패싯 개수는 해당 패싯 자신의 조건만 뺀 나머지 조건으로 계산 (선택을 바꿨을 때의 결과 수)
+ * - 재무 지표는 브랜드 등록/수정/삭제 때만 바뀌므로 RELOAD/MUTATION 시에만 다시 구성 (불변 객체 교체)
+ * - MUTATION은 최신 스냅샷만 기록해 두고 주기 작업에서 한 번에 재구성 (카탈로그 쓰기 잠금 안에서 전체 정렬을 하지 않도록)
+ * - 따라서 재구성 전까지(기본 1초) 필터 결과에 삭제된 브랜드가 남을 수 있으며, 페이지는 현재 스냅샷 기준으로 걸러짐
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BrandFacetIndex {
+
+    public static final int FACET_BUCKETS = 5;
+
+    private final BrandCatalog brandCatalog;
+
+    private volatile Columns columns;
+    // 아직 반영하지 않은 가장 최근 스냅샷 (없으면 null)
+    private final AtomicReference<BrandCatalogSnapshot> pending = new AtomicReference<>();
+
+    /**
+     * 지표 범위 조건 (null인 쪽은 제한 없음, 양 끝 포함)
+     */
+    public record Range(BigDecimal min, BigDecimal max) {
+    }
+
+    /**
+     * 지표 하나의 구간별 개수 (bounds는 구간 경계로 counts보다 하나 많음)
+     */
+    public record MetricFacet(double[] bounds, long[] counts) {
+    }
+
+    /**
+     * 필터 결과 (일치 브랜드 ID + 패싯 개수)
+     */
+    public record Result(LongHashSet brandIds, int matched,
+                         Map<BrandMetric, MetricFacet> metricFacets,
+                         Map<Long, Long> categoryCounts,
+                         Map<Long, String> categoryNames) {
+    }
+
+    /**
+     * 카테고리(선택)와 지표 범위 조건으로 필터링
+     */
+    public Result filter(Long categoryId, Map<BrandMetric, Range> ranges) {
+        return loaded().filter(categoryId, ranges);
+    }
+
+    @EventListener
+    public void onCatalogChanged(BrandCatalogChangedEvent event) {
+        BrandCatalogChangedEvent.Cause cause = event.getCause();
+        if (columns == null || cause == BrandCatalogChangedEvent.Cause.RELOAD) {
+            pending.set(null);
+            install(Columns.build(event.getSnapshot()));
+        } else if (cause == BrandCatalogChangedEvent.Cause.MUTATION) {
+            pending.set(event.getSnapshot());
+        }
+    }
+
+    /**
+     * 변경이 있었으면 가장 최근 스냅샷으로 한 번만 재구성
+     */
+    @Scheduled(fixedDelayString = "${app.facet.rebuild-delay-ms:1000}")
+    public void rebuildIfDirty() {
+        BrandCatalogSnapshot snapshot = pending.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        install(Columns.build(snapshot));
+    }
+
+    private Columns loaded() {
+        Columns current = columns;
+        if (current != null) {
+            return current;
+        }
+        install(Columns.build(brandCatalog.snapshot()));
+        return columns;
+    }
+
+    // 더 최신 스냅샷으로 만든 색인만 반영 (지연 적재와 이벤트 반영이 겹쳐도 되돌아가지 않도록)
+    private synchronized void install(Columns next) {
+        if (columns == null || next.version > columns.version) {
+            columns = next;
+            log.debug("브랜드 필터 색인 교체: version={}, 브랜드 수={}", next.version, next.brandIds.length);
+        }
+    }
+
+    /**
+     * 스냅샷 하나로 만든 열 기반 색인 (불변)
+     */
+    private static final class Columns {
+        private final long version;
+        private final long[] brandIds;
+        private final long[] categoryIds;                   // 카테고리 없으면 0
+        private final Map<Long, BitSet> rowsByCategory;
+        private final Map<Long, String> categoryNames;
+        private final Map<BrandMetric, MetricColumn> metrics;
+
+        private Columns(long version, long[] brandIds, long[] categoryIds, Map<Long, BitSet> rowsByCategory,
+                        Map<Long, String> categoryNames, Map<BrandMetric, MetricColumn> metrics) {
+            this.version = version;
+            this.brandIds = brandIds;
+            this.categoryIds = categoryIds;
+            this.rowsByCategory = rowsByCategory;
+            this.categoryNames = categoryNames;
+            this.metrics = metrics;
+        }
+
+        static Columns build(BrandCatalogSnapshot snapshot) {
+            List<BrandCatalogEntry> entries = new ArrayList<>(snapshot.entries());
+            entries.sort(Comparator.comparingLong(BrandCatalogEntry::getBrandId));
+            int rows = entries.size();
+
+            long[] brandIds = new long[rows];
+            long[] categoryIds = new long[rows];
+            Map<Long, BitSet> rowsByCategory = new HashMap<>();
+            Map<Long, String> categoryNames = new TreeMap<>();
+            for (int row = 0; row < rows; row++) {
+                BrandCatalogEntry entry = entries.get(row);
+                brandIds[row] = entry.getBrandId();
+                if (entry.getCategoryId() != null) {
+                    categoryIds[row] = entry.getCategoryId();
+                    rowsByCategory.computeIfAbsent(entry.getCategoryId(), id -> new BitSet(rows)).set(row);
+                    categoryNames.putIfAbsent(entry.getCategoryId(), entry.getCategoryName());
+                }
+            }
+
+            Map<BrandMetric, MetricColumn> metrics = new EnumMap<>(BrandMetric.class);
+            for (BrandMetric metric : BrandMetric.values()) {
+                metrics.put(metric, MetricColumn.build(entries, metric));
+            }
+            return new Columns(snapshot.getVersion(), brandIds, categoryIds, rowsByCategory, categoryNames, metrics);
+        }
+
+        Result filter(Long categoryId, Map<BrandMetric, Range> ranges) {
+            int rows = brandIds.length;
+            BitSet category = null;
+            if (categoryId != null) {
+                category = rowsByCategory.getOrDefault(categoryId, new BitSet());
+            }
+            Map<BrandMetric, BitSet> predicates = new EnumMap<>(BrandMetric.class);
+            ranges.forEach((metric, range) -> predicates.put(metric, metrics.get(metric).rowsIn(range)));
+
+            BitSet matched = intersect(rows, category, predicates, null);
+            LongHashSet brandIdSet = new LongHashSet(matched.cardinality());
+            for (int row = matched.nextSetBit(0); row >= 0; row = matched.nextSetBit(row + 1)) {
+                brandIdSet.add(brandIds[row]);
+            }
+
+            // 패싯 개수: 자기 자신의 조건만 빼고 교차
+            Map<BrandMetric, MetricFacet> metricFacets = new EnumMap<>(BrandMetric.class);
+            for (BrandMetric metric : BrandMetric.values()) {
+                BitSet base = predicates.containsKey(metric) ? intersect(rows, category, predicates, metric) : matched;
+                metricFacets.put(metric, metrics.get(metric).histogram(base));
+            }
+            BitSet withoutCategory = category != null ? intersect(rows, null, predicates, null) : matched;
+            Map<Long, Long> categoryCounts = new TreeMap<>();
+            for (int row = withoutCategory.nextSetBit(0); row >= 0; row = withoutCategory.nextSetBit(row + 1)) {
+                if (categoryIds[row] != 0) {
+                    categoryCounts.merge(categoryIds[row], 1L, Long::sum);
+                }
+            }
+
+            return new Result(brandIdSet, matched.cardinality(), metricFacets, categoryCounts, categoryNames);
+        }
+
+        private static BitSet intersect(int rows, BitSet category, Map<BrandMetric, BitSet> predicates,
+                                        BrandMetric excluded) {
+            BitSet result = new BitSet(rows);
+            result.set(0, rows);
+            if (category != null) {
+                result.and(category);
+            }
+            predicates.forEach((metric, bits) -> {
+                if (metric != excluded) {
+                    result.and(bits);
+                }
+            });
+            return result;
+        }
+    }
+
+    /**
+     * 지표 하나의 열 (값이 없는 행은 NaN, 정렬 순열에는 값이 있는 행만 포함)
+     */
+    private static final class MetricColumn {
+        private final double[] values;          // 행 → 값
+        private final int[] sortedRows;         // 값 오름차순 행 번호
+        private final double[] sortedValues;    // sortedRows 순서의 값 (이진 탐색용)
+
+        private MetricColumn(double[] values, int[] sortedRows, double[] sortedValues) {
+            this.values = values;
+            this.sortedRows = sortedRows;
+            this.sortedValues = sortedValues;
+        }
+
+        static MetricColumn build(List<BrandCatalogEntry> entries, BrandMetric metric) {
+            double[] values = new double[entries.size()];
+            int[] sortedRows = new int[values.length];
+            int present = 0;
+            for (int row = 0; row < values.length; row++) {
+                BigDecimal value = metric.valueOf(entries.get(row));
+                values[row] = value != null ? value.doubleValue() : Double.NaN;
+                if (value != null) {
+                    sortedRows[present++] = row;
+                }
+            }
+            sortedRows = Arrays.copyOf(sortedRows, present);
+            sortByValue(sortedRows, values);
+
+            double[] sortedValues = new double[present];
+            for (int i = 0; i < present; i++) {
+                sortedValues[i] = values[sortedRows[i]];
+            }
+            return new MetricColumn(values, sortedRows, sortedValues);
+        }
+
+        // 행 번호를 값 오름차순으로 정렬 (병합 정렬, 같은 값은 행 번호 순서 유지, 박싱 없음)
+        private static void sortByValue(int[] rows, double[] values) {
+            int[] buffer = new int[rows.length];
+            for (int width = 1; width < rows.length; width *= 2) {
+                for (int from = 0; from < rows.length - width; from += 2 * width) {
+                    int mid = from + width;
+                    int to = Math.min(from + 2 * width, rows.length);
+                    int left = from;
+                    int right = mid;
+                    int out = from;
+                    while (left < mid && right < to) {
+                        buffer[out++] = values[rows[right]] < values[rows[left]] ? rows[right++] : rows[left++];
+                    }
+                    while (left < mid) {
+                        buffer[out++] = rows[left++];
+                    }
+                    while (right < to) {
+                        buffer[out++] = rows[right++];
+                    }
+                    System.arraycopy(buffer, from, rows, from, to - from);
+                }
+            }
+        }
+
+        BitSet rowsIn(Range range) {
+            int from = range.min() != null ? CategoryStatistics.lowerBound(sortedValues, range.min().doubleValue()) : 0;
+            int to = range.max() != null
+                ? CategoryStatistics.upperBound(sortedValues, range.max().doubleValue()) : sortedValues.length;
+            BitSet rows = new BitSet(values.length);
+            for (int i = from; i < to; i++) {
+                rows.set(sortedRows[i]);
+            }
+            return rows;
+        }
+
+        // 전체 값 범위를 같은 폭으로 나눈 구간별 개수 (값이 하나뿐이면 구간 하나)
+        MetricFacet histogram(BitSet base) {
+            if (sortedValues.length == 0) {
+                return new MetricFacet(new double[0], new long[0]);
+            }
+            double min = sortedValues[0];
+            double max = sortedValues[sortedValues.length - 1];
+            int buckets = min == max ? 1 : FACET_BUCKETS;
+            double width = (max - min) / buckets;
+
+            double[] bounds = new double[buckets + 1];
+            for (int i = 0; i < buckets; i++) {
+                bounds[i] = min + width * i;
+            }
+            bounds[buckets] = max;
+
+            long[] counts = new long[buckets];
+            for (int row = base.nextSetBit(0); row >= 0; row = base.nextSetBit(row + 1)) {
+                double value = values[row];
+                if (!Double.isNaN(value)) {
+                    int bucket = width == 0 ? 0 : (int) ((value - min) / width);
+                    counts[Math.min(buckets - 1, bucket)]++;
+                }
+            }
+            return new MetricFacet(bounds, counts);
+        }
+    }
+}
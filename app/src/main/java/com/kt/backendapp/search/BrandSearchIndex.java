@@ -0,0 +1,242 @@
+package com.kt.backendapp.search;
+
+import com.kt.backendapp.catalog.BrandCatalog;
+import com.kt.backendapp.catalog.BrandCatalogChangedEvent;
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import com.kt.backendapp.catalog.BrandCatalogSnapshot;
+import com.kt.backendapp.util.LongHashSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 브랜드명 n-gram 역색인 (1/2/3-gram)
+ * - 정규화된 브랜드명(SearchText)의 모든 1~3글자 조각 → 브랜드 ID 집합
+ * - 한글은 NFC 기준 음절 단위로 자르므로 "치킨"은 "치", "킨", "치킨"으로 색인
+ * - 검색어가 3글자 이하면 해당 조각의 posting을 그대로, 더 길면 3-gram posting들의 교집합을 후보로 사용
+ * - 후보는 정규화된 이름에 검색어가 실제로 포함되는지 한 번 더 확인 (3-gram 교집합은 연속성을 보장하지 않음)
+ * - 카탈로그 변경 이벤트로 증분 갱신 (등록/수정/삭제만 반영, 조회수/찜 수 변경은 이름과 무관하므로 무시)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BrandSearchIndex {
+
+    private static final int MAX_GRAM = 3;
+
+    // 정확한 접두어 > 단어 접두어 > 부분 일치
+    private static final int RANK_PREFIX = 0;
+    private static final int RANK_WORD_PREFIX = 1;
+    private static final int RANK_SUBSTRING = 2;
+
+    private final BrandCatalog brandCatalog;
+
+    private volatile Postings current;
+
+    /**
+     * 검색어와 일치하는 브랜드를 관련도순으로 조회
+     * - 정확한 접두어 > 단어 접두어 > 부분 일치, 같은 등급은 조회수 높은 순, 그 다음 brandId
+     */
+    public List<BrandCatalogEntry> search(String keyword) {
+        String query = SearchText.normalize(keyword);
+        Postings postings = loaded();
+        BrandCatalogSnapshot snapshot = brandCatalog.snapshot();
+
+        List<RankedEntry> ranked = new ArrayList<>();
+        for (Long brandId : postings.match(query)) {
+            BrandCatalogEntry entry = snapshot.get(brandId);
+            String name = postings.names.get(brandId);
+            if (entry != null && name != null) {
+                ranked.add(new RankedEntry(entry, rank(name, query)));
+            }
+        }
+
+        ranked.sort(Comparator.comparingInt(RankedEntry::rank)
+            .thenComparing((RankedEntry item) -> item.entry().getViewCount(), Comparator.reverseOrder())
+            .thenComparing(item -> item.entry().getBrandId()));
+        return ranked.stream().map(RankedEntry::entry).toList();
+    }
+
+    /**
+     * 검색어와 일치하는 브랜드 ID 집합 (정렬 기준별 목록을 필터링할 때 사용)
+     */
+    public LongHashSet matchIds(String keyword) {
+        List<Long> matches = loaded().match(SearchText.normalize(keyword));
+        return LongHashSet.of(matches);
+    }
+
+    @EventListener
+    public synchronized void onCatalogChanged(BrandCatalogChangedEvent event) {
+        Postings postings = current;
+        if (postings == null || event.getCause() == BrandCatalogChangedEvent.Cause.RELOAD) {
+            current = build(event.getSnapshot());
+            return;
+        }
+        if (event.getCause() != BrandCatalogChangedEvent.Cause.MUTATION) {
+            return;
+        }
+
+        Set<Long> addedIds = new HashSet<>();
+        for (BrandCatalogEntry entry : event.getAdded()) {
+            addedIds.add(entry.getBrandId());
+        }
+        for (BrandCatalogEntry entry : event.getRemoved()) {
+            if (!addedIds.contains(entry.getBrandId())) {
+                postings.unindex(entry.getBrandId());
+            }
+        }
+        for (BrandCatalogEntry entry : event.getAdded()) {
+            postings.index(entry.getBrandId(), SearchText.normalize(entry.getBrandName()));
+        }
+    }
+
+    // 아직 카탈로그 이벤트를 받기 전이면 현재 스냅샷으로 색인 생성
+    // (카탈로그 잠금 → 색인 잠금 순서를 지키기 위해 스냅샷은 잠금 밖에서 조회)
+    private Postings loaded() {
+        Postings postings = current;
+        if (postings != null) {
+            return postings;
+        }
+        BrandCatalogSnapshot snapshot = brandCatalog.snapshot();
+        synchronized (this) {
+            if (current == null) {
+                current = build(snapshot);
+            }
+            return current;
+        }
+    }
+
+    private static Postings build(BrandCatalogSnapshot snapshot) {
+        long startTime = System.currentTimeMillis();
+        Postings postings = new Postings();
+        for (BrandCatalogEntry entry : snapshot.entries()) {
+            postings.index(entry.getBrandId(), SearchText.normalize(entry.getBrandName()));
+        }
+        log.info("브랜드 검색 색인 생성 완료: 브랜드 수={}, n-gram 수={}, 소요시간={}ms",
+            postings.names.size(), postings.gramIndex.size(), System.currentTimeMillis() - startTime);
+        return postings;
+    }
+
+    private static int rank(String name, String query) {
+        if (name.startsWith(query)) {
+            return RANK_PREFIX;
+        }
+        if (name.contains(" " + query)) {
+            return RANK_WORD_PREFIX;
+        }
+        return RANK_SUBSTRING;
+    }
+
+    // 문자열의 1~3글자 조각 전체 (중복 제거)
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= text.length(); i++) {
+                grams.add(text.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+
+    // 검색어를 덮는 조회용 조각 (3글자 이하면 검색어 자체, 길면 3-gram 전체)
+    private static Set<String> queryGrams(String query) {
+        if (query.length() <= MAX_GRAM) {
+            return Set.of(query);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + MAX_GRAM <= query.length(); i++) {
+            grams.add(query.substring(i, i + MAX_GRAM));
+        }
+        return grams;
+    }
+
+    private record RankedEntry(BrandCatalogEntry entry, int rank) {
+    }
+
+    /**
+     * 색인 본체
+     * - 쓰기는 이벤트 리스너(카탈로그 잠금 안)에서만 일어나고, 읽기는 잠금 없이 동시 접근
+     */
+    private static class Postings {
+        private final Map<String, Set<Long>> gramIndex = new ConcurrentHashMap<>();
+        private final Map<Long, String> names = new ConcurrentHashMap<>();
+
+        void index(Long brandId, String name) {
+            String previous = names.put(brandId, name);
+            if (name.equals(previous)) {
+                return;
+            }
+            if (previous != null) {
+                removeGrams(brandId, previous);
+            }
+            for (String gram : grams(name)) {
+                gramIndex.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(brandId);
+            }
+        }
+
+        void unindex(Long brandId) {
+            String previous = names.remove(brandId);
+            if (previous != null) {
+                removeGrams(brandId, previous);
+            }
+        }
+
+        private void removeGrams(Long brandId, String name) {
+            for (String gram : grams(name)) {
+                Set<Long> ids = gramIndex.get(gram);
+                if (ids != null) {
+                    ids.remove(brandId);
+                    if (ids.isEmpty()) {
+                        gramIndex.remove(gram, ids);
+                    }
+                }
+            }
+        }
+
+        List<Long> match(String query) {
+            if (query.isEmpty()) {
+                return List.of();
+            }
+
+            // 가장 작은 posting을 후보로 삼고 나머지 posting과 실제 포함 여부로 거름
+            List<Set<Long>> lists = new ArrayList<>();
+            for (String gram : queryGrams(query)) {
+                Set<Long> ids = gramIndex.get(gram);
+                if (ids == null) {
+                    return List.of();
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            List<Long> matches = new ArrayList<>();
+            for (Long brandId : lists.get(0)) {
+                if (containsAll(lists, brandId)) {
+                    String name = names.get(brandId);
+                    if (name != null && name.contains(query)) {
+                        matches.add(brandId);
+                    }
+                }
+            }
+            return matches;
+        }
+
+        private static boolean containsAll(List<Set<Long>> lists, Long brandId) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(brandId)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.kt.backendapp.search;
+
+import com.kt.backendapp.catalog.BrandCatalog;
+import com.kt.backendapp.catalog.BrandCatalogChangedEvent;
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import com.kt.backendapp.catalog.BrandCatalogSnapshot;
+import com.kt.backendapp.catalog.BrandMetric;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 재무 지표가 비슷한 브랜드 검색 (k-최근접 이웃, KD-트리)
+ * - 벡터: 4개 재무 지표를 log1p 후 표준화 (규모 차이가 큰 금액 지표가 거리를 독점하지 않도록)
+ * - 값이 없는 지표는 평균(표준화 후 0)으로 간주
+ * - 트리는 배열 하나에 중앙값 분할로 암묵적으로 저장 (구간 [lo, hi)의 가운데 위치가 노드)
+ * - 브랜드 등록/수정/삭제가 몰려도 매번 다시 만들지 않도록 최신 스냅샷만 표시해 두고 주기적으로 한 번 재구성
+ * - 재구성 전까지는 이전 트리로 응답하고, 삭제된 브랜드는 호출하는 쪽에서 현재 스냅샷 기준으로 제외
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BrandSimilarityIndex {
+
+    private static final BrandMetric[] DIMENSIONS = BrandMetric.values();
+    private static final int DIM = DIMENSIONS.length;
+
+    private final BrandCatalog brandCatalog;
+
+    private volatile Tree tree;
+    // 재구성 대기 중인 최신 스냅샷 (꺼내는 쪽은 getAndSet으로 비워 사이에 들어온 스냅샷을 잃지 않음)
+    private final AtomicReference<BrandCatalogSnapshot> pending = new AtomicReference<>();
+
+    /**
+     * 이웃 브랜드 (distance는 표준화 공간의 유클리드 거리)
+     */
+    public record Neighbour(long brandId, double distance) {
+    }
+
+    /**
+     * 기준 브랜드와 가장 가까운 k개 브랜드 (가까운 순, 기준 브랜드 자신 제외)
+     */
+    public List<Neighbour> nearest(BrandCatalogEntry entry, int k) {
+        return loaded().nearest(entry, k);
+    }
+
+    @EventListener
+    public void onCatalogChanged(BrandCatalogChangedEvent event) {
+        BrandCatalogChangedEvent.Cause cause = event.getCause();
+        if (tree == null || cause == BrandCatalogChangedEvent.Cause.RELOAD) {
+            pending.set(null);
+            install(Tree.build(event.getSnapshot()));
+        } else if (cause == BrandCatalogChangedEvent.Cause.MUTATION) {
+            pending.set(event.getSnapshot());
+        }
+    }
+
+    /**
+     * 변경이 있었으면 가장 최근 스냅샷으로 한 번만 재구성
+     */
+    @Scheduled(fixedDelayString = "${app.similarity.rebuild-delay-ms:1000}")
+    public void rebuildIfDirty() {
+        BrandCatalogSnapshot snapshot = pending.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        install(Tree.build(snapshot));
+    }
+
+    private Tree loaded() {
+        Tree current = tree;
+        if (current != null) {
+            return current;
+        }
+        install(Tree.build(brandCatalog.snapshot()));
+        return tree;
+    }
+
+    // 더 최신 스냅샷으로 만든 트리만 반영
+    private synchronized void install(Tree next) {
+        if (tree == null || next.version > tree.version) {
+            tree = next;
+            log.debug("유사 브랜드 색인 교체: version={}, 브랜드 수={}", next.version, next.brandIds.length);
+        }
+    }
+
+    /**
+     * 스냅샷 하나로 만든 KD-트리 (불변)
+     */
+    private static final class Tree {
+        private final long version;
+        private final long[] brandIds;      // 행 → 브랜드 ID
+        private final double[] points;      // 행 * DIM + 축 → 표준화 값
+        private final int[] nodes;          // 트리 위치 → 행
+        private final byte[] axes;          // 트리 위치 → 분할 축
+        private final double[] means;       // 축별 log1p 값 평균
+        private final double[] scales;      // 축별 log1p 값 표준편차 (0이면 1)
+
+        private Tree(long version, long[] brandIds, double[] points, double[] means, double[] scales) {
+            this.version = version;
+            this.brandIds = brandIds;
+            this.points = points;
+            this.means = means;
+            this.scales = scales;
+            this.nodes = new int[brandIds.length];
+            this.axes = new byte[brandIds.length];
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = i;
+            }
+            split(0, nodes.length);
+        }
+
+        static Tree build(BrandCatalogSnapshot snapshot) {
+            Collection<BrandCatalogEntry> entries = snapshot.entries();
+            int rows = entries.size();
+            long[] brandIds = new long[rows];
+            double[] raw = new double[rows * DIM];
+            double[] sums = new double[DIM];
+            double[] squares = new double[DIM];
+            int[] counts = new int[DIM];
+
+            int row = 0;
+            for (BrandCatalogEntry entry : entries) {
+                brandIds[row] = entry.getBrandId();
+                for (int axis = 0; axis < DIM; axis++) {
+                    double value = logValue(entry, axis);
+                    raw[row * DIM + axis] = value;
+                    if (!Double.isNaN(value)) {
+                        sums[axis] += value;
+                        squares[axis] += value * value;
+                        counts[axis]++;
+                    }
+                }
+                row++;
+            }
+
+            double[] means = new double[DIM];
+            double[] scales = new double[DIM];
+            for (int axis = 0; axis < DIM; axis++) {
+                if (counts[axis] == 0) {
+                    scales[axis] = 1;
+                    continue;
+                }
+                means[axis] = sums[axis] / counts[axis];
+                double variance = squares[axis] / counts[axis] - means[axis] * means[axis];
+                scales[axis] = variance > 1e-12 ? Math.sqrt(variance) : 1;
+            }
+
+            for (int i = 0; i < raw.length; i++) {
+                int axis = i % DIM;
+                raw[i] = Double.isNaN(raw[i]) ? 0 : (raw[i] - means[axis]) / scales[axis];
+            }
+            return new Tree(snapshot.getVersion(), brandIds, raw, means, scales);
+        }
+
+        private static double logValue(BrandCatalogEntry entry, int axis) {
+            BigDecimal value = DIMENSIONS[axis].valueOf(entry);
+            return value != null ? Math.log1p(Math.max(0, value.doubleValue())) : Double.NaN;
+        }
+
+        List<Neighbour> nearest(BrandCatalogEntry entry, int k) {
+            // 기준 브랜드가 아직 트리에 없어도(재구성 전 신규 등록) 같은 정규화로 벡터를 만들 수 있음
+            double[] query = new double[DIM];
+            for (int axis = 0; axis < DIM; axis++) {
+                double value = logValue(entry, axis);
+                query[axis] = Double.isNaN(value) ? 0 : (value - means[axis]) / scales[axis];
+            }
+
+            BoundedHeap heap = new BoundedHeap(k);
+            search(0, nodes.length, query, entry.getBrandId(), heap);
+            return heap.drain(brandIds);
+        }
+
+        // 중앙값 위치를 노드로 삼고 값 분포가 가장 넓은 축으로 분할
+        private void split(int lo, int hi) {
+            if (hi - lo <= 1) {
+                return;
+            }
+            int axis = widestAxis(lo, hi);
+            int mid = (lo + hi) >>> 1;
+            select(lo, hi - 1, mid, axis);
+            axes[mid] = (byte) axis;
+            split(lo, mid);
+            split(mid + 1, hi);
+        }
+
+        private int widestAxis(int lo, int hi) {
+            int best = 0;
+            double bestSpread = -1;
+            for (int axis = 0; axis < DIM; axis++) {
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                for (int i = lo; i < hi; i++) {
+                    double value = points[nodes[i] * DIM + axis];
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+                if (max - min > bestSpread) {
+                    bestSpread = max - min;
+                    best = axis;
+                }
+            }
+            return best;
+        }
+
+        // nodes[left..right]를 축 값 기준으로 부분 정렬해 k번째를 제자리에 (quickselect)
+        private void select(int left, int right, int k, int axis) {
+            while (left < right) {
+                double pivot = points[nodes[(left + right) >>> 1] * DIM + axis];
+                int i = left;
+                int j = right;
+                while (i <= j) {
+                    while (points[nodes[i] * DIM + axis] < pivot) {
+                        i++;
+                    }
+                    while (points[nodes[j] * DIM + axis] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        int swap = nodes[i];
+                        nodes[i] = nodes[j];
+                        nodes[j] = swap;
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j) {
+                    right = j;
+                } else if (k >= i) {
+                    left = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private void search(int lo, int hi, double[] query, long excludedBrandId, BoundedHeap heap) {
+            if (lo >= hi) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            int row = nodes[mid];
+            if (brandIds[row] != excludedBrandId) {
+                heap.offer(row, squaredDistance(row, query));
+            }
+            if (hi - lo == 1) {
+                return;
+            }
+
+            int axis = axes[mid];
+            double diff = query[axis] - points[row * DIM + axis];
+            if (diff < 0) {
+                search(lo, mid, query, excludedBrandId, heap);
+                if (diff * diff < heap.worst()) {
+                    search(mid + 1, hi, query, excludedBrandId, heap);
+                }
+            } else {
+                search(mid + 1, hi, query, excludedBrandId, heap);
+                if (diff * diff < heap.worst()) {
+                    search(lo, mid, query, excludedBrandId, heap);
+                }
+            }
+        }
+
+        private double squaredDistance(int row, double[] query) {
+            double sum = 0;
+            for (int axis = 0; axis < DIM; axis++) {
+                double diff = points[row * DIM + axis] - query[axis];
+                sum += diff * diff;
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * 크기가 k로 제한된 최대 힙 (루트가 지금까지 찾은 k개 중 가장 먼 후보)
+     */
+    private static final class BoundedHeap {
+        private final int[] rows;
+        private final double[] distances;
+        private int size;
+
+        BoundedHeap(int capacity) {
+            this.rows = new int[capacity];
+            this.distances = new double[capacity];
+        }
+
+        double worst() {
+            return size < rows.length ? Double.POSITIVE_INFINITY : distances[0];
+        }
+
+        void offer(int row, double distance) {
+            if (size < rows.length) {
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (distances[parent] >= distance) {
+                        break;
+                    }
+                    rows[i] = rows[parent];
+                    distances[i] = distances[parent];
+                    i = parent;
+                }
+                rows[i] = row;
+                distances[i] = distance;
+            } else if (distance < distances[0]) {
+                siftDown(row, distance);
+            }
+        }
+
+        private void siftDown(int row, double distance) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && distances[child + 1] > distances[child]) {
+                    child++;
+                }
+                if (distances[child] <= distance) {
+                    break;
+                }
+                rows[i] = rows[child];
+                distances[i] = distances[child];
+                i = child;
+            }
+            rows[i] = row;
+            distances[i] = distance;
+        }
+
+        // 가까운 순으로 꺼내기 (힙이 비워짐)
+        List<Neighbour> drain(long[] brandIds) {
+            Neighbour[] result = new Neighbour[size];
+            while (size > 0) {
+                int row = rows[0];
+                double distance = distances[0];
+                size--;
+                result[size] = new Neighbour(brandIds[row], Math.sqrt(distance));
+                if (size > 0) {
+                    siftDown(rows[size], distances[size]);
+                }
+            }
+            return List.of(result);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.kt.backendapp.search;
+
+/**
+ * 한글 자모 분해
+ * - 완성형 음절(가~힣)을 초성/중성/종성 호환 자모로 분해
+ * - 겹모음(ㅘ, ㅢ 등)과 겹받침(ㄳ, ㄺ 등)은 입력 순서대로 기본 자모로 한 번 더 분해
+ *   ("고"까지 입력한 상태에서도 "과"로 시작하는 이름이 접두어로 일치하도록)
+ * - 된소리(ㄲ, ㄸ, ㅃ, ㅆ, ㅉ)는 한 번에 입력하므로 분해하지 않음
+ * - 한글이 아닌 문자는 그대로 유지
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    // 호환 자모 중 자음 범위 (ㄱ ~ ㅎ)
+    private static final char CONSONANT_FIRST = 'ㄱ';
+    private static final char CONSONANT_LAST = 'ㅎ';
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 자모 분해 (예: "버거킹" → "ㅂㅓㄱㅓㅋㅣㅇ")
+     */
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BASE;
+                builder.append(CHO.charAt(index / (JUNG_COUNT * JONG_COUNT)));
+                appendJamo(builder, JUNG.charAt((index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT));
+                int jong = index % JONG_COUNT;
+                if (jong != 0) {
+                    appendJamo(builder, JONG.charAt(jong));
+                }
+            } else {
+                appendJamo(builder, c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성 추출 (예: "버거킹" → "ㅂㄱㅋ"), 한글 음절이 아닌 문자는 그대로
+     */
+    public static String chosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                builder.append(CHO.charAt((c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성 검색어 여부 (한글 음절 없이 자음만 입력, 예: "ㅂㄱ")
+     */
+    public static boolean isChosungQuery(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c) || isVowel(c)) {
+                return false;
+            }
+            hasConsonant |= c >= CONSONANT_FIRST && c <= CONSONANT_LAST;
+        }
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    private static boolean isVowel(char c) {
+        return c >= 'ㅏ' && c <= 'ㅣ';
+    }
+
+    private static void appendJamo(StringBuilder builder, char jamo) {
+        switch (jamo) {
+            case 'ㅘ' -> builder.append("ㅗㅏ");
+            case 'ㅙ' -> builder.append("ㅗㅐ");
+            case 'ㅚ' -> builder.append("ㅗㅣ");
+            case 'ㅝ' -> builder.append("ㅜㅓ");
+            case 'ㅞ' -> builder.append("ㅜㅔ");
+            case 'ㅟ' -> builder.append("ㅜㅣ");
+            case 'ㅢ' -> builder.append("ㅡㅣ");
+            case 'ㄳ' -> builder.append("ㄱㅅ");
+            case 'ㄵ' -> builder.append("ㄴㅈ");
+            case 'ㄶ' -> builder.append("ㄴㅎ");
+            case 'ㄺ' -> builder.append("ㄹㄱ");
+            case 'ㄻ' -> builder.append("ㄹㅁ");
+            case 'ㄼ' -> builder.append("ㄹㅂ");
+            case 'ㄽ' -> builder.append("ㄹㅅ");
+            case 'ㄾ' -> builder.append("ㄹㅌ");
+            case 'ㄿ' -> builder.append("ㄹㅍ");
+            case 'ㅀ' -> builder.append("ㄹㅎ");
+            case 'ㅄ' -> builder.append("ㅂㅅ");
+            default -> builder.append(jamo);
+        }
+    }
+}
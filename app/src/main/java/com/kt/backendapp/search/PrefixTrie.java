@@ -0,0 +1,189 @@
+package com.kt.backendapp.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 압축 접두어 트라이 (radix trie)
+ * - 간선에 문자열 조각을 두어 분기 없는 경로를 노드 하나로 압축
+ * - 각 노드는 하위 트리 전체에서 순위가 높은 상위 K개 ID를 캐시 (조회 시 하위 트리를 순회하지 않음)
+ * - 한 ID가 여러 키로 들어갈 수 있으며 상위 K 목록에서는 중복 없이 한 번만 유지
+ * - 스레드 안전하지 않음 (호출 측에서 잠금)
+ */
+class PrefixTrie {
+
+    private final int topK;
+    private final Comparator<Long> ranking;
+    private final Node root = new Node("");
+
+    /**
+     * @param topK 노드별로 캐시할 상위 ID 수
+     * @param ranking ID 순위 (앞설수록 상위), 점수가 바뀌면 update로 알려야 함
+     */
+    PrefixTrie(int topK, Comparator<Long> ranking) {
+        this.topK = topK;
+        this.ranking = ranking;
+    }
+
+    void insert(String key, Long id) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            Node child = node.children.get(key.charAt(offset));
+            if (child == null) {
+                child = new Node(key.substring(offset));
+                node.children.put(key.charAt(offset), child);
+                offset = key.length();
+            } else {
+                int common = commonPrefixLength(child.label, key, offset);
+                if (common < child.label.length()) {
+                    child = split(node, child, common);
+                }
+                offset += common;
+            }
+            node = child;
+            path.add(node);
+        }
+
+        node.terminals.add(id);
+        for (Node pathNode : path) {
+            offer(pathNode, id);
+        }
+    }
+
+    void remove(String key, Long id) {
+        List<Node> path = exactPath(key);
+        if (path == null || !path.get(path.size() - 1).terminals.remove(id)) {
+            return;
+        }
+
+        // 아래에서부터 상위 K 재계산, 비게 된 노드는 부모에서 떼어냄
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            Node node = path.get(depth);
+            if (depth > 0 && node.terminals.isEmpty() && node.children.isEmpty()) {
+                path.get(depth - 1).children.remove(node.label.charAt(0));
+            } else {
+                recompute(node);
+            }
+        }
+    }
+
+    /**
+     * ID의 순위가 바뀐 뒤 호출
+     * @param decreased 순위가 내려갔으면 true (캐시 밖 후보가 올라올 수 있으므로 경로 전체 재계산)
+     */
+    void update(String key, Long id, boolean decreased) {
+        List<Node> path = exactPath(key);
+        if (path == null) {
+            return;
+        }
+        if (decreased) {
+            for (int depth = path.size() - 1; depth >= 0; depth--) {
+                recompute(path.get(depth));
+            }
+        } else {
+            for (Node node : path) {
+                offer(node, id);
+            }
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 키의 상위 ID (최대 limit개, 순위순)
+     */
+    List<Long> lookup(String prefix, int limit) {
+        Node node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(offset));
+            if (child == null) {
+                return List.of();
+            }
+            int common = commonPrefixLength(child.label, prefix, offset);
+            if (offset + common < prefix.length() && common < child.label.length()) {
+                return List.of();
+            }
+            node = child;
+            offset += common;
+        }
+        return List.copyOf(node.top.subList(0, Math.min(limit, node.top.size())));
+    }
+
+    // 키와 정확히 일치하는 경로 (루트 포함), 없으면 null
+    private List<Node> exactPath(String key) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            Node child = node.children.get(key.charAt(offset));
+            if (child == null || !key.startsWith(child.label, offset)) {
+                return null;
+            }
+            node = child;
+            path.add(node);
+            offset += child.label.length();
+        }
+        return path;
+    }
+
+    // child의 간선을 at 위치에서 둘로 나누고 중간 노드를 반환
+    private Node split(Node parent, Node child, int at) {
+        Node middle = new Node(child.label.substring(0, at));
+        child.label = child.label.substring(at);
+        middle.children.put(child.label.charAt(0), child);
+        middle.top.addAll(child.top);
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    private void offer(Node node, Long id) {
+        if (!node.top.contains(id)) {
+            node.top.add(id);
+        }
+        node.top.sort(ranking);
+        if (node.top.size() > topK) {
+            node.top.subList(topK, node.top.size()).clear();
+        }
+    }
+
+    // 자식들의 상위 K와 이 노드에서 끝나는 ID로 상위 K를 다시 구성 (자식은 이미 최신이어야 함)
+    private void recompute(Node node) {
+        Set<Long> candidates = new LinkedHashSet<>(node.terminals);
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.top);
+        }
+        List<Long> top = new ArrayList<>(candidates);
+        top.sort(ranking);
+        node.top.clear();
+        node.top.addAll(top.subList(0, Math.min(topK, top.size())));
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = 0;
+        while (length < label.length() && offset + length < key.length()
+                && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static class Node {
+        private String label;                                   // 부모에서 이 노드로 오는 간선 문자열
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<Long> terminals = new HashSet<>();    // 이 노드에서 끝나는 키의 ID
+        private final List<Long> top = new ArrayList<>();       // 하위 트리 상위 K개 ID (순위순)
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.kt.backendapp.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 검색용 문자열 정규화
+ * - NFC로 합쳐 한글 음절이 항상 한 글자(char)가 되도록 함 (자모가 분리된 입력 대비)
+ * - 소문자화, 앞뒤 공백 제거, 연속 공백은 하나로
+ */
+public final class SearchText {
+
+    private SearchText() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return composed.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,5 +1,8 @@
 package com.kt.backendapp.service;
 
+import com.kt.backendapp.cache.ReferenceDataRegistry;
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import com.kt.backendapp.catalog.BrandChangedEvent;
 import com.kt.backendapp.dto.request.auth.LoginRequest;
 import com.kt.backendapp.dto.request.auth.UserCreateRequest;
 import com.kt.backendapp.dto.request.brand.BrandManagerCreateRequest;
@@ -9,6 +12,7 @@ import com.kt.backendapp.dto.response.brand.BrandManagerResponse;
 import com.kt.backendapp.entity.*;
 import com.kt.backendapp.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,8 +27,9 @@ public class AuthService implements IAuthService {
     private final UserRepository userRepository;
     private final BrandManagerRepository brandManagerRepository;
     private final BrandRepository brandRepository;
-    private final BrandCategoryRepository brandCategoryRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final BrandDetailRepository brandDetailRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 사용자 회원가입
@@ -83,7 +88,7 @@ public class AuthService implements IAuthService {
         }
         
         // 3. 카테고리 존재 확인 (미리 저장된 카테고리에서 선택)
-        BrandCategory category = brandCategoryRepository.findById(request.getCategoryId())
+        BrandCategory category = referenceDataRegistry.findCategory(request.getCategoryId())
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다."));
         
         // 4. 브랜드 상세 정보 유효성 검증
@@ -137,8 +142,12 @@ public class AuthService implements IAuthService {
         savedBrand.setDetails(brandDetail);
         brandRepository.save(savedBrand);
         
+        // 브랜드 카탈로그 반영 (커밋 이후 적용)
+        BrandCatalogEntry savedEntry = BrandCatalogEntry.from(savedBrand);
+        eventPublisher.publishEvent(BrandChangedEvent.upserted(savedEntry));
+        
         // 8. 응답 생성 (관리 브랜드 포함 - 리스트 방식)
-        return BrandManagerResponse.from(savedManager, List.of(savedBrand));
+        return BrandManagerResponse.from(savedManager, List.of(savedEntry));
     }
     
     /**
@@ -155,7 +164,7 @@ public class AuthService implements IAuthService {
         }
         
         // 3. 관리 브랜드 전체 조회
-        List<Brand> managedBrands = brandRepository.findAllByManagerManagerId(manager.getManagerId());
+        List<BrandCatalogEntry> managedBrands = brandRepository.findCatalogEntriesByManagerId(manager.getManagerId());
         
         // 4. 로그인 응답 생성 (모든 브랜드 포함)
         BrandManagerResponse managerResponse = BrandManagerResponse.from(manager, managedBrands);
@@ -183,7 +192,7 @@ public class AuthService implements IAuthService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 매니저입니다."));
             
             // 관리 브랜드 전체 조회
-            List<Brand> managedBrands = brandRepository.findAllByManagerManagerId(manager.getManagerId());
+            List<BrandCatalogEntry> managedBrands = brandRepository.findCatalogEntriesByManagerId(manager.getManagerId());
             return BrandManagerResponse.from(manager, managedBrands);
         }
         throw new IllegalArgumentException("잘못된 사용자 타입입니다.");
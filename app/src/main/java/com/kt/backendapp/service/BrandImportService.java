@@ -0,0 +1,354 @@
+package com.kt.backendapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.cache.ReferenceDataRegistry;
+import com.kt.backendapp.catalog.BrandCatalog;
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import com.kt.backendapp.catalog.BrandChangedEvent;
+import com.kt.backendapp.dto.request.brand.BrandCreateRequest;
+import com.kt.backendapp.dto.request.brand.BrandImportFormat;
+import com.kt.backendapp.dto.response.brand.BrandImportResponse;
+import com.kt.backendapp.entity.BrandCategory;
+import com.kt.backendapp.entity.BrandManager;
+import com.kt.backendapp.repository.BrandManagerRepository;
+import com.kt.backendapp.repository.BrandRepository;
+import com.kt.backendapp.util.CsvRecordReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 브랜드 일괄 등록
+ * - 입력을 한 행씩 읽어 검증하고, 통과한 행만 chunk-size개씩 모아 JDBC 배치 INSERT
+ * - chunk마다 별도 트랜잭션 → 한 chunk의 저장 실패가 이미 커밋된 chunk에 영향을 주지 않음
+ * - 카탈로그 반영 이벤트도 chunk마다 한 번 (행마다 스냅샷을 교체하지 않음)
+ */
+@Service
+@Slf4j
+public class BrandImportService implements IBrandImportService {
+    
+    // 응답에 담는 실패 행 최대 개수 (개수 자체는 failedCount로 모두 집계)
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    
+    private static final String CSV_BOM = "\uFEFF";
+    
+    private final BrandRepository brandRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final BrandManagerRepository brandManagerRepository;
+    private final BrandCatalog brandCatalog;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    
+    public BrandImportService(BrandRepository brandRepository,
+                              ReferenceDataRegistry referenceDataRegistry,
+                              BrandManagerRepository brandManagerRepository,
+                              BrandCatalog brandCatalog,
+                              Validator validator,
+                              ObjectMapper objectMapper,
+                              ApplicationEventPublisher eventPublisher,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${app.brand-import.chunk-size:500}") int chunkSize) {
+        this.brandRepository = brandRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.brandManagerRepository = brandManagerRepository;
+        this.brandCatalog = brandCatalog;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+    
+    /**
+     * 브랜드 일괄 등록
+     * POST /api/manager/brands/import
+     */
+    public BrandImportResponse importBrands(Long managerId, BrandImportFormat format, Reader input) throws IOException {
+        BrandManager manager = brandManagerRepository.findById(managerId)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 매니저입니다."));
+        
+        Map<Long, BrandCategory> categories = referenceDataRegistry.getCategories().stream()
+            .collect(Collectors.toMap(BrandCategory::getCategoryId, Function.identity()));
+        Set<String> brandNames = brandCatalog.snapshot().entries().stream()
+            .map(BrandCatalogEntry::getBrandName)
+            .collect(Collectors.toCollection(HashSet::new));
+        
+        long startTime = System.currentTimeMillis();
+        ImportRun run = new ImportRun(manager, categories, brandNames);
+        RowSource rows = format == BrandImportFormat.CSV ? new CsvRows(input) : new JsonLineRows(input);
+        for (Row row = rows.next(); row != null; row = rows.next()) {
+            run.totalRows++;
+            String error = row.error() != null ? row.error() : validate(row.request(), run);
+            if (error != null) {
+                run.fail(row.rowNumber(), row.request() != null ? row.request().getBrandName() : null, error);
+                continue;
+            }
+            run.brandNames.add(row.request().getBrandName());
+            run.chunk.add(row);
+            if (run.chunk.size() >= chunkSize) {
+                flush(run);
+            }
+        }
+        flush(run);
+        
+        log.info("브랜드 일괄 등록 완료: managerId={}, 전체={}, 등록={}, 실패={}, 소요시간={}ms",
+            managerId, run.totalRows, run.importedCount, run.failedCount, System.currentTimeMillis() - startTime);
+        
+        return BrandImportResponse.builder()
+            .totalRows(run.totalRows)
+            .importedCount(run.importedCount)
+            .failedCount(run.failedCount)
+            .errorsTruncated(run.failedCount > run.errors.size())
+            .errors(run.errors)
+            .build();
+    }
+    
+    // 단건 등록(createBrand)과 같은 규칙: Bean Validation + 카테고리 존재 + 브랜드명 중복 (기존/파일 내)
+    private String validate(BrandCreateRequest request, ImportRun run) {
+        Set<ConstraintViolation<BrandCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .orElseThrow();
+        }
+        if (!run.categories.containsKey(request.getCategoryId())) {
+            return "존재하지 않는 카테고리입니다.";
+        }
+        if (run.brandNames.contains(request.getBrandName())) {
+            return "이미 존재하는 브랜드명입니다.";
+        }
+        return null;
+    }
+    
+    private void flush(ImportRun run) {
+        if (run.chunk.isEmpty()) {
+            return;
+        }
+        List<Row> chunk = new ArrayList<>(run.chunk);
+        run.chunk.clear();
+        List<BrandCreateRequest> requests = chunk.stream().map(Row::request).collect(Collectors.toList());
+        
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> brandIds = brandRepository.insertBrands(requests, run.manager.getManagerId());
+                List<BrandCatalogEntry> entries = new ArrayList<>(requests.size());
+                for (int i = 0; i < requests.size(); i++) {
+                    entries.add(toCatalogEntry(brandIds.get(i), requests.get(i), run));
+                }
+                // 카탈로그 반영 (chunk 커밋 이후 한 번)
+                eventPublisher.publishEvent(BrandChangedEvent.upserted(entries));
+            });
+            run.importedCount += requests.size();
+        } catch (DataAccessException e) {
+            log.error("브랜드 일괄 등록 chunk 저장 실패: {}행, {}", requests.size(), e.getMessage(), e);
+            for (Row row : chunk) {
+                run.brandNames.remove(row.request().getBrandName());
+                run.fail(row.rowNumber(), row.request().getBrandName(), "저장 중 오류가 발생했습니다.");
+            }
+        }
+    }
+    
+    private static BrandCatalogEntry toCatalogEntry(Long brandId, BrandCreateRequest request, ImportRun run) {
+        BrandCategory category = run.categories.get(request.getCategoryId());
+        return BrandCatalogEntry.builder()
+            .brandId(brandId)
+            .brandName(request.getBrandName())
+            .categoryId(category.getCategoryId())
+            .categoryName(category.getCategoryName())
+            .managerId(run.manager.getManagerId())
+            .managerName(run.manager.getName())
+            .viewCount(0L)
+            .saveCount(0L)
+            .initialCost(request.getInitialCost())
+            .totalInvestment(request.getTotalInvestment())
+            .avgMonthlyRevenue(request.getAvgMonthlyRevenue())
+            .storeCount(request.getStoreCount())
+            .brandDescription(request.getBrandDescription())
+            .build();
+    }
+    
+    /**
+     * 일괄 등록 한 번의 진행 상태
+     */
+    private static final class ImportRun {
+        private final BrandManager manager;
+        private final Map<Long, BrandCategory> categories;
+        private final Set<String> brandNames;
+        private final List<Row> chunk = new ArrayList<>();
+        private final List<BrandImportResponse.RowError> errors = new ArrayList<>();
+        private int totalRows;
+        private int importedCount;
+        private int failedCount;
+        
+        ImportRun(BrandManager manager, Map<Long, BrandCategory> categories, Set<String> brandNames) {
+            this.manager = manager;
+            this.categories = categories;
+            this.brandNames = brandNames;
+        }
+        
+        void fail(long rowNumber, String brandName, String message) {
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(BrandImportResponse.RowError.builder()
+                    .rowNumber(rowNumber)
+                    .brandName(brandName)
+                    .message(message)
+                    .build());
+            }
+        }
+    }
+    
+    /**
+     * 입력 한 행 (파싱 실패 시 request 대신 error)
+     */
+    private record Row(long rowNumber, BrandCreateRequest request, String error) {
+    }
+    
+    private interface RowSource {
+        Row next() throws IOException;
+    }
+    
+    /**
+     * CSV 입력 (헤더 이름으로 열 위치를 찾고, 모르는 열은 무시)
+     */
+    private static final class CsvRows implements RowSource {
+        private final CsvRecordReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private long rowNumber = 1;
+        
+        CsvRows(Reader input) throws IOException {
+            this.reader = new CsvRecordReader(input);
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                String name = i == 0 && header.get(i).startsWith(CSV_BOM) ? header.get(i).substring(1) : header.get(i);
+                columns.put(name.trim(), i);
+            }
+            for (String required : List.of("brandName", "categoryId")) {
+                if (!columns.containsKey(required)) {
+                    throw new IllegalArgumentException("CSV 헤더에 " + required + " 열이 없습니다.");
+                }
+            }
+        }
+        
+        @Override
+        public Row next() throws IOException {
+            List<String> fields;
+            try {
+                fields = reader.next();
+            } catch (IllegalArgumentException e) {
+                // 닫히지 않은 따옴표는 입력 끝까지 읽은 상태이므로 해당 행만 실패 처리하고 종료
+                return new Row(++rowNumber, null, e.getMessage());
+            }
+            if (fields == null) {
+                return null;
+            }
+            rowNumber++;
+            
+            String brandName = field(fields, "brandName");
+            try {
+                BrandCreateRequest request = BrandCreateRequest.builder()
+                    .brandName(brandName)
+                    .categoryId(parse(fields, "categoryId", Long::valueOf))
+                    .initialCost(parse(fields, "initialCost", BigDecimal::new))
+                    .totalInvestment(parse(fields, "totalInvestment", BigDecimal::new))
+                    .avgMonthlyRevenue(parse(fields, "avgMonthlyRevenue", BigDecimal::new))
+                    .storeCount(parse(fields, "storeCount", Integer::valueOf))
+                    .brandDescription(field(fields, "brandDescription"))
+                    .build();
+                return new Row(rowNumber, request, null);
+            } catch (InvalidFieldException e) {
+                return new Row(rowNumber, BrandCreateRequest.builder().brandName(brandName).build(), e.getMessage());
+            }
+        }
+        
+        // 빈 값은 null
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+                return null;
+            }
+            return fields.get(index);
+        }
+        
+        private <T> T parse(List<String> fields, String column, Function<String, T> parser) {
+            String value = field(fields, column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return parser.apply(value.replace(",", ""));
+            } catch (NumberFormatException e) {
+                throw new InvalidFieldException(column + " 값이 올바른 숫자가 아닙니다: " + value);
+            }
+        }
+    }
+    
+    /**
+     * NDJSON 입력 (빈 줄은 건너뜀, 한 줄에 JSON 객체 하나)
+     */
+    private final class JsonLineRows implements RowSource {
+        private final BufferedReader reader;
+        private long lineNumber;
+        
+        JsonLineRows(Reader input) {
+            this.reader = new BufferedReader(input);
+        }
+        
+        @Override
+        public Row next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber++;
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+            
+            try {
+                // null/숫자/배열 등 객체가 아닌 줄도 행 오류로 처리 (readValue("null")은 예외 없이 null을 반환)
+                JsonNode node = objectMapper.readTree(line);
+                if (node == null || !node.isObject()) {
+                    return new Row(lineNumber, null, "JSON 객체가 아닙니다.");
+                }
+                return new Row(lineNumber, objectMapper.treeToValue(node, BrandCreateRequest.class), null);
+            } catch (JsonProcessingException e) {
+                return new Row(lineNumber, null, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            }
+        }
+    }
+    
+    private static final class InvalidFieldException extends RuntimeException {
+        InvalidFieldException(String message) {
+            super(message);
+        }
+    }
+}
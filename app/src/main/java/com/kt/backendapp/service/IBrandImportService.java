@@ -0,0 +1,18 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.dto.request.brand.BrandImportFormat;
+import com.kt.backendapp.dto.response.brand.BrandImportResponse;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 브랜드 일괄 등록 서비스 인터페이스
+ */
+public interface IBrandImportService {
+    
+    /**
+     * CSV/NDJSON 입력을 스트리밍으로 읽어 브랜드 일괄 등록 (행별 실패 사유 포함)
+     */
+    BrandImportResponse importBrands(Long managerId, BrandImportFormat format, Reader input) throws IOException;
+}
@@ -1,5 +1,6 @@
 package com.kt.backendapp.service;
 
+import com.kt.backendapp.dto.common.PageResponse;
 import com.kt.backendapp.dto.request.consultation.ConsultationCreateRequest;
 import com.kt.backendapp.dto.request.consultation.ConsultationRescheduleRequest;
 import com.kt.backendapp.dto.request.consultation.ConsultationUserResponseRequest;
@@ -24,6 +25,11 @@ public interface IConsultationService {
      */
     Page<ConsultationResponse> getUserConsultations(Long userId, Pageable pageable);
     
+    /**
+     * 사용자의 상담 목록 커서 조회 (첫 페이지 이후, 전체 개수 없이 다음 묶음만 조회)
+     */
+    PageResponse<ConsultationResponse> getUserConsultationsAfter(Long userId, String cursor, int size);
+    
     /**
      * 사용자의 일정 조정 요청 목록 조회
      */
@@ -34,6 +40,11 @@ public interface IConsultationService {
      */
     Page<ConsultationResponse> getManagerConsultations(Long managerId, Pageable pageable);
     
+    /**
+     * 매니저의 상담 목록 커서 조회 (첫 페이지 이후, 전체 개수 없이 다음 묶음만 조회)
+     */
+    PageResponse<ConsultationResponse> getManagerConsultationsAfter(Long managerId, String cursor, int size);
+    
     /**
      * 매니저의 상담 일정 조정 요청 (권한 검증 포함)
      */
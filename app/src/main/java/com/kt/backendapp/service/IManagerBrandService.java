@@ -1,11 +1,15 @@
 package com.kt.backendapp.service;
 
+import com.kt.backendapp.dto.common.PageResponse;
+import com.kt.backendapp.dto.common.SortOption;
 import com.kt.backendapp.dto.request.brand.BrandCreateRequest;
 import com.kt.backendapp.dto.request.brand.BrandUpdateRequest;
 import com.kt.backendapp.dto.response.brand.BrandDetailResponse;
 import com.kt.backendapp.dto.response.brand.BrandListResponse;
 import com.kt.backendapp.dto.response.brand.CategoryResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -23,6 +27,16 @@ public interface IManagerBrandService {
      */
     List<BrandListResponse> getAllBrands(Long managerId);
     
+    /**
+     * 전체 브랜드 목록 스트리밍 출력 (매니저용, ApiResponse 형태 JSON을 out에 직접 기록)
+     */
+    void writeAllBrands(Long managerId, OutputStream out) throws IOException;
+    
+    /**
+     * 전체 브랜드 목록 커서 페이지 조회 (매니저용, 관리 여부 표시)
+     */
+    PageResponse<BrandListResponse> getAllBrandsPage(Long managerId, SortOption sort, String cursor, int size);
+    
     /**
      * 매니저의 브랜드 목록 조회 (전체 목록)
      */
@@ -1,5 +1,7 @@
 package com.kt.backendapp.service;
 
+import com.kt.backendapp.dto.common.PageResponse;
+import com.kt.backendapp.dto.response.notification.NotificationResponse;
 import com.kt.backendapp.entity.Consultation;
 import com.kt.backendapp.entity.Notification;
 import com.kt.backendapp.entity.RecipientType;
@@ -32,6 +34,12 @@ public interface INotificationService {
      */
     Page<Notification> getManagerNotifications(Long managerId, Pageable pageable);
     
+    /**
+     * 수신자의 알림 목록 커서 조회 (첫 페이지 이후, 전체 개수 없이 다음 묶음만 조회)
+     */
+    PageResponse<NotificationResponse> getNotificationsAfter(Long recipientId, RecipientType recipientType,
+                                                             String cursor, int size);
+    
     /**
      * 알림 읽음 처리
      */
@@ -1,9 +1,20 @@
 package com.kt.backendapp.service;
 
+import com.kt.backendapp.dto.common.PageResponse;
+import com.kt.backendapp.dto.common.SortOption;
+import com.kt.backendapp.dto.common.TrendWindow;
+import com.kt.backendapp.dto.request.brand.BrandFilterRequest;
 import com.kt.backendapp.dto.response.brand.BrandDetailResponse;
+import com.kt.backendapp.dto.response.brand.BrandFilterResponse;
 import com.kt.backendapp.dto.response.brand.BrandListResponse;
+import com.kt.backendapp.dto.response.brand.BrandSuggestionResponse;
 import com.kt.backendapp.dto.response.brand.CategoryResponse;
+import com.kt.backendapp.dto.response.brand.RecommendedBrandResponse;
+import com.kt.backendapp.dto.response.brand.SimilarBrandResponse;
+import com.kt.backendapp.dto.response.brand.TrendingBrandResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -16,21 +27,73 @@ public interface IPublicBrandService {
      */
     List<BrandListResponse> getPublicBrands(Long managerId);
     
+    /**
+     * 공개 브랜드 목록 스트리밍 출력 (ApiResponse 형태 JSON을 out에 직접 기록)
+     */
+    void writePublicBrands(Long managerId, OutputStream out) throws IOException;
+    
+    /**
+     * 공개 브랜드 목록 커서 페이지 조회
+     */
+    PageResponse<BrandListResponse> getPublicBrandsPage(Long managerId, SortOption sort, String cursor, int size);
+    
     /**
      * 공개 브랜드 상세 조회 (기본 정보만)
      */
     BrandDetailResponse getPublicBrandDetail(Long brandId);
     
+    /**
+     * 브랜드 조회수 집계만 수행 (본문 없이 304로 응답하는 상세 조회용)
+     */
+    void recordView(Long brandId);
+    
     /**
      * 카테고리별 브랜드 목록 조회
      */
     List<BrandListResponse> getBrandsByCategory(Long categoryId, Long managerId);
     
+    /**
+     * 카테고리별 브랜드 목록 커서 페이지 조회
+     */
+    PageResponse<BrandListResponse> getBrandsByCategoryPage(Long categoryId, Long managerId,
+                                                            SortOption sort, String cursor, int size);
+    
     /**
      * 브랜드 검색
      */
     List<BrandListResponse> searchBrands(String keyword, Long managerId);
     
+    /**
+     * 브랜드 검색 커서 페이지 조회
+     */
+    PageResponse<BrandListResponse> searchBrandsPage(String keyword, Long managerId,
+                                                     SortOption sort, String cursor, int size);
+    
+    /**
+     * 재무 지표 범위/카테고리 필터 (결과 커서 페이지 + 패싯 개수)
+     */
+    BrandFilterResponse filterBrands(BrandFilterRequest request, Long managerId);
+    
+    /**
+     * 인기 급상승 브랜드 (최근 조회수 감쇠 점수순, categoryId가 있으면 해당 카테고리만)
+     */
+    List<TrendingBrandResponse> getTrendingBrands(TrendWindow window, Long categoryId, int limit);
+    
+    /**
+     * 함께 찜한 브랜드 (찜 공동 발생 유사도순)
+     */
+    List<RecommendedBrandResponse> getAlsoSavedBrands(Long brandId, int limit);
+    
+    /**
+     * 재무 지표가 비슷한 브랜드 (k-최근접 이웃, 가까운 순)
+     */
+    List<SimilarBrandResponse> getSimilarBrands(Long brandId, int limit);
+    
+    /**
+     * 브랜드명 자동완성 (자모/초성 접두어, 인기도순)
+     */
+    List<BrandSuggestionResponse> autocompleteBrands(String keyword, int limit);
+    
     /**
      * 카테고리 목록 조회
      */
@@ -1,5 +1,7 @@
 package com.kt.backendapp.service;
 
+import com.kt.backendapp.dto.common.PageResponse;
+import com.kt.backendapp.dto.common.SortOption;
 import com.kt.backendapp.dto.response.brand.BrandDetailResponse;
 import com.kt.backendapp.dto.response.brand.BrandListResponse;
 
@@ -16,6 +18,11 @@ public interface IUserBrandService {
      */
     List<BrandListResponse> getUserBrands(Long userId);
     
+    /**
+     * 유저용 브랜드 목록 커서 페이지 조회 (찜 상태 포함)
+     */
+    PageResponse<BrandListResponse> getUserBrandsPage(Long userId, SortOption sort, String cursor, int size);
+    
     /**
      * 유저용 브랜드 상세 조회 (찜 상태, 관련 브랜드, 카테고리 통계 포함)
      */
@@ -1,5 +1,14 @@
 package com.kt.backendapp.service;
 
+import com.kt.backendapp.cache.ReferenceDataRegistry;
+import com.kt.backendapp.catalog.BrandCatalog;
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import com.kt.backendapp.catalog.BrandCatalogPage;
+import com.kt.backendapp.catalog.BrandChangedEvent;
+import com.kt.backendapp.catalog.BrandListJsonWriter;
+import com.kt.backendapp.catalog.CategoryCountCache;
+import com.kt.backendapp.dto.common.PageResponse;
+import com.kt.backendapp.dto.common.SortOption;
 import com.kt.backendapp.dto.request.brand.BrandCreateRequest;
 import com.kt.backendapp.dto.request.brand.BrandUpdateRequest;
 import com.kt.backendapp.dto.response.brand.BrandDetailResponse;
@@ -9,9 +18,13 @@ import com.kt.backendapp.entity.*;
 import com.kt.backendapp.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,25 +35,22 @@ import java.util.stream.Collectors;
 public class ManagerBrandService implements IManagerBrandService {
     
     private final BrandRepository brandRepository;
-    private final BrandCategoryRepository brandCategoryRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final BrandManagerRepository brandManagerRepository;
     private final BrandDetailRepository brandDetailRepository;
     private final IViewCountService viewCountService;
+    private final BrandCatalog brandCatalog;
+    private final CategoryCountCache categoryCountCache;
+    private final BrandListJsonWriter brandListJsonWriter;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 카테고리 목록 조회
      * GET /api/manager/categories
      */
     public List<CategoryResponse> getCategories() {
-        List<BrandCategory> categories = brandCategoryRepository.findAll();
-        
-        return categories.stream()
-            .map(category -> {
-                // 각 카테고리별 브랜드 수 계산
-                Long brandCount = brandRepository.countByCategory(category);
-                return CategoryResponse.from(category, brandCount);
-            })
-            .collect(Collectors.toList());
+        // 카테고리별 브랜드 수는 캐시에서 조회 (정상 상태에서는 DB 조회 없음)
+        return categoryCountCache.getCategories();
     }
     
     /**
@@ -48,15 +58,12 @@ public class ManagerBrandService implements IManagerBrandService {
      * GET /api/manager/brands/all
      */
     public List<BrandListResponse> getAllBrands(Long managerId) {
-        // 전체 브랜드 조회 (페이징 없음)
-        List<Brand> brands = brandRepository.findAllWithDetails();
+        // 전체 브랜드 조회 (페이징 없음, 카탈로그 스냅샷의 이름순 인덱스)
+        List<BrandCatalogEntry> entries = brandCatalog.snapshot().sorted(SortOption.NAME_ASC);
         
-        return brands.stream()
-            .map(brand -> {
-                // 매니저가 관리하는 브랜드인지 확인
-                boolean isManaged = brand.getManager().getManagerId().equals(managerId);
-                return BrandListResponse.from(brand, false, isManaged); // 매니저는 찜 기능 없음, 관리 여부 표시
-            })
+        return entries.stream()
+            // 매니저는 찜 기능 없음, 관리 여부 표시
+            .map(entry -> BrandListResponse.from(entry, false, entry.isManagedBy(managerId)))
             .sorted((a, b) -> {
                 // 매니저가 관리하는 브랜드를 상위로 정렬
                 if (a.isManaged() && !b.isManaged()) return -1;
@@ -66,15 +73,48 @@ public class ManagerBrandService implements IManagerBrandService {
             .collect(Collectors.toList());
     }
     
+    /**
+     * 전체 브랜드 목록 스트리밍 출력 (매니저용)
+     * - getAllBrands와 같은 순서: 관리 브랜드 먼저, 그다음 나머지 (각각 이름순)
+     * - 이름순 인덱스를 두 번 순회해 정렬용 목록 없이 출력
+     * - DB를 쓰지 않으므로 트랜잭션 없이 실행 (응답 전송 동안 커넥션을 잡지 않음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeAllBrands(Long managerId, OutputStream out) throws IOException {
+        List<BrandCatalogEntry> entries = brandCatalog.snapshot().sorted(SortOption.NAME_ASC);
+        Iterable<BrandCatalogEntry> managed = () -> entries.stream()
+            .filter(entry -> entry.isManagedBy(managerId)).iterator();
+        Iterable<BrandCatalogEntry> others = () -> entries.stream()
+            .filter(entry -> !entry.isManagedBy(managerId)).iterator();
+        
+        brandListJsonWriter.writeSuccess(out, "전체 브랜드 목록 조회가 완료되었습니다.",
+            entry -> BrandListResponse.from(entry, false, entry.isManagedBy(managerId)),
+            managed, others);
+    }
+    
+    /**
+     * 전체 브랜드 목록 커서 페이지 조회 (매니저용)
+     * - 커서 일관성을 위해 관리 브랜드 우선 정렬 없이 요청한 정렬 기준만 적용 (관리 여부는 isManaged로 표시)
+     */
+    public PageResponse<BrandListResponse> getAllBrandsPage(Long managerId, SortOption sort, String cursor, int size) {
+        BrandCatalogPage page = BrandCatalogPage.of(brandCatalog.snapshot().sorted(sort), sort, cursor, size);
+        
+        List<BrandListResponse> content = page.getEntries().stream()
+            .map(entry -> BrandListResponse.from(entry, false, entry.isManagedBy(managerId)))
+            .collect(Collectors.toList());
+        return PageResponse.ofCursor(content, page.getOffset(), page.getSize(),
+            page.getTotalElements(), page.getNextCursor());
+    }
+    
     /**
      * 매니저의 브랜드 목록 조회 (전체 목록)
      * GET /api/v1/manager/brands
      */
     public List<BrandListResponse> getManagerBrands(Long managerId) {
-        List<Brand> brands = brandRepository.findAllByManagerManagerId(managerId);
+        List<BrandCatalogEntry> brands = brandRepository.findCatalogEntriesByManagerId(managerId);
         
         return brands.stream()
-            .map(brand -> BrandListResponse.from(brand, false)) // 매니저는 찜 기능 없음
+            .map(entry -> BrandListResponse.from(entry, false, false)) // 매니저는 찜 기능 없음
             .collect(Collectors.toList());
     }
     
@@ -133,7 +173,7 @@ public class ManagerBrandService implements IManagerBrandService {
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 매니저입니다."));
         
         // 카테고리 존재 확인
-        BrandCategory category = brandCategoryRepository.findById(request.getCategoryId())
+        BrandCategory category = referenceDataRegistry.findCategory(request.getCategoryId())
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다."));
         
         // 브랜드명 중복 확인
@@ -167,6 +207,9 @@ public class ManagerBrandService implements IManagerBrandService {
         Brand savedBrand = brandRepository.save(brand);
         brandDetailRepository.save(brandDetail);
         
+        // 카탈로그 반영 (커밋 이후 적용)
+        eventPublisher.publishEvent(BrandChangedEvent.upserted(BrandCatalogEntry.from(savedBrand)));
+        
         // 응답 생성
         return BrandDetailResponse.builder()
             .brandId(savedBrand.getBrandId())
@@ -206,7 +249,7 @@ public class ManagerBrandService implements IManagerBrandService {
         
         // 카테고리 존재 확인 (카테고리 변경 시)
         if (!brand.getCategory().getCategoryId().equals(request.getCategoryId())) {
-            BrandCategory newCategory = brandCategoryRepository.findById(request.getCategoryId())
+            BrandCategory newCategory = referenceDataRegistry.findCategory(request.getCategoryId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다."));
             brand.setCategory(newCategory);
         }
@@ -231,6 +274,9 @@ public class ManagerBrandService implements IManagerBrandService {
         // 저장 (더티 체킹으로 자동 업데이트)
         Brand updatedBrand = brandRepository.save(brand);
         
+        // 카탈로그 반영 (커밋 이후 적용)
+        eventPublisher.publishEvent(BrandChangedEvent.upserted(BrandCatalogEntry.from(updatedBrand)));
+        
         // 응답 생성
         return BrandDetailResponse.builder()
             .brandId(updatedBrand.getBrandId())
@@ -270,5 +316,8 @@ public class ManagerBrandService implements IManagerBrandService {
         
         // 브랜드 삭제 (BrandDetail은 cascade로 함께 삭제됨)
         brandRepository.delete(brand);
+        
+        // 카탈로그 반영 (커밋 이후 적용)
+        eventPublisher.publishEvent(BrandChangedEvent.deleted(brandId));
     }
 }
\ No newline at end of file
@@ -1,11 +1,18 @@
 package com.kt.backendapp.service;
 
+import com.kt.backendapp.cache.NotificationsChangedEvent;
+import com.kt.backendapp.dto.common.PageResponse;
+import com.kt.backendapp.dto.response.notification.NotificationResponse;
 import com.kt.backendapp.entity.*;
 import com.kt.backendapp.repository.NotificationRepository;
+import com.kt.backendapp.util.CreatedAtCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationService implements INotificationService {
     
     private final NotificationRepository notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 상담 상태 변경 시 사용자와 매니저에게 알림 생성 (안전한 버전)
@@ -100,6 +108,9 @@ public class NotificationService implements INotificationService {
             
             Notification savedNotification = notificationRepository.save(notification);
             log.info("알림 저장 완료 - 알림ID: {}", savedNotification.getNotificationId());
+            
+            // 수신자 알림 버전 증가 (커밋 이후 적용)
+            eventPublisher.publishEvent(new NotificationsChangedEvent(recipientId, recipientType));
         } catch (Exception e) {
             log.error("개별 알림 생성 실패 - 수신자ID: {}, 타입: {}, 오류: {}", 
                     recipientId, recipientType, e.getMessage(), e);
@@ -125,6 +136,21 @@ public class NotificationService implements INotificationService {
             managerId, RecipientType.MANAGER, pageable);
     }
     
+    /**
+     * 수신자의 알림 목록 커서 조회
+     * - 이전 응답의 nextCursor 다음부터 size개 조회 (OFFSET으로 건너뛰거나 전체 개수를 세지 않음)
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<NotificationResponse> getNotificationsAfter(Long recipientId, RecipientType recipientType,
+                                                                    String cursor, int size) {
+        CreatedAtCursor.validateSize(size);
+        CreatedAtCursor position = CreatedAtCursor.decode(cursor);
+        Slice<Notification> notifications = notificationRepository.findByRecipientBefore(
+            recipientId, recipientType, position.getCreatedAt(), position.getId(), PageRequest.ofSize(size));
+        return PageResponse.ofSlice(notifications.map(NotificationResponse::from),
+            n -> CreatedAtCursor.encode(n.getCreatedAt(), n.getNotificationId()));
+    }
+    
     /**
      * 알림 읽음 처리
      */
@@ -135,6 +161,10 @@ public class NotificationService implements INotificationService {
         
         notification.setIsRead(true);
         notificationRepository.save(notification);
+        
+        // 수신자 알림 버전 증가 (커밋 이후 적용)
+        eventPublisher.publishEvent(new NotificationsChangedEvent(
+            notification.getRecipientId(), notification.getRecipientType()));
     }
     
     /**
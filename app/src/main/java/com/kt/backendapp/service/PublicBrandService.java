@@ -1,21 +1,50 @@
 package com.kt.backendapp.service;
 
+import com.kt.backendapp.cache.ReferenceDataRegistry;
+import com.kt.backendapp.catalog.BrandCatalog;
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import com.kt.backendapp.catalog.BrandCatalogPage;
+import com.kt.backendapp.catalog.BrandCatalogSnapshot;
+import com.kt.backendapp.catalog.BrandListJsonWriter;
+import com.kt.backendapp.catalog.BrandMetric;
+import com.kt.backendapp.catalog.BrandTrendCounter;
+import com.kt.backendapp.catalog.CategoryCountCache;
+import com.kt.backendapp.dto.common.PageResponse;
+import com.kt.backendapp.dto.common.SortOption;
+import com.kt.backendapp.dto.common.TrendWindow;
+import com.kt.backendapp.dto.request.brand.BrandFilterRequest;
 import com.kt.backendapp.dto.response.brand.BrandDetailResponse;
+import com.kt.backendapp.dto.response.brand.BrandFilterResponse;
 import com.kt.backendapp.dto.response.brand.BrandListResponse;
+import com.kt.backendapp.dto.response.brand.BrandSuggestionResponse;
 import com.kt.backendapp.dto.response.brand.CategoryResponse;
+import com.kt.backendapp.dto.response.brand.RecommendedBrandResponse;
+import com.kt.backendapp.dto.response.brand.SimilarBrandResponse;
+import com.kt.backendapp.dto.response.brand.TrendingBrandResponse;
 import com.kt.backendapp.entity.Brand;
+import com.kt.backendapp.recommend.CoSaveRecommender;
 import com.kt.backendapp.repository.BrandRepository;
 import com.kt.backendapp.repository.BrandDetailRepository;
-import com.kt.backendapp.repository.BrandCategoryRepository;
 import com.kt.backendapp.repository.SavedBrandRepository;
+import com.kt.backendapp.search.BrandAutocompleteIndex;
+import com.kt.backendapp.search.BrandFacetIndex;
+import com.kt.backendapp.search.BrandSearchIndex;
+import com.kt.backendapp.search.BrandSimilarityIndex;
+import com.kt.backendapp.util.LongHashSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
-import com.kt.backendapp.entity.BrandCategory;
 
 @Service
 @RequiredArgsConstructor
@@ -24,40 +53,40 @@ import com.kt.backendapp.entity.BrandCategory;
 public class PublicBrandService implements IPublicBrandService {
     
     private final BrandRepository brandRepository;
-    private final BrandCategoryRepository brandCategoryRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final SavedBrandRepository savedBrandRepository;
     private final IViewCountService viewCountService;
+    private final BrandCatalog brandCatalog;
+    private final BrandSearchIndex brandSearchIndex;
+    private final BrandAutocompleteIndex brandAutocompleteIndex;
+    private final BrandFacetIndex brandFacetIndex;
+    private final BrandTrendCounter brandTrendCounter;
+    private final CoSaveRecommender coSaveRecommender;
+    private final BrandSimilarityIndex brandSimilarityIndex;
+    
+    // 인기 급상승 조회 최대 개수
+    private static final int MAX_TRENDING = 50;
+    // 비슷한 브랜드 조회 최대 개수
+    private static final int MAX_SIMILAR = 50;
+    // 재구성 전 트리에 남아 있는 삭제 브랜드를 걸러낸 뒤에도 요청 개수를 채우기 위한 여유분
+    private static final int SIMILAR_SLACK = 8;
+    private final CategoryCountCache categoryCountCache;
+    private final BrandListJsonWriter brandListJsonWriter;
     
     /**
      * 공개 브랜드 목록 조회 (기본 정보만)
+     * - 카탈로그 스냅샷의 이름순 인덱스 사용 (DB 조회 없음)
      */
     public List<BrandListResponse> getPublicBrands(Long managerId) {
         log.info("=== 공개 브랜드 목록 조회 시작: managerId={} ===", managerId);
         
         try {
-            // 전체 브랜드 목록 조회 (연관 엔티티 포함)
-            List<Brand> brands = brandRepository.findAllWithDetails();
-            log.info("Repository에서 조회된 브랜드 수: {}", brands != null ? brands.size() : "null");
-            
-            if (brands != null && !brands.isEmpty()) {
-                log.debug("첫 번째 브랜드 정보: {}", brands.get(0));
-            }
+            BrandCatalogSnapshot snapshot = brandCatalog.snapshot();
+            log.info("카탈로그에서 조회된 브랜드 수: {} (version={})", snapshot.size(), snapshot.getVersion());
             
-            // Brand → BrandListResponse 변환 (찜 상태는 false로 설정, 매니저인 경우 isManaged 필드 설정)
-            log.info("매니저 ID로 isManaged 필드 설정 시작: managerId={}", managerId);
-            List<BrandListResponse> responses = brands.stream()
-                .map(brand -> {
-                    boolean isManaged = false;
-                    if (managerId != null) {
-                        Long brandManagerId = brand.getManager().getManagerId();
-                        isManaged = brandManagerId.equals(managerId);
-                        log.info("브랜드 {} 매니저 ID 비교: brandManagerId={}, requestManagerId={}, isManaged={}", 
-                            brand.getBrandName(), brandManagerId, managerId, isManaged);
-                    } else {
-                        log.info("매니저 ID가 null이므로 isManaged=false로 설정");
-                    }
-                    return BrandListResponse.from(brand, false, isManaged);
-                })
+            // 카탈로그 항목 → BrandListResponse 변환 (찜 상태는 false로 설정, 매니저인 경우 isManaged 필드 설정)
+            List<BrandListResponse> responses = snapshot.sorted(SortOption.NAME_ASC).stream()
+                .map(entry -> BrandListResponse.from(entry, false, entry.isManagedBy(managerId)))
                 .collect(Collectors.toList());
             
             log.info("변환 완료된 응답 수: {}", responses.size());
@@ -70,6 +99,33 @@ public class PublicBrandService implements IPublicBrandService {
         }
     }
     
+    /**
+     * 공개 브랜드 목록 스트리밍 출력
+     * - 스냅샷의 이름순 인덱스를 순회하며 행 단위로 바로 직렬화 (응답 목록을 만들지 않음)
+     * - DB를 쓰지 않으므로 트랜잭션 없이 실행 (응답 전송 동안 커넥션을 잡지 않음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writePublicBrands(Long managerId, OutputStream out) throws IOException {
+        BrandCatalogSnapshot snapshot = brandCatalog.snapshot();
+        log.info("공개 브랜드 목록 스트리밍 시작: managerId={}, 브랜드 수={} (version={})",
+            managerId, snapshot.size(), snapshot.getVersion());
+        
+        brandListJsonWriter.writeSuccess(out, "공개 브랜드 목록 조회가 완료되었습니다.",
+            entry -> BrandListResponse.from(entry, false, entry.isManagedBy(managerId)),
+            snapshot.sorted(SortOption.NAME_ASC));
+    }
+    
+    /**
+     * 공개 브랜드 목록 커서 페이지 조회
+     * - 정렬 기준별 카탈로그 인덱스에서 커서 위치를 이진 탐색해 size개만 변환
+     */
+    public PageResponse<BrandListResponse> getPublicBrandsPage(Long managerId, SortOption sort, String cursor, int size) {
+        log.info("=== 공개 브랜드 목록 페이지 조회: managerId={}, sort={}, size={} ===", managerId, sort, size);
+        
+        BrandCatalogPage page = BrandCatalogPage.of(brandCatalog.snapshot().sorted(sort), sort, cursor, size);
+        return toPageResponse(page, managerId);
+    }
+    
     /**
      * 공개 브랜드 상세 조회 (기본 정보만)
      */
@@ -94,6 +150,15 @@ public class PublicBrandService implements IPublicBrandService {
         }
     }
     
+    /**
+     * 브랜드 조회수 집계만 수행 (본문 없이 304로 응답하는 상세 조회용)
+     * - 조회수 누적은 메모리에서만 이루어지므로 DB 조회 없음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recordView(Long brandId) {
+        viewCountService.incrementViewCount(brandId);
+    }
+    
     /**
      * 카테고리별 브랜드 목록 조회
      */
@@ -102,23 +167,18 @@ public class PublicBrandService implements IPublicBrandService {
         
         try {
             // 카테고리 존재 여부 확인
-            if (!brandCategoryRepository.existsById(categoryId)) {
+            if (!referenceDataRegistry.categoryExists(categoryId)) {
                 throw new IllegalArgumentException("존재하지 않는 카테고리입니다.");
             }
             
-            // 카테고리별 브랜드 목록 조회
-            List<Brand> brands = brandRepository.findBrandsByCategoryWithDetails(categoryId);
-            log.info("카테고리 {}에서 조회된 브랜드 수: {}", categoryId, brands.size());
+            // 카테고리별 브랜드 목록 조회 (카탈로그의 카테고리별 조회수순 인덱스)
+            List<BrandCatalogEntry> entries = brandCatalog.snapshot()
+                .sortedByCategory(categoryId, SortOption.VIEW_COUNT_DESC);
+            log.info("카테고리 {}에서 조회된 브랜드 수: {}", categoryId, entries.size());
             
-            // Brand → BrandListResponse 변환 (찜 상태는 false로 설정, 매니저인 경우 isManaged 필드 설정)
-            List<BrandListResponse> responses = brands.stream()
-                .map(brand -> {
-                    boolean isManaged = false;
-                    if (managerId != null) {
-                        isManaged = brand.getManager().getManagerId().equals(managerId);
-                    }
-                    return BrandListResponse.from(brand, false, isManaged);
-                })
+            // 카탈로그 항목 → BrandListResponse 변환 (찜 상태는 false로 설정, 매니저인 경우 isManaged 필드 설정)
+            List<BrandListResponse> responses = entries.stream()
+                .map(entry -> BrandListResponse.from(entry, false, entry.isManagedBy(managerId)))
                 .collect(Collectors.toList());
             
             log.info("=== 카테고리별 브랜드 목록 조회 완료 ===");
@@ -130,6 +190,23 @@ public class PublicBrandService implements IPublicBrandService {
         }
     }
     
+    /**
+     * 카테고리별 브랜드 목록 커서 페이지 조회
+     */
+    public PageResponse<BrandListResponse> getBrandsByCategoryPage(Long categoryId, Long managerId,
+                                                                   SortOption sort, String cursor, int size) {
+        log.info("=== 카테고리별 브랜드 목록 페이지 조회: categoryId={}, sort={}, size={} ===", categoryId, sort, size);
+        
+        // 카테고리 존재 여부 확인
+        if (!referenceDataRegistry.categoryExists(categoryId)) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다.");
+        }
+        
+        BrandCatalogPage page = BrandCatalogPage.of(
+            brandCatalog.snapshot().sortedByCategory(categoryId, sort), sort, cursor, size);
+        return toPageResponse(page, managerId);
+    }
+    
     /**
      * 브랜드 검색
      */
@@ -141,19 +218,13 @@ public class PublicBrandService implements IPublicBrandService {
                 throw new IllegalArgumentException("검색어를 입력해주세요.");
             }
             
-            // 키워드로 브랜드 검색
-            List<Brand> brands = brandRepository.findByBrandNameContainingIgnoreCase(keyword.trim());
-            log.info("키워드 '{}'로 검색된 브랜드 수: {}", keyword, brands.size());
+            // 키워드로 브랜드 검색 (n-gram 색인, 접두어 > 단어 접두어 > 부분 일치 > 조회수순)
+            List<BrandCatalogEntry> entries = brandSearchIndex.search(keyword);
+            log.info("키워드 '{}'로 검색된 브랜드 수: {}", keyword, entries.size());
             
-            // Brand → BrandListResponse 변환 (찜 상태는 false로 설정, 매니저인 경우 isManaged 필드 설정)
-            List<BrandListResponse> responses = brands.stream()
-                .map(brand -> {
-                    boolean isManaged = false;
-                    if (managerId != null) {
-                        isManaged = brand.getManager().getManagerId().equals(managerId);
-                    }
-                    return BrandListResponse.from(brand, false, isManaged);
-                })
+            // 카탈로그 항목 → BrandListResponse 변환 (찜 상태는 false로 설정, 매니저인 경우 isManaged 필드 설정)
+            List<BrandListResponse> responses = entries.stream()
+                .map(entry -> BrandListResponse.from(entry, false, entry.isManagedBy(managerId)))
                 .collect(Collectors.toList());
             
             log.info("=== 브랜드 검색 완료 ===");
@@ -166,30 +237,183 @@ public class PublicBrandService implements IPublicBrandService {
     }
     
     /**
-     * 카테고리 목록 조회
+     * 브랜드 검색 커서 페이지 조회
      */
-    public List<CategoryResponse> getCategories() {
-        log.info("=== 카테고리 목록 조회 시작 ===");
+    public PageResponse<BrandListResponse> searchBrandsPage(String keyword, Long managerId,
+                                                            SortOption sort, String cursor, int size) {
+        log.info("=== 브랜드 검색 페이지 조회: keyword={}, sort={}, size={} ===", keyword, sort, size);
         
-        try {
-            // 모든 카테고리 조회
-            List<BrandCategory> categories = brandCategoryRepository.findAll();
-            log.info("Repository에서 조회된 카테고리 수: {}", categories.size());
-            
-            // 각 카테고리의 브랜드 수 계산
-            List<CategoryResponse> responses = categories.stream()
-                .map(category -> {
-                    Long brandCount = brandRepository.countByCategoryCategoryId(category.getCategoryId());
-                    return CategoryResponse.from(category, brandCount);
-                })
-                .collect(Collectors.toList());
-            
-            log.info("=== 카테고리 목록 조회 완료 ===");
-            return responses;
-            
-        } catch (Exception e) {
-            log.error("카테고리 목록 조회 중 오류 발생: {}", e.getMessage(), e);
-            throw e;
+        if (keyword == null || keyword.trim().isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
         }
+        
+        // 색인 일치 ID로 페이지 구성 (정렬 인덱스 순서 유지, 카탈로그 전체를 훑지 않음)
+        LongHashSet matchedIds = brandSearchIndex.matchIds(keyword);
+        BrandCatalogPage page = BrandCatalogPage.ofMatches(brandCatalog.snapshot(), null, matchedIds, sort, cursor, size);
+        return toPageResponse(page, managerId);
+    }
+    
+    /**
+     * 재무 지표 범위/카테고리 필터
+     * - 조건 교차와 패싯 개수는 열 기반 필터 색인에서 계산 (DB 조회 없음)
+     * - 결과는 일치 ID로 정렬 인덱스 순서의 페이지를 구성하고 커서로 이어서 조회 (카탈로그 전체를 훑지 않음)
+     */
+    public BrandFilterResponse filterBrands(BrandFilterRequest request, Long managerId) {
+        log.info("=== 브랜드 필터 조회: request={} ===", request);
+        
+        Map<BrandMetric, BrandFacetIndex.Range> ranges = new EnumMap<>(BrandMetric.class);
+        addRange(ranges, BrandMetric.INITIAL_COST, request.getMinInitialCost(), request.getMaxInitialCost());
+        addRange(ranges, BrandMetric.TOTAL_INVESTMENT, request.getMinTotalInvestment(), request.getMaxTotalInvestment());
+        addRange(ranges, BrandMetric.AVG_MONTHLY_REVENUE,
+            request.getMinAvgMonthlyRevenue(), request.getMaxAvgMonthlyRevenue());
+        addRange(ranges, BrandMetric.STORE_COUNT,
+            request.getMinStoreCount() != null ? BigDecimal.valueOf(request.getMinStoreCount()) : null,
+            request.getMaxStoreCount() != null ? BigDecimal.valueOf(request.getMaxStoreCount()) : null);
+        
+        BrandFacetIndex.Result result = brandFacetIndex.filter(request.getCategoryId(), ranges);
+        
+        SortOption sort = request.getSort() != null ? request.getSort() : SortOption.VIEW_COUNT_DESC;
+        BrandCatalogPage page = BrandCatalogPage.ofMatches(brandCatalog.snapshot(), request.getCategoryId(),
+            result.brandIds(), sort, request.getCursor(), request.getSize());
+        
+        List<BrandFilterResponse.MetricFacet> metricFacets = new ArrayList<>();
+        result.metricFacets().forEach((metric, facet) -> {
+            List<BrandFilterResponse.Bucket> buckets = new ArrayList<>();
+            for (int i = 0; i < facet.counts().length; i++) {
+                buckets.add(BrandFilterResponse.Bucket.builder()
+                    .from(BigDecimal.valueOf(facet.bounds()[i]))
+                    .to(BigDecimal.valueOf(facet.bounds()[i + 1]))
+                    .count(facet.counts()[i])
+                    .build());
+            }
+            metricFacets.add(BrandFilterResponse.MetricFacet.builder().metric(metric).buckets(buckets).build());
+        });
+        List<BrandFilterResponse.CategoryFacet> categoryFacets = result.categoryCounts().entrySet().stream()
+            .map(count -> BrandFilterResponse.CategoryFacet.builder()
+                .categoryId(count.getKey())
+                .categoryName(result.categoryNames().get(count.getKey()))
+                .count(count.getValue())
+                .build())
+            .collect(Collectors.toList());
+        
+        return BrandFilterResponse.builder()
+            .brands(toPageResponse(page, managerId))
+            .metricFacets(metricFacets)
+            .categoryFacets(categoryFacets)
+            .build();
+    }
+    
+    private static void addRange(Map<BrandMetric, BrandFacetIndex.Range> ranges, BrandMetric metric,
+                                 BigDecimal min, BigDecimal max) {
+        if (min == null && max == null) {
+            return;
+        }
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new IllegalArgumentException(metric + " 범위의 최솟값이 최댓값보다 큽니다.");
+        }
+        ranges.put(metric, new BrandFacetIndex.Range(min, max));
+    }
+    
+    /**
+     * 인기 급상승 브랜드
+     * - 조회수 반영 시 누적되는 시간대별 카운터로 메모리에서 계산 (DB 조회 없음)
+     */
+    public List<TrendingBrandResponse> getTrendingBrands(TrendWindow window, Long categoryId, int limit) {
+        if (limit < 1 || limit > MAX_TRENDING) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_TRENDING + " 이하여야 합니다.");
+        }
+        
+        return brandTrendCounter.top(window, categoryId, limit).stream()
+            .map(TrendingBrandResponse::from)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * 이 브랜드를 찜한 사용자가 함께 찜한 브랜드
+     * - 미리 계산된 이웃 테이블에서 조회 (DB 조회 없음), 삭제된 브랜드는 카탈로그 기준으로 제외
+     */
+    public List<RecommendedBrandResponse> getAlsoSavedBrands(Long brandId, int limit) {
+        if (limit < 1 || limit > CoSaveRecommender.MAX_NEIGHBOURS) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + CoSaveRecommender.MAX_NEIGHBOURS + " 이하여야 합니다.");
+        }
+        
+        BrandCatalogSnapshot snapshot = brandCatalog.snapshot();
+        if (snapshot.get(brandId) == null) {
+            throw new IllegalArgumentException("존재하지 않는 브랜드입니다.");
+        }
+        
+        List<RecommendedBrandResponse> result = new ArrayList<>(limit);
+        for (CoSaveRecommender.Neighbour neighbour : coSaveRecommender.neighbours(brandId)) {
+            BrandCatalogEntry entry = snapshot.get(neighbour.brandId());
+            if (entry != null) {
+                result.add(RecommendedBrandResponse.from(neighbour, entry));
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 재무 지표(초기비용, 총투자금, 월평균매출, 매장수)가 비슷한 브랜드 (카테고리 무관)
+     * - KD-트리 k-최근접 이웃 검색 (DB 조회 없음)
+     */
+    public List<SimilarBrandResponse> getSimilarBrands(Long brandId, int limit) {
+        if (limit < 1 || limit > MAX_SIMILAR) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_SIMILAR + " 이하여야 합니다.");
+        }
+        
+        BrandCatalogSnapshot snapshot = brandCatalog.snapshot();
+        BrandCatalogEntry base = snapshot.get(brandId);
+        if (base == null) {
+            throw new IllegalArgumentException("존재하지 않는 브랜드입니다.");
+        }
+        
+        List<SimilarBrandResponse> result = new ArrayList<>(limit);
+        for (BrandSimilarityIndex.Neighbour neighbour : brandSimilarityIndex.nearest(base, limit + SIMILAR_SLACK)) {
+            BrandCatalogEntry entry = snapshot.get(neighbour.brandId());
+            if (entry != null) {
+                result.add(SimilarBrandResponse.from(entry, neighbour.distance()));
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 브랜드명 자동완성
+     * - 입력 중인 검색어(부분 음절, 초성 포함)로 시작하는 브랜드를 조회수순으로 반환
+     * - 빈 검색어는 오류 없이 빈 목록
+     */
+    public List<BrandSuggestionResponse> autocompleteBrands(String keyword, int limit) {
+        if (limit < 1 || limit > BrandAutocompleteIndex.MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("자동완성 개수는 1 이상 " + BrandAutocompleteIndex.MAX_SUGGESTIONS + " 이하여야 합니다.");
+        }
+        
+        return brandAutocompleteIndex.suggest(keyword, limit).stream()
+            .map(BrandSuggestionResponse::from)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * 카테고리 목록 조회
+     */
+    public List<CategoryResponse> getCategories() {
+        // 카테고리별 브랜드 수는 캐시에서 조회 (정상 상태에서는 DB 조회 없음)
+        List<CategoryResponse> responses = categoryCountCache.getCategories();
+        log.debug("카테고리 목록 조회 완료: {}개", responses.size());
+        return responses;
+    }
+    
+    // 카탈로그 페이지 → PageResponse 변환 (찜 상태는 false로 설정, 매니저인 경우 isManaged 필드 설정)
+    private PageResponse<BrandListResponse> toPageResponse(BrandCatalogPage page, Long managerId) {
+        List<BrandListResponse> content = page.getEntries().stream()
+            .map(entry -> BrandListResponse.from(entry, false, entry.isManagedBy(managerId)))
+            .collect(Collectors.toList());
+        return PageResponse.ofCursor(content, page.getOffset(), page.getSize(),
+            page.getTotalElements(), page.getNextCursor());
     }
-}
+}
\ No newline at end of file
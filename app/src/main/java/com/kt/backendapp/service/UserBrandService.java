@@ -1,5 +1,14 @@
 package com.kt.backendapp.service;
 
+import com.kt.backendapp.catalog.BrandCatalog;
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import com.kt.backendapp.catalog.BrandCatalogPage;
+import com.kt.backendapp.catalog.BrandMetric;
+import com.kt.backendapp.catalog.BrandSaveToggledEvent;
+import com.kt.backendapp.catalog.CategoryStatistics;
+import com.kt.backendapp.catalog.CategoryStatsStore;
+import com.kt.backendapp.dto.common.PageResponse;
+import com.kt.backendapp.dto.common.SortOption;
 import com.kt.backendapp.dto.response.brand.BrandDetailResponse;
 import com.kt.backendapp.dto.response.brand.BrandListResponse;
 import com.kt.backendapp.entity.Brand;
@@ -9,17 +18,21 @@ import com.kt.backendapp.repository.BrandDetailRepository;
 import com.kt.backendapp.repository.SavedBrandRepository;
 import com.kt.backendapp.repository.UserRepository;
 import com.kt.backendapp.entity.User;
+import com.kt.backendapp.util.LongHashSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.OptionalDouble;
 
 @Service
 @RequiredArgsConstructor
@@ -32,6 +45,12 @@ public class UserBrandService implements IUserBrandService {
     private final BrandDetailRepository brandDetailRepository;
     private final IViewCountService viewCountService;
     private final UserRepository userRepository;
+    private final BrandCatalog brandCatalog;
+    private final CategoryStatsStore categoryStatsStore;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    // 상세 조회 시 함께 내려주는 관련 브랜드 최대 개수
+    private static final int RELATED_BRAND_LIMIT = 5;
     
     /**
      * 유저용 브랜드 목록 조회 (찜 상태 포함)
@@ -40,20 +59,16 @@ public class UserBrandService implements IUserBrandService {
         log.info("=== 유저용 브랜드 목록 조회 시작: userId={} ===", userId);
         
         try {
-            // 전체 브랜드 목록 조회 (연관 엔티티 포함)
-            List<Brand> brands = brandRepository.findAllWithDetails();
-            log.info("Repository에서 조회된 브랜드 수: {}", brands != null ? brands.size() : "null");
+            // 전체 브랜드 목록 조회 (카탈로그 스냅샷의 이름순 인덱스, DB 조회 없음)
+            List<BrandCatalogEntry> entries = brandCatalog.snapshot().sorted(SortOption.NAME_ASC);
+            log.info("카탈로그에서 조회된 브랜드 수: {}", entries.size());
             
-            if (brands != null && !brands.isEmpty()) {
-                log.debug("첫 번째 브랜드 정보: {}", brands.get(0));
-            }
+            // 찜한 브랜드 ID를 한 번에 조회
+            LongHashSet savedBrandIds = loadSavedBrandIds(userId);
             
-            // Brand → BrandListResponse 변환 (찜 상태 포함)
-            List<BrandListResponse> responses = brands.stream()
-                .map(brand -> {
-                    boolean isSaved = savedBrandRepository.existsByUserUserIdAndBrandBrandId(userId, brand.getBrandId());
-                    return BrandListResponse.from(brand, isSaved);
-                })
+            // 카탈로그 항목 → BrandListResponse 변환 (찜 상태 포함)
+            List<BrandListResponse> responses = entries.stream()
+                .map(entry -> BrandListResponse.from(entry, savedBrandIds.contains(entry.getBrandId()), false))
                 .collect(Collectors.toList());
             
             log.info("변환 완료된 응답 수: {}", responses.size());
@@ -66,6 +81,23 @@ public class UserBrandService implements IUserBrandService {
         }
     }
     
+    /**
+     * 유저용 브랜드 목록 커서 페이지 조회 (찜 상태 포함)
+     * - 찜 상태는 이번 페이지 항목에 대해서만 판정
+     */
+    public PageResponse<BrandListResponse> getUserBrandsPage(Long userId, SortOption sort, String cursor, int size) {
+        log.info("=== 유저용 브랜드 목록 페이지 조회: userId={}, sort={}, size={} ===", userId, sort, size);
+        
+        BrandCatalogPage page = BrandCatalogPage.of(brandCatalog.snapshot().sorted(sort), sort, cursor, size);
+        LongHashSet savedBrandIds = loadSavedBrandIds(userId);
+        
+        List<BrandListResponse> content = page.getEntries().stream()
+            .map(entry -> BrandListResponse.from(entry, savedBrandIds.contains(entry.getBrandId()), false))
+            .collect(Collectors.toList());
+        return PageResponse.ofCursor(content, page.getOffset(), page.getSize(),
+            page.getTotalElements(), page.getNextCursor());
+    }
+    
     /**
      * 유저용 브랜드 상세 조회 (찜 상태, 관련 브랜드, 카테고리 통계 포함)
      */
@@ -87,63 +119,43 @@ public class UserBrandService implements IUserBrandService {
             // 조회수 증가 (시스템 관리값) - 공통 서비스 사용
             viewCountService.incrementViewCount(brandId);
             
-            // 찜 상태 확인 - null check 강화
-            boolean isSaved = false;
+            // 찜 상태 확인 (현재 브랜드 + 관련 브랜드를 한 번의 조회로 처리) - null check 강화
+            LongHashSet savedBrandIds = new LongHashSet();
             try {
-                isSaved = savedBrandRepository.existsByUserUserIdAndBrandBrandId(userId, brandId);
-                log.debug("찜 상태 확인 완료: {}", isSaved);
+                savedBrandIds = loadSavedBrandIds(userId);
             } catch (Exception e) {
                 log.warn("찜 상태 확인 중 오류 발생: {}", e.getMessage());
-                isSaved = false; // 기본값으로 설정
             }
+            boolean isSaved = savedBrandIds.contains(brandId);
+            log.debug("찜 상태 확인 완료: {}", isSaved);
             
-            // 카테고리 통계 계산 (계산값) - 임시로 비활성화하여 기본 기능 테스트
+            // 카테고리 통계 (계산값) - 누적 집계 저장소에서 O(1) 조회
             BrandDetailResponse.CategoryStats categoryStats = null;
-            log.debug("카테고리 통계 계산을 임시로 비활성화했습니다.");
-            // TODO: 카테고리 통계 계산 기능 활성화
-            // if (brand.getCategory() != null && brand.getCategory().getCategoryId() != null) {
-            //     try {
-            //         log.debug("카테고리 통계 계산 시작: categoryId={}", brand.getCategory().getCategoryId());
-            //         categoryStats = calculateCategoryStats(brand.getCategory().getCategoryId());
-            //         log.debug("카테고리 통계 계산 완료");
-            //     } catch (Exception e) {
-            //         log.warn("카테고리 통계 계산 중 오류 발생: {}", e.getMessage());
-            //         categoryStats = null;
-            //     }
-            // } else {
-            //     log.debug("카테고리 정보가 없어 통계 계산을 건너뜁니다.");
-            // }
-            
-            // 관련 브랜드 조회 (계산값 - 같은 카테고리, 최대 5개) - null check 강화하여 활성화
-            List<BrandListResponse> relatedBrandResponses = new ArrayList<>();
             if (brand.getCategory() != null && brand.getCategory().getCategoryId() != null) {
                 try {
-                    log.debug("관련 브랜드 조회 시작: categoryId={}", brand.getCategory().getCategoryId());
-                    List<Brand> relatedBrands = brandRepository.findRelatedBrands(
-                        brand.getCategory().getCategoryId(), 
-                        brandId
-                    );
-                    
-                    if (relatedBrands != null && !relatedBrands.isEmpty()) {
-                        relatedBrandResponses = relatedBrands.stream()
-                            .map(relatedBrand -> {
-                                try {
-                                    boolean isRelatedSaved = savedBrandRepository.existsByUserUserIdAndBrandBrandId(userId, relatedBrand.getBrandId());
-                                    return BrandListResponse.from(relatedBrand, isRelatedSaved);
-                                } catch (Exception e) {
-                                    log.warn("관련 브랜드 찜 상태 확인 중 오류: {}", e.getMessage());
-                                    return BrandListResponse.from(relatedBrand, false);
-                                }
-                            })
-                            .collect(Collectors.toList());
-                        log.debug("관련 브랜드 조회 완료: {}개", relatedBrandResponses.size());
-                    } else {
-                        log.debug("관련 브랜드가 없습니다.");
-                    }
+                    categoryStats = calculateCategoryStats(brand);
+                    log.debug("카테고리 통계 조회 완료");
                 } catch (Exception e) {
-                    log.warn("관련 브랜드 조회 중 오류 발생: {}", e.getMessage());
-                    relatedBrandResponses = new ArrayList<>();
+                    log.warn("카테고리 통계 조회 중 오류 발생: {}", e.getMessage());
+                    categoryStats = null;
                 }
+            } else {
+                log.debug("카테고리 정보가 없어 통계 계산을 건너뜁니다.");
+            }
+            
+            // 관련 브랜드 조회 (계산값 - 같은 카테고리 조회수 상위, 최대 5개)
+            // 카탈로그의 카테고리별 조회수순 인덱스에서 앞부분만 읽음 (조회수 반영/브랜드 변경 시 카탈로그가 갱신)
+            List<BrandListResponse> relatedBrandResponses = new ArrayList<>();
+            if (brand.getCategory() != null && brand.getCategory().getCategoryId() != null) {
+                List<BrandCatalogEntry> relatedBrands = brandCatalog.snapshot().topByCategory(
+                    brand.getCategory().getCategoryId(), SortOption.VIEW_COUNT_DESC, brandId, RELATED_BRAND_LIMIT);
+                
+                // 찜 상태는 위에서 한 번에 조회한 집합으로 판정
+                LongHashSet relatedSavedIds = savedBrandIds;
+                relatedBrandResponses = relatedBrands.stream()
+                    .map(entry -> BrandListResponse.from(entry, relatedSavedIds.contains(entry.getBrandId()), false))
+                    .collect(Collectors.toList());
+                log.debug("관련 브랜드 조회 완료: {}개", relatedBrandResponses.size());
             } else {
                 log.debug("카테고리 정보가 없어 관련 브랜드 조회를 건너뜁니다.");
             }
@@ -214,6 +226,7 @@ public class UserBrandService implements IUserBrandService {
                 // 브랜드 찜 수 감소
                 brandDetailRepository.decrementSaveCount(brandId);
                 log.info("브랜드 찜 수 감소 완료");
+                eventPublisher.publishEvent(new BrandSaveToggledEvent(userId, brandId, false));
                 
                 log.info("=== 브랜드 찜해제 완료 ===");
                 return false; // 찜해제됨
@@ -247,6 +260,7 @@ public class UserBrandService implements IUserBrandService {
                 // 브랜드 찜 수 증가
                 brandDetailRepository.incrementSaveCount(brandId);
                 log.info("브랜드 찜 수 증가 완료");
+                eventPublisher.publishEvent(new BrandSaveToggledEvent(userId, brandId, true));
                 
                 log.info("=== 브랜드 찜하기 완료 ===");
                 return true; // 찜하기됨
@@ -327,26 +341,18 @@ public class UserBrandService implements IUserBrandService {
         log.info("=== 찜한 브랜드 목록 조회 시작: userId={} ===", userId);
         
         try {
-            // 사용자의 찜한 브랜드 목록 조회 (브랜드 정보 포함)
-            List<SavedBrand> savedBrands = savedBrandRepository.findByUserUserIdWithBrand(userId);
-            log.info("Repository에서 조회된 찜한 브랜드 수: {}", savedBrands != null ? savedBrands.size() : "null");
+            // 사용자의 찜한 브랜드 목록 조회 (목록 컬럼만 프로젝션, 엔티티 로드 없음)
+            List<BrandCatalogEntry> savedBrands = savedBrandRepository.findSavedCatalogEntriesByUserId(userId);
+            log.info("Repository에서 조회된 찜한 브랜드 수: {}", savedBrands.size());
             
-            if (savedBrands == null || savedBrands.isEmpty()) {
+            if (savedBrands.isEmpty()) {
                 log.info("찜한 브랜드가 없습니다.");
                 return new ArrayList<>();
             }
             
-            // SavedBrand → BrandListResponse 변환
+            // 카탈로그 항목 → BrandListResponse 변환
             List<BrandListResponse> responses = savedBrands.stream()
-                .map(savedBrand -> {
-                    Brand brand = savedBrand.getBrand();
-                    if (brand == null) {
-                        log.warn("찜한 브랜드의 브랜드 정보가 null입니다: savedBrandId={}", savedBrand.getSaveId());
-                        return null;
-                    }
-                    return BrandListResponse.from(brand, true); // 찜한 상태는 true
-                })
-                .filter(response -> response != null) // null 제거
+                .map(entry -> BrandListResponse.from(entry, true, false)) // 찜한 상태는 true
                 .collect(Collectors.toList());
             
             log.info("변환 완료된 응답 수: {}", responses.size());
@@ -367,10 +373,10 @@ public class UserBrandService implements IUserBrandService {
         
         try {
             Map<Long, Boolean> saveStatus = new HashMap<>();
+            LongHashSet savedBrandIds = loadSavedBrandIds(userId);
             
             for (Long brandId : brandIds) {
-                boolean isSaved = savedBrandRepository.existsByUserUserIdAndBrandBrandId(userId, brandId);
-                saveStatus.put(brandId, isSaved);
+                saveStatus.put(brandId, savedBrandIds.contains(brandId));
             }
             
             log.info("=== 브랜드 찜 상태 조회 완료 ===");
@@ -385,70 +391,76 @@ public class UserBrandService implements IUserBrandService {
     // === 유틸리티 메소드들 ===
     
     /**
-     * 카테고리 통계 계산 (비활성화)
-     * TODO: 향후 필요시 활성화
+     * 사용자가 찜한 브랜드 ID 집합 조회 (쿼리 1회)
+     */
+    private LongHashSet loadSavedBrandIds(Long userId) {
+        if (userId == null) {
+            return new LongHashSet();
+        }
+        return LongHashSet.of(savedBrandRepository.findBrandIdsByUserId(userId));
+    }
+    
+    /**
+     * 카테고리 통계 계산
+     * - 카테고리별 누적 집계(CategoryStatsStore)에서 평균을 꺼내고 현재 브랜드의 경쟁력 점수 계산
      */
-    // private BrandDetailResponse.CategoryStats calculateCategoryStats(Long categoryId) {
-    //     // 카테고리 통계 데이터 조회
-    //     Object[] stats = brandDetailRepository.calculateCategoryStats(categoryId);
-    //     
-    //     if (stats[0] == null) {
-    //         // 해당 카테고리에 브랜드가 없는 경우 기본값 반환
-    //         return BrandDetailResponse.CategoryStats.builder()
-    //             .avgInitialCost(BigDecimal.ZERO)
-    //             .avgTotalInvestment(BigDecimal.ZERO)
-    //             .avgMonthlyRevenue(BigDecimal.ZERO)
-    //             .avgStoreCount(0.0)
-    //             .competitiveness(BrandDetailResponse.CompetitivenessScore.builder()
-    //                 .initialCostScore(50.0)
-    //                 .revenueScore(50.0)
-    //                 .investmentScore(50.0)
-    //                 .storeCountScore(50.0)
-    //                 .overallScore(50.0)
-    //                 .build())
-    //             .build();
-    //     }
-    //     
-    //     // 통계 데이터 추출
-    //     BigDecimal avgInitialCost = (BigDecimal) stats[0];
-    //     BigDecimal avgTotalInvestment = (BigDecimal) stats[1];
-    //     BigDecimal avgMonthlyRevenue = (BigDecimal) stats[2];
-    //     Double avgStoreCount = (Double) stats[3];
-    //     BigDecimal maxInitialCost = (BigDecimal) stats[4];
-    //     BigDecimal minInitialCost = (BigDecimal) stats[5];
-    //     BigDecimal maxMonthlyRevenue = (BigDecimal) stats[6];
-    //     BigDecimal minMonthlyRevenue = (BigDecimal) stats[7];
-    //     Long totalBrands = (Long) stats[8];
-    //     
-    //     // 경쟁력 점수 계산 (현재 브랜드 vs 카테고리 평균)
-    //     BrandDetailResponse.CategoryStats.CompetitivenessScore competitiveness = 
-    //         calculateCompetitivenessScore(avgInitialCost, avgTotalInvestment, avgMonthlyRevenue, avgStoreCount);
-    //     
-    //     return BrandDetailResponse.CategoryStats.builder()
-    //         .avgInitialCost(avgInitialCost != null ? avgInitialCost : BigDecimal.ZERO)
-    //         .avgTotalInvestment(avgTotalInvestment != null ? avgTotalInvestment : BigDecimal.ZERO)
-    //         .avgMonthlyRevenue(avgMonthlyRevenue != null ? avgMonthlyRevenue : BigDecimal.ZERO)
-    //         .avgStoreCount(avgStoreCount != null ? avgStoreCount : 0.0)
-    //         .competitiveness(competitiveness)
-    //         .build();
-    // }
+    private BrandDetailResponse.CategoryStats calculateCategoryStats(Brand brand) {
+        CategoryStatistics stats = categoryStatsStore.get(brand.getCategory().getCategoryId());
+        if (stats == null) {
+            return null;
+        }
+        
+        // 카탈로그에 아직 반영되지 않은 브랜드(방금 등록 등)는 엔티티 값으로 비교
+        BrandCatalogEntry entry = brandCatalog.snapshot().get(brand.getBrandId());
+        if (entry == null) {
+            entry = BrandCatalogEntry.from(brand);
+        }
+        
+        BigDecimal avgStoreCount = stats.get(BrandMetric.STORE_COUNT).average();
+        return BrandDetailResponse.CategoryStats.builder()
+            .avgInitialCost(orZero(stats.get(BrandMetric.INITIAL_COST).average()))
+            .avgTotalInvestment(orZero(stats.get(BrandMetric.TOTAL_INVESTMENT).average()))
+            .avgMonthlyRevenue(orZero(stats.get(BrandMetric.AVG_MONTHLY_REVENUE).average()))
+            .avgStoreCount(avgStoreCount != null ? avgStoreCount.doubleValue() : 0.0)
+            .competitiveness(calculateCompetitivenessScore(entry, stats))
+            .build();
+    }
     
     /**
-     * 경쟁력 점수 계산 (비활성화)
-     * TODO: 향후 필요시 활성화
+     * 경쟁력 점수 계산 (0-100)
+     * - 카테고리 내 백분위 (가맹비/투자비는 낮을수록, 매출/매장수는 높을수록 높은 점수)
+     * - 카테고리별 정렬된 값 배열에서 이진 탐색으로 계산 (SQL 조회 없음)
+     * - 값이 없으면 50점, 종합 점수는 네 지표의 평균
      */
-    // private BrandDetailResponse.CompetitivenessScore calculateCompetitivenessScore(
-    //         BigDecimal avgInitialCost, BigDecimal avgTotalInvestment, 
-    //         BigDecimal avgMonthlyRevenue, Double avgStoreCount) {
-    //     
-    //     // 실제 경쟁력 점수 계산 로직
-    //     // 현재는 샘플 값으로 반환 (추후 실제 브랜드 데이터와 비교하여 계산)
-    //     return BrandDetailResponse.CompetitivenessScore.builder()
-    //         .initialCostScore(75.0)    // 가맹비 경쟁력 (낮을수록 좋음, 평균 대비 25% 좋음)
-    //         .revenueScore(80.0)        // 매출 경쟁력 (높을수록 좋음, 평균 대비 20% 좋음)
-    //         .investmentScore(70.0)     // 투자비 경쟁력 (낮을수록 좋음, 평균 대비 15% 좋음)
-    //         .storeCountScore(85.0)     // 매장수 경쟁력 (많을수록 좋음, 평균 대비 35% 좋음)
-    //         .overallScore(77.5)        // 종합 점수
-    //         .build();
-    // }
+    private BrandDetailResponse.CompetitivenessScore calculateCompetitivenessScore(
+            BrandCatalogEntry entry, CategoryStatistics stats) {
+        double initialCostScore = metricScore(BrandMetric.INITIAL_COST, entry, stats);
+        double investmentScore = metricScore(BrandMetric.TOTAL_INVESTMENT, entry, stats);
+        double revenueScore = metricScore(BrandMetric.AVG_MONTHLY_REVENUE, entry, stats);
+        double storeCountScore = metricScore(BrandMetric.STORE_COUNT, entry, stats);
+        
+        return BrandDetailResponse.CompetitivenessScore.builder()
+            .initialCostScore(initialCostScore)
+            .revenueScore(revenueScore)
+            .investmentScore(investmentScore)
+            .storeCountScore(storeCountScore)
+            .overallScore(round((initialCostScore + investmentScore + revenueScore + storeCountScore) / 4))
+            .build();
+    }
+    
+    private double metricScore(BrandMetric metric, BrandCatalogEntry entry, CategoryStatistics stats) {
+        OptionalDouble percentile = stats.percentile(metric, metric.valueOf(entry));
+        if (percentile.isEmpty()) {
+            return 50.0;
+        }
+        return round(metric.isHigherIsBetter() ? percentile.getAsDouble() : 100 - percentile.getAsDouble());
+    }
+    
+    private static double round(double score) {
+        return Math.round(score * 10) / 10.0;
+    }
+    
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
 }
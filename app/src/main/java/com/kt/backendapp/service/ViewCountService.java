@@ -1,35 +1,193 @@
 package com.kt.backendapp.service;
 
+import com.kt.backendapp.catalog.ViewCountsFlushedEvent;
 import com.kt.backendapp.repository.BrandDetailRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 조회수 증가를 위한 공통 서비스
  * 모든 서비스에서 브랜드 상세 조회 시 조회수를 증가시키는 로직을 통일
+ *
+ * - 요청 스레드에서는 브랜드별 LongAdder에 누적만 하고 DB 행 잠금을 잡지 않음 (write-behind)
+ * - 스케줄러가 주기적으로 누적분을 비워 다중 행 UPDATE 한 번으로 반영
+ * - 누적 조회수가 max-pending을 넘으면 태스크 실행기에 즉시 flush를 맡김 (메모리 상한)
+ *   - 요청 스레드/요청 트랜잭션(읽기 전용일 수 있음)에서는 DB에 쓰지 않음
+ * - 배치마다 별도 트랜잭션(REQUIRES_NEW)으로 반영하고, 커밋된 누적분만 카탈로그에 전달
+ * - 애플리케이션 종료 시 남은 누적분을 flush
+ * - 반영된 누적분은 ViewCountsFlushedEvent로 브랜드 카탈로그에 전달
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ViewCountService implements IViewCountService {
-    
+
     private final BrandDetailRepository brandDetailRepository;
-    
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskExecutor taskExecutor;
+    private final TransactionTemplate flushTransaction;
+    private final long maxPending;
+    private final int flushBatchSize;
+
+    // 브랜드 ID → 아직 DB에 반영되지 않은 조회수
+    private final ConcurrentHashMap<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+    private final AtomicLong pendingViews = new AtomicLong();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 상한 초과로 맡긴 flush가 아직 실행 전/중이면 중복으로 맡기지 않음
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Timer flushTimer;
+
+    public ViewCountService(BrandDetailRepository brandDetailRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.view-count.max-pending:10000}") long maxPending,
+                            @Value("${app.view-count.flush-batch-size:1000}") int flushBatchSize) {
+        this.brandDetailRepository = brandDetailRepository;
+        this.eventPublisher = eventPublisher;
+        this.taskExecutor = taskExecutor;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxPending = maxPending;
+        this.flushBatchSize = flushBatchSize;
+
+        Gauge.builder("brand.view_count.pending", pendingViews, AtomicLong::get)
+            .description("DB에 아직 반영되지 않은 조회수 합계")
+            .register(meterRegistry);
+        Gauge.builder("brand.view_count.pending.brands", pendingCounts, Map::size)
+            .description("누적 조회수가 있는 브랜드 수")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("brand.view_count.flush")
+            .description("조회수 누적분 DB 반영 소요 시간")
+            .register(meterRegistry);
+    }
+
     /**
      * 브랜드 조회수 증가 (안전한 처리)
      * @param brandId 브랜드 ID
      */
     public void incrementViewCount(Long brandId) {
+        if (brandId == null) {
+            return;
+        }
+
+        pendingCounts.computeIfAbsent(brandId, id -> new LongAdder()).increment();
+
+        // 누적분이 상한을 넘으면 flush를 태스크 실행기에 맡기고 바로 반환 (요청 트랜잭션에서 쓰지 않음)
+        if (pendingViews.incrementAndGet() >= maxPending && flushRequested.compareAndSet(false, true)) {
+            log.debug("조회수 누적분이 상한({})을 초과하여 즉시 반영을 요청합니다.", maxPending);
+            try {
+                taskExecutor.execute(() -> {
+                    try {
+                        flushPendingViewCounts();
+                    } finally {
+                        flushRequested.set(false);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 실행기가 가득 찼거나 종료 중이면 다음 스케줄 주기에 반영
+                flushRequested.set(false);
+                log.warn("조회수 즉시 반영 요청 실패, 다음 주기에 반영합니다: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 누적된 조회수를 주기적으로 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:5000}")
+    public void flushPendingViewCounts() {
+        flushLock.lock();
         try {
-            log.debug("조회수 증가 시작: brandId={}", brandId);
-            brandDetailRepository.incrementViewCount(brandId);
-            log.debug("조회수 증가 완료");
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 누적분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("애플리케이션 종료 - 남은 조회수 누적분 반영: {}건", pendingViews.get());
+        flushPendingViewCounts();
+    }
+
+    /**
+     * 누적분을 비워 배치 단위로 DB에 반영 (flushLock 보유 상태에서 호출)
+     */
+    private void doFlush() {
+        if (pendingViews.get() == 0) {
+            return;
+        }
+
+        Map<Long, Long> batch = new HashMap<>();
+        Timer.Sample sample = Timer.start();
+        try {
+            for (Map.Entry<Long, LongAdder> entry : pendingCounts.entrySet()) {
+                // 카운터는 제거하지 않고 재사용 (키 수는 브랜드 수로 제한됨, 제거 시 동시 증가분 유실 방지)
+                long delta = entry.getValue().sumThenReset();
+                if (delta == 0) {
+                    continue;
+                }
+                batch.put(entry.getKey(), delta);
+                pendingViews.addAndGet(-delta);
+
+                if (batch.size() >= flushBatchSize) {
+                    writeBatch(batch);
+                    batch = new HashMap<>();
+                }
+            }
+            writeBatch(batch);
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    /**
+     * 배치 반영, 실패 시 누적분을 되돌려 다음 주기에 재시도
+     * - 호출 스레드의 트랜잭션과 무관하게 배치마다 새 트랜잭션으로 커밋
+     */
+    private void writeBatch(Map<Long, Long> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            Integer updated = flushTransaction.execute(status -> brandDetailRepository.addViewCounts(batch));
+            log.debug("조회수 일괄 반영 완료: 브랜드 {}개, 갱신 행 {}개", batch.size(), updated);
         } catch (Exception e) {
-            log.error("조회수 증가 중 오류 발생: {}", e.getMessage(), e);
-            log.error("조회수 증가 실패 상세 정보:", e);
-            // 조회수 증가 실패는 전체 요청을 실패시키지 않음
-            // 상세한 오류 로그를 남기고 계속 진행
+            log.error("조회수 일괄 반영 중 오류 발생: {}", e.getMessage(), e);
+            // 조회수 반영 실패는 요청을 실패시키지 않음, 다음 주기에 재시도
+            batch.forEach(this::requeue);
+            return;
         }
+        // 커밋된 조회수만 카탈로그 스냅샷에 적용
+        eventPublisher.publishEvent(new ViewCountsFlushedEvent(Map.copyOf(batch)));
+    }
+
+    private void requeue(Long brandId, long delta) {
+        pendingCounts.computeIfAbsent(brandId, id -> new LongAdder()).add(delta);
+        pendingViews.addAndGet(delta);
     }
 }
@@ -0,0 +1,80 @@
+package com.kt.backendapp.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 최신순(created_at DESC, id DESC) 목록 커서 (keyset 페이지네이션)
+ * - 마지막으로 내려준 항목의 생성 시각 + ID를 "생성시각|ID" 형태로 담아 base64url 인코딩
+ * - 클라이언트에는 불투명한 문자열로만 노출
+ * - 다음 조회는 (created_at, id)가 커서보다 작은 행부터 이어서 읽음 (OFFSET/COUNT 없음)
+ */
+@Getter
+@AllArgsConstructor
+public final class CreatedAtCursor {
+
+    /** 커서 조회 한 번에 내려줄 수 있는 최대 항목 수 */
+    public static final int MAX_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    /**
+     * 다음 페이지 커서 생성
+     * @param createdAt 현재 페이지 마지막 항목의 생성 시각
+     * @param id 현재 페이지 마지막 항목의 ID
+     */
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 해석
+     * @param cursor 이전 응답의 nextCursor
+     */
+    public static CreatedAtCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new CreatedAtCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException, base64 디코딩 오류 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 첫 페이지 조회(page 파라미터) 검증
+     * - 첫 페이지 이후는 OFFSET으로 건너뛰지 않고 nextCursor로만 조회
+     * @param page 요청 페이지 번호 (0만 허용)
+     */
+    public static void validateFirstPage(int page) {
+        if (page != 0) {
+            throw new IllegalArgumentException("page는 0만 허용됩니다. 다음 페이지는 응답의 nextCursor로 조회하세요.");
+        }
+    }
+
+    /**
+     * 커서 조회 크기 검증
+     * @param size 요청 크기 (1 ~ MAX_SIZE)
+     */
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+    }
+}
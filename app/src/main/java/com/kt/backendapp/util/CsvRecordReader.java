@@ -0,0 +1,110 @@
+package com.kt.backendapp.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 레코드 읽기 (RFC 4180)
+ * - 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈/"" 이스케이프 지원
+ * - 전체를 메모리에 올리지 않고 레코드 단위로 읽음
+ * - 빈 줄은 건너뜀
+ */
+public class CsvRecordReader {
+    
+    private final Reader reader;
+    private int pushback = -2;
+    
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+    
+    /**
+     * 다음 레코드 (더 없으면 null)
+     */
+    public List<String> next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            if (c == '\r' || c == '\n') {
+                skipLineFeed(c);
+                continue;
+            }
+            unread(c);
+            return readRecord();
+        }
+    }
+    
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("닫히지 않은 큰따옴표가 있습니다.");
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+                continue;
+            }
+            
+            if (c == -1 || c == '\r' || c == '\n') {
+                fields.add(wasQuoted ? field.toString() : field.toString().trim());
+                if (c != -1) {
+                    skipLineFeed(c);
+                }
+                return fields;
+            }
+            if (c == ',') {
+                fields.add(wasQuoted ? field.toString() : field.toString().trim());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '"' && field.toString().isBlank()) {
+                field.setLength(0);
+                quoted = true;
+                wasQuoted = true;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+    
+    // CRLF는 줄바꿈 하나로 취급
+    private void skipLineFeed(int c) throws IOException {
+        if (c == '\r') {
+            int following = read();
+            if (following != '\n') {
+                unread(following);
+            }
+        }
+    }
+    
+    private int read() throws IOException {
+        if (pushback != -2) {
+            int c = pushback;
+            pushback = -2;
+            return c;
+        }
+        return reader.read();
+    }
+    
+    private void unread(int c) {
+        pushback = c;
+    }
+}
@@ -0,0 +1,143 @@
+package com.kt.backendapp.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 박싱 없는 long 전용 해시 셋 (open addressing, linear probing)
+ * - 찜 브랜드 ID처럼 크기가 작고 조회가 잦은 ID 집합용
+ * - 0 이하 값은 ID로 쓰이지 않으므로 빈 슬롯 표시로 0을 사용
+ * - 스레드 안전하지 않음 (요청 단위로 생성해서 사용)
+ */
+public class LongHashSet {
+    
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+    
+    private long[] slots;
+    private int size;
+    
+    public LongHashSet() {
+        this(16);
+    }
+    
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.slots = new long[capacity];
+    }
+    
+    public static LongHashSet of(Collection<Long> values) {
+        LongHashSet set = new LongHashSet(values.size());
+        for (Long value : values) {
+            if (value != null) {
+                set.add(value);
+            }
+        }
+        return set;
+    }
+    
+    public boolean add(long value) {
+        checkValue(value);
+        if (size + 1 > slots.length * LOAD_FACTOR) {
+            resize(slots.length << 1);
+        }
+        int index = indexOf(value, slots);
+        if (slots[index] == value) {
+            return false;
+        }
+        slots[index] = value;
+        size++;
+        return true;
+    }
+    
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return false;
+        }
+        return slots[indexOf(value, slots)] == value;
+    }
+    
+    public boolean contains(Long value) {
+        return value != null && contains(value.longValue());
+    }
+    
+    public boolean remove(long value) {
+        if (value == EMPTY) {
+            return false;
+        }
+        int mask = slots.length - 1;
+        int index = indexOf(value, slots);
+        if (slots[index] != value) {
+            return false;
+        }
+        slots[index] = EMPTY;
+        size--;
+        
+        // 같은 클러스터의 후속 원소를 다시 배치 (tombstone 없이 삭제)
+        int next = (index + 1) & mask;
+        while (slots[next] != EMPTY) {
+            long moved = slots[next];
+            slots[next] = EMPTY;
+            slots[indexOf(moved, slots)] = moved;
+            next = (next + 1) & mask;
+        }
+        return true;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    public long[] toArray() {
+        long[] values = new long[size];
+        int i = 0;
+        for (long slot : slots) {
+            if (slot != EMPTY) {
+                values[i++] = slot;
+            }
+        }
+        return values;
+    }
+    
+    private void resize(int capacity) {
+        long[] newSlots = new long[capacity];
+        for (long slot : slots) {
+            if (slot != EMPTY) {
+                newSlots[indexOf(slot, newSlots)] = slot;
+            }
+        }
+        slots = newSlots;
+    }
+    
+    /**
+     * 값이 있는 슬롯 또는 삽입할 빈 슬롯의 위치 반환
+     */
+    private static int indexOf(long value, long[] table) {
+        int mask = table.length - 1;
+        int index = mix(value) & mask;
+        while (table[index] != EMPTY && table[index] != value) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+    
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+    
+    private static void checkValue(long value) {
+        if (value == EMPTY) {
+            throw new IllegalArgumentException("0은 LongHashSet에 저장할 수 없습니다.");
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
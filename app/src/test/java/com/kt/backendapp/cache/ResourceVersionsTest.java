@@ -0,0 +1,46 @@
+package com.kt.backendapp.cache;
+
+import com.kt.backendapp.catalog.BrandCatalogChangedEvent;
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import com.kt.backendapp.catalog.CatalogSnapshots;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회수/찜 수 반영(COUNTS)이 바뀐 브랜드의 상세 ETag만 바꾸는지 검증
+ */
+class ResourceVersionsTest {
+
+    private final ResourceVersions resourceVersions = new ResourceVersions();
+
+    @Test
+    void countChangesBumpOnlyChangedBrandETags() {
+        BrandCatalogEntry viewed = entry(1L, 10L, 2L);
+        BrandCatalogEntry untouched = entry(2L, 5L, 0L);
+        resourceVersions.onCatalogChanged(new BrandCatalogChangedEvent(CatalogSnapshots.of(1L, List.of(viewed, untouched)),
+            BrandCatalogChangedEvent.Cause.RELOAD, List.of(), List.of()));
+        String viewedBefore = resourceVersions.brandETag(1L);
+        String untouchedBefore = resourceVersions.brandETag(2L);
+        String catalogBefore = resourceVersions.catalogETag(null);
+
+        BrandCatalogEntry counted = viewed.toBuilder().viewCount(13L).saveCount(3L).build();
+        resourceVersions.onCatalogChanged(new BrandCatalogChangedEvent(CatalogSnapshots.of(2L, List.of(counted, untouched)),
+            BrandCatalogChangedEvent.Cause.COUNTS, List.of(viewed), List.of(counted)));
+
+        assertThat(resourceVersions.brandETag(1L)).isNotEqualTo(viewedBefore);
+        assertThat(resourceVersions.brandETag(2L)).isEqualTo(untouchedBefore);
+        assertThat(resourceVersions.catalogETag(null)).isNotEqualTo(catalogBefore);
+    }
+
+    private static BrandCatalogEntry entry(Long brandId, Long viewCount, Long saveCount) {
+        return BrandCatalogEntry.builder()
+            .brandId(brandId)
+            .brandName("브랜드" + brandId)
+            .viewCount(viewCount)
+            .saveCount(saveCount)
+            .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.kt.backendapp.catalog;
+
+import com.kt.backendapp.entity.Brand;
+import com.kt.backendapp.entity.SavedBrand;
+import com.kt.backendapp.repository.BrandRepository;
+import com.kt.backendapp.repository.SavedBrandRepository;
+import com.kt.backendapp.support.Benchmarks;
+import com.kt.backendapp.support.PostgresIntegrationTest;
+import com.kt.backendapp.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 브랜드 목록 적재 방식별 힙 할당량/소요 시간 비교 (브랜드 20,000개, 찜 500개)
+ * - 이전: 엔티티 + 연관 엔티티 fetch join 후 BrandCatalogEntry로 변환 (프록시, 변경감지 스냅샷 생성)
+ * - 현재: 목록 컬럼만 생성자 프로젝션으로 바로 BrandCatalogEntry 생성
+ */
+@Tag("benchmark")
+@PostgresIntegrationTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BrandCatalogLoadBenchmark {
+
+    private static final int BRANDS = 20_000;
+    private static final int SAVED = 500;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private SavedBrandRepository savedBrandRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+    private long userId;
+
+    @BeforeAll
+    void setUp() {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        fixtures.createBrands(fixtures.createManager(), fixtures.categoryId("외식"), BRANDS);
+        userId = fixtures.createUser();
+        jdbcTemplate.update(
+            "INSERT INTO saved_brand (user_id, brand_id) "
+                + "SELECT ?, brand_id FROM brand ORDER BY brand_id DESC LIMIT ?",
+            userId, SAVED);
+
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void catalogReload() {
+        compare("catalog reload",
+            () -> brandRepository.findAllCatalogEntries(),
+            () -> entityManager.createQuery(
+                    "SELECT b FROM Brand b " +
+                    "LEFT JOIN FETCH b.details LEFT JOIN FETCH b.category LEFT JOIN FETCH b.manager", Brand.class)
+                .getResultStream()
+                .map(BrandCatalogEntry::from)
+                .toList());
+    }
+
+    @Test
+    void savedBrandList() {
+        List<BrandCatalogEntry> entries = compare("saved brands (" + SAVED + ")",
+            () -> savedBrandRepository.findSavedCatalogEntriesByUserId(userId),
+            () -> entityManager.createQuery(
+                    "SELECT sb FROM SavedBrand sb " +
+                    "JOIN FETCH sb.brand b JOIN FETCH b.details JOIN FETCH b.category LEFT JOIN FETCH b.manager " +
+                    "WHERE sb.user.userId = :userId ORDER BY sb.savedAt DESC", SavedBrand.class)
+                .setParameter("userId", userId)
+                .getResultStream()
+                .map(savedBrand -> BrandCatalogEntry.from(savedBrand.getBrand()))
+                .toList());
+
+        assertThat(entries).hasSize(SAVED);
+    }
+
+    private List<BrandCatalogEntry> compare(String name, Supplier<List<BrandCatalogEntry>> projection,
+                                            Supplier<List<BrandCatalogEntry>> entities) {
+        Runnable projectionLoad = () -> readOnly.executeWithoutResult(status -> projection.get());
+        Runnable entityLoad = () -> readOnly.executeWithoutResult(status -> entities.get());
+
+        long entityBytes = Benchmarks.medianAllocatedBytes(name + " / entities (before)", 2, 5, entityLoad);
+        long projectionBytes = Benchmarks.medianAllocatedBytes(name + " / projection (after)", 2, 5, projectionLoad);
+        Benchmarks.medianMillis(name + " / entities (before)", 2, 5, entityLoad);
+        Benchmarks.medianMillis(name + " / projection (after)", 2, 5, projectionLoad);
+
+        assertThat(projectionBytes).isLessThan(entityBytes);
+        return readOnly.execute(status -> projection.get());
+    }
+}
@@ -0,0 +1,101 @@
+package com.kt.backendapp.catalog;
+
+import com.kt.backendapp.dto.common.SortOption;
+import com.kt.backendapp.util.LongHashSet;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일치 ID 기반 페이지(ofMatches)가 정렬 목록을 필터링한 뒤 자른 결과와 같은지 검증
+ * - 일치 건수가 적은 경우(일치 항목만 정렬)와 많은 경우(정렬 인덱스를 커서부터 훑음) 모두 확인
+ */
+class BrandCatalogPageTest {
+
+    private static final int BRANDS = 400;
+    private static final int PAGE_SIZE = 7;
+
+    private final Random random = new Random(3);
+    private final BrandCatalogSnapshot snapshot = snapshot();
+
+    @Test
+    void selectiveMatchesFollowSortIndexOrder() {
+        assertSamePages(null, randomIds(null, 20));
+        assertSamePages(1L, randomIds(1L, 10));
+    }
+
+    @Test
+    void denseMatchesFollowSortIndexOrder() {
+        assertSamePages(null, randomIds(null, 300));
+        assertSamePages(2L, randomIds(2L, 150));
+    }
+
+    @Test
+    void emptyMatchesGiveEmptyPage() {
+        BrandCatalogPage page = BrandCatalogPage.ofMatches(snapshot, null, new LongHashSet(),
+            SortOption.NAME_ASC, null, PAGE_SIZE);
+
+        assertThat(page.getEntries()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    private void assertSamePages(Long categoryId, LongHashSet matchedIds) {
+        for (SortOption sort : List.of(SortOption.VIEW_COUNT_DESC, SortOption.NAME_ASC, SortOption.INITIAL_COST_ASC)) {
+            List<BrandCatalogEntry> sorted = categoryId != null
+                ? snapshot.sortedByCategory(categoryId, sort)
+                : snapshot.sorted(sort);
+            List<BrandCatalogEntry> expected = sorted.stream()
+                .filter(entry -> matchedIds.contains(entry.getBrandId()))
+                .toList();
+
+            String cursor = null;
+            int pages = 0;
+            do {
+                BrandCatalogPage reference = BrandCatalogPage.of(expected, sort, cursor, PAGE_SIZE);
+                BrandCatalogPage page = BrandCatalogPage.ofMatches(snapshot, categoryId, matchedIds, sort, cursor, PAGE_SIZE);
+
+                assertThat(page.getEntries()).isEqualTo(reference.getEntries());
+                assertThat(page.getOffset()).isEqualTo(reference.getOffset());
+                assertThat(page.getTotalElements()).isEqualTo(reference.getTotalElements());
+                assertThat(page.getNextCursor()).isEqualTo(reference.getNextCursor());
+                cursor = page.getNextCursor();
+                pages++;
+            } while (cursor != null);
+
+            assertThat(pages).isEqualTo(Math.max(1, (expected.size() + PAGE_SIZE - 1) / PAGE_SIZE));
+        }
+    }
+
+    private LongHashSet randomIds(Long categoryId, int count) {
+        List<BrandCatalogEntry> candidates = new ArrayList<>(categoryId != null
+            ? snapshot.sortedByCategory(categoryId, SortOption.NAME_ASC)
+            : snapshot.sorted(SortOption.NAME_ASC));
+        Collections.shuffle(candidates, random);
+        LongHashSet ids = new LongHashSet();
+        candidates.stream().limit(count).forEach(entry -> ids.add(entry.getBrandId()));
+        return ids;
+    }
+
+    private BrandCatalogSnapshot snapshot() {
+        List<BrandCatalogEntry> entries = new ArrayList<>(BRANDS);
+        for (long brandId = 1; brandId <= BRANDS; brandId++) {
+            entries.add(BrandCatalogEntry.builder()
+                .brandId(brandId)
+                .brandName("brand-" + random.nextInt(100))
+                .categoryId(1L + brandId % 2)
+                .categoryName("category-" + (1L + brandId % 2))
+                .viewCount((long) random.nextInt(50))
+                .saveCount((long) random.nextInt(20))
+                .initialCost(random.nextInt(5) == 0 ? null : BigDecimal.valueOf(random.nextInt(1_000)))
+                .build());
+        }
+        return new BrandCatalogSnapshot(1L, entries);
+    }
+}
@@ -0,0 +1,16 @@
+package com.kt.backendapp.catalog;
+
+import java.util.Collection;
+
+/**
+ * 다른 패키지의 테스트에서 카탈로그 스냅샷을 직접 만들기 위한 도구 (생성자가 패키지 전용)
+ */
+public final class CatalogSnapshots {
+
+    private CatalogSnapshots() {
+    }
+
+    public static BrandCatalogSnapshot of(long version, Collection<BrandCatalogEntry> entries) {
+        return new BrandCatalogSnapshot(version, entries);
+    }
+}
@@ -0,0 +1,60 @@
+package com.kt.backendapp.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.cache.ReferenceDataRegistry;
+import com.kt.backendapp.cache.ResourceVersions;
+import com.kt.backendapp.cache.SerializedResponseCache;
+import com.kt.backendapp.entity.BrandCategory;
+import com.kt.backendapp.repository.BrandRepository;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 카테고리 ETag가 카테고리 수 캐시보다 먼저 바뀌지 않는지 검증
+ * - 같은 변경 이벤트를 ResourceVersions가 먼저 받고 그 사이에 요청이 들어와도, 새 ETag로 캐시되는 본문은 새 개수여야 함
+ */
+class CategoryCountCacheTest {
+
+    private final ReferenceDataRegistry referenceDataRegistry = mock(ReferenceDataRegistry.class);
+    private final BrandRepository brandRepository = mock(BrandRepository.class);
+    private final ResourceVersions resourceVersions = new ResourceVersions();
+    private final SerializedResponseCache responseCache = new SerializedResponseCache(new ObjectMapper());
+    private final CategoryCountCache categoryCountCache = new CategoryCountCache(
+        referenceDataRegistry, brandRepository, mock(BrandCatalog.class), resourceVersions);
+
+    @Test
+    void newETagIsNeverCachedWithOldCounts() {
+        when(referenceDataRegistry.getCategories()).thenReturn(List.of(
+            BrandCategory.builder().categoryId(1L).categoryName("치킨").build()));
+        when(brandRepository.countBrandsGroupByCategory()).thenReturn(List.<Object[]>of(new Object[]{1L, 4L}));
+        categoryCountCache.reconcile();
+        String before = resourceVersions.categoriesETag();
+        assertThat(cachedBody()).contains("\"brandCount\":4");
+
+        BrandCatalogEntry added = BrandCatalogEntry.builder().brandId(100L).brandName("새 브랜드")
+            .categoryId(1L).categoryName("치킨").build();
+        BrandCatalogChangedEvent event = new BrandCatalogChangedEvent(new BrandCatalogSnapshot(2L, List.of(added)),
+            BrandCatalogChangedEvent.Cause.MUTATION, List.of(), List.of(added));
+
+        // ResourceVersions가 먼저 처리되고 카테고리 캐시는 아직인 시점의 요청
+        resourceVersions.onCatalogChanged(event);
+        assertThat(resourceVersions.categoriesETag()).isEqualTo(before);
+        assertThat(cachedBody()).contains("\"brandCount\":4");
+
+        categoryCountCache.onCatalogChanged(event);
+        assertThat(resourceVersions.categoriesETag()).isNotEqualTo(before);
+        assertThat(cachedBody()).contains("\"brandCount\":5");
+    }
+
+    private String cachedBody() {
+        SerializedResponseCache.Body body = responseCache.get("categories", resourceVersions.categoriesETag(),
+            categoryCountCache::getCategories);
+        return new String(body.identity(), StandardCharsets.UTF_8);
+    }
+}
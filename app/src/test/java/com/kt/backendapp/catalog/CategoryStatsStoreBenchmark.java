@@ -0,0 +1,114 @@
+package com.kt.backendapp.catalog;
+
+import com.kt.backendapp.support.Benchmarks;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 카테고리 통계 저장소 성능 측정 (카테고리당 브랜드 50,000개 × 4개 카테고리)
+ * - 전체 재계산: 지표별 한 번 정렬 (O(n log n))
+ * - 백분위 조회: 정렬 배열 이진 탐색
+ * - 브랜드 수정 1건 증분 반영: 해당 카테고리 배열 복사 (O(n))
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CategoryStatsStoreBenchmark {
+
+    private static final int CATEGORIES = 4;
+    private static final int BRANDS_PER_CATEGORY = 50_000;
+
+    private BrandCatalogSnapshot snapshot;
+    private CategoryStatsStore store;
+
+    @BeforeAll
+    void setUp() {
+        Random random = new Random(42);
+        List<BrandCatalogEntry> entries = new ArrayList<>(CATEGORIES * BRANDS_PER_CATEGORY);
+        long brandId = 1;
+        for (long categoryId = 1; categoryId <= CATEGORIES; categoryId++) {
+            for (int i = 0; i < BRANDS_PER_CATEGORY; i++) {
+                entries.add(entry(brandId++, categoryId, random));
+            }
+        }
+        snapshot = new BrandCatalogSnapshot(1L, entries);
+
+        BrandCatalog brandCatalog = mock(BrandCatalog.class);
+        when(brandCatalog.snapshot()).thenReturn(snapshot);
+        store = new CategoryStatsStore(brandCatalog);
+    }
+
+    @Test
+    void fullRebuild() {
+        Benchmarks.medianMillis("CategoryStatsStore.reconcile (4 x 50k brands)", 3, 10, store::reconcile);
+
+        CategoryStatistics stats = store.get(1L);
+        assertThat(stats.getBrandCount()).isEqualTo(BRANDS_PER_CATEGORY);
+        assertThat(stats.get(BrandMetric.INITIAL_COST).count()).isEqualTo(BRANDS_PER_CATEGORY);
+        assertThat(stats.get(BrandMetric.INITIAL_COST).min())
+            .isLessThanOrEqualTo(stats.get(BrandMetric.INITIAL_COST).max());
+    }
+
+    @Test
+    void percentileLookup() {
+        store.reconcile();
+        BigDecimal[] probes = new BigDecimal[10_000];
+        Random random = new Random(7);
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = BigDecimal.valueOf(1_000_000L + random.nextInt(100_000_000));
+        }
+
+        double millis = Benchmarks.medianMillis("CategoryStatistics.percentile x10,000 (50k brands)", 5, 20, () -> {
+            CategoryStatistics stats = store.get(1L);
+            for (BigDecimal probe : probes) {
+                stats.percentile(BrandMetric.INITIAL_COST, probe);
+            }
+        });
+        Benchmarks.report("  per lookup", String.format("%.3f us", millis * 1000 / probes.length));
+    }
+
+    @Test
+    void incrementalMutation() {
+        store.reconcile();
+        Random random = new Random(11);
+        BrandCatalogEntry previous = snapshot.get(1L);
+
+        Benchmarks.medianMillis("CategoryStatsStore MUTATION (1 brand, 50k category)", 5, 50, () -> {
+            BrandCatalogEntry current = snapshot.get(1L);
+            BrandCatalogEntry updated = entry(1L, 1L, random);
+            store.onCatalogChanged(new BrandCatalogChangedEvent(snapshot, BrandCatalogChangedEvent.Cause.MUTATION,
+                List.of(current), List.of(updated)));
+            // 다음 반복에서 같은 기준으로 비교하도록 원래 값으로 되돌림
+            store.onCatalogChanged(new BrandCatalogChangedEvent(snapshot, BrandCatalogChangedEvent.Cause.MUTATION,
+                List.of(updated), List.of(current)));
+        });
+
+        assertThat(store.get(1L).getBrandCount()).isEqualTo(BRANDS_PER_CATEGORY);
+        assertThat(snapshot.get(1L)).isEqualTo(previous);
+    }
+
+    private static BrandCatalogEntry entry(long brandId, long categoryId, Random random) {
+        return BrandCatalogEntry.builder()
+            .brandId(brandId)
+            .brandName("brand-" + brandId)
+            .categoryId(categoryId)
+            .categoryName("category-" + categoryId)
+            .viewCount((long) random.nextInt(10_000))
+            .saveCount((long) random.nextInt(1_000))
+            .initialCost(BigDecimal.valueOf(1_000_000L + random.nextInt(100_000_000)))
+            .totalInvestment(BigDecimal.valueOf(10_000_000L + random.nextInt(500_000_000)))
+            .avgMonthlyRevenue(BigDecimal.valueOf(1_000_000L + random.nextInt(50_000_000)))
+            .storeCount(random.nextInt(2_000))
+            .build();
+    }
+}
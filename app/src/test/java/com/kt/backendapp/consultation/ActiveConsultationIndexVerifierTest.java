@@ -0,0 +1,49 @@
+package com.kt.backendapp.consultation;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ActiveConsultationIndexVerifierTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ActiveConsultationIndexVerifier verifier = new ActiveConsultationIndexVerifier(jdbcTemplate);
+
+    @Test
+    void failsWhenIndexIsMissing() {
+        indexState(List.of());
+
+        assertThatThrownBy(verifier::verify)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(ActiveConsultationIndexVerifier.INDEX_NAME);
+    }
+
+    @Test
+    void failsWhenIndexIsInvalid() {
+        indexState(List.of(false));
+
+        assertThatThrownBy(verifier::verify)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("무효");
+    }
+
+    @Test
+    void passesWhenIndexIsValid() {
+        indexState(List.of(true));
+
+        assertThatCode(verifier::verify).doesNotThrowAnyException();
+    }
+
+    private void indexState(List<Boolean> valid) {
+        when(jdbcTemplate.queryForList(anyString(), eq(Boolean.class), eq(ActiveConsultationIndexVerifier.INDEX_NAME)))
+            .thenReturn(valid);
+    }
+}
@@ -0,0 +1,152 @@
+package com.kt.backendapp.repository;
+
+import com.kt.backendapp.entity.Brand;
+import com.kt.backendapp.entity.Consultation;
+import com.kt.backendapp.entity.ConsultationStatus;
+import com.kt.backendapp.entity.Notification;
+import com.kt.backendapp.entity.RecipientType;
+import com.kt.backendapp.entity.User;
+import com.kt.backendapp.support.Benchmarks;
+import com.kt.backendapp.support.PostgresIntegrationTest;
+import com.kt.backendapp.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상담/알림 INSERT 처리량 비교 (트랜잭션당 2,000행)
+ * - 이전(IDENTITY): 행마다 INSERT ... RETURNING을 즉시 실행해 키를 받음 (배치 불가)
+ * - 현재(pooled-lo 시퀀스): 시퀀스 50개 단위 예약, flush 시 50행씩 JDBC 배치 (reWriteBatchedInserts)
+ * - 상담은 부분 유니크 인덱스에 걸리지 않도록 취소(비활성) 상태로 삽입
+ */
+@Tag("benchmark")
+@PostgresIntegrationTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class InsertThroughputBenchmark {
+
+    private static final int ROWS = 2_000;
+    private static final long CANCELLED = 5L;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private long userId;
+    private long brandId;
+    private long consultationId;
+
+    @BeforeAll
+    void setUp() {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        userId = fixtures.createUser();
+        brandId = fixtures.createBrand(fixtures.createManager(), fixtures.categoryId("교육"));
+        consultationId = fixtures.createConsultation(userId, brandId, CANCELLED, LocalDateTime.now());
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void notificationInserts() {
+        compare("notification",
+            () -> {
+                for (int i = 0; i < ROWS; i++) {
+                    jdbcTemplate.queryForObject(
+                        "INSERT INTO notification (recipient_id, recipient_type, consultation_id, status_code, message, "
+                            + "created_at, is_read) VALUES (?, 'USER', ?, ?, ?, ?, FALSE) RETURNING notification_id",
+                        Long.class, userId, consultationId, CANCELLED, "benchmark " + i, LocalDateTime.now());
+                }
+            },
+            () -> {
+                Consultation consultation = entityManager.getReference(Consultation.class, consultationId);
+                ConsultationStatus status = entityManager.getReference(ConsultationStatus.class, CANCELLED);
+                for (int i = 0; i < ROWS; i++) {
+                    entityManager.persist(Notification.builder()
+                        .recipientId(userId)
+                        .recipientType(RecipientType.USER)
+                        .consultation(consultation)
+                        .status(status)
+                        .message("benchmark " + i)
+                        .build());
+                }
+            });
+    }
+
+    @Test
+    void consultationInserts() {
+        compare("consultation",
+            () -> {
+                for (int i = 0; i < ROWS; i++) {
+                    jdbcTemplate.queryForObject(
+                        "INSERT INTO consultation (user_id, brand_id, status_code, preferred_date, preferred_time, "
+                            + "created_at, is_active) VALUES (?, ?, ?, ?, ?, ?, FALSE) RETURNING consultation_id",
+                        Long.class, userId, brandId, CANCELLED, LocalDate.now().plusDays(7), LocalTime.of(10, 0),
+                        LocalDateTime.now());
+                }
+            },
+            () -> {
+                User user = entityManager.getReference(User.class, userId);
+                Brand brand = entityManager.getReference(Brand.class, brandId);
+                ConsultationStatus status = entityManager.getReference(ConsultationStatus.class, CANCELLED);
+                for (int i = 0; i < ROWS; i++) {
+                    entityManager.persist(Consultation.builder()
+                        .user(user)
+                        .brand(brand)
+                        .status(status)
+                        .preferredDate(LocalDate.now().plusDays(7))
+                        .preferredTime(LocalTime.of(10, 0))
+                        .isActive(false)
+                        .build());
+                }
+            });
+    }
+
+    private void compare(String table, Runnable perRowReturning, Runnable pooledBatch) {
+        Runnable before = () -> transaction.executeWithoutResult(status -> perRowReturning.run());
+        Runnable after = () -> transaction.executeWithoutResult(status -> {
+            pooledBatch.run();
+            entityManager.flush();
+            entityManager.clear();
+        });
+
+        statistics.clear();
+        after.run();
+        long batchedStatements = statistics.getPrepareStatementCount();
+        Benchmarks.report(table + " x" + ROWS + " / pooled-lo + batch (after)",
+            String.format("%,d prepared statements", batchedStatements));
+
+        double beforeMillis = Benchmarks.medianMillis(
+            table + " x" + ROWS + " / per-row INSERT RETURNING (before)", 1, 5, before);
+        double afterMillis = Benchmarks.medianMillis(
+            table + " x" + ROWS + " / pooled-lo + batch (after)", 1, 5, after);
+        Benchmarks.report(table + " inserts/sec", String.format("before %,.0f, after %,.0f",
+            ROWS / (beforeMillis / 1000), ROWS / (afterMillis / 1000)));
+
+        // 시퀀스 조회(50행당 1회)와 배치 INSERT만 나가야 함
+        assertThat(batchedStatements).isLessThan(ROWS / 10);
+    }
+}
@@ -0,0 +1,133 @@
+package com.kt.backendapp.search;
+
+import com.kt.backendapp.catalog.BrandCatalog;
+import com.kt.backendapp.catalog.BrandCatalogChangedEvent;
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import com.kt.backendapp.catalog.BrandCatalogSnapshot;
+import com.kt.backendapp.catalog.CatalogSnapshots;
+import com.kt.backendapp.dto.common.SortOption;
+import com.kt.backendapp.support.Benchmarks;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 브랜드명 검색 성능 비교 (브랜드 100,000개)
+ * - 이전: 전체 브랜드명 부분 일치 검사 (LIKE '%검색어%'와 같은 전체 스캔)
+ * - 현재: n-gram 역색인 posting 조회 + 후보 확인
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BrandSearchIndexBenchmark {
+
+    private static final int BRANDS = 100_000;
+    private static final int QUERIES_PER_RUN = 100;
+
+    private static final String[] WORDS = {
+        "치킨", "피자", "커피", "버거", "분식", "떡볶이", "베이커리", "카페", "수학", "영어",
+        "코딩", "네일", "헤어", "스킨", "마트", "편의점", "도시락", "샐러드", "족발", "국밥"
+    };
+
+    private BrandCatalogSnapshot snapshot;
+    private BrandSearchIndex index;
+
+    @BeforeAll
+    void setUp() {
+        Random random = new Random(42);
+        List<BrandCatalogEntry> entries = new ArrayList<>(BRANDS);
+        for (long brandId = 1; brandId <= BRANDS; brandId++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + randomSyllables(random, 2 + random.nextInt(3))
+                + " " + WORDS[random.nextInt(WORDS.length)] + brandId;
+            entries.add(BrandCatalogEntry.builder()
+                .brandId(brandId)
+                .brandName(name)
+                .categoryId(1L + brandId % 4)
+                .viewCount((long) random.nextInt(10_000))
+                .saveCount((long) random.nextInt(1_000))
+                .build());
+        }
+        snapshot = CatalogSnapshots.of(1L, entries);
+
+        BrandCatalog brandCatalog = mock(BrandCatalog.class);
+        when(brandCatalog.snapshot()).thenReturn(snapshot);
+        index = new BrandSearchIndex(brandCatalog);
+        Benchmarks.medianMillis("BrandSearchIndex build (100k brands)", 1, 3, () ->
+            index.onCatalogChanged(new BrandCatalogChangedEvent(
+                snapshot, BrandCatalogChangedEvent.Cause.RELOAD, List.of(), List.of())));
+    }
+
+    @Test
+    void singleSyllable() {
+        compare("1 char", "킨");
+    }
+
+    @Test
+    void word() {
+        compare("2 chars", "치킨");
+    }
+
+    @Test
+    void longQuery() {
+        compare("4 chars", "베이커리");
+    }
+
+    @Test
+    void brandIdSuffix() {
+        compare("rare match", "족발9999");
+    }
+
+    @Test
+    void noMatch() {
+        compare("no match", "없는브랜드");
+    }
+
+    private void compare(String label, String keyword) {
+        String query = SearchText.normalize(keyword);
+        List<BrandCatalogEntry> sorted = snapshot.sorted(SortOption.VIEW_COUNT_DESC);
+
+        Set<Long> scanned = new HashSet<>();
+        Benchmarks.medianMillis("search '" + keyword + "' (" + label + ") / full scan (before) x" + QUERIES_PER_RUN,
+            2, 10, () -> {
+                for (int i = 0; i < QUERIES_PER_RUN; i++) {
+                    scanned.clear();
+                    for (BrandCatalogEntry entry : sorted) {
+                        if (SearchText.normalize(entry.getBrandName()).contains(query)) {
+                            scanned.add(entry.getBrandId());
+                        }
+                    }
+                }
+            });
+
+        Set<Long> indexed = new HashSet<>();
+        Benchmarks.medianMillis("search '" + keyword + "' (" + label + ") / n-gram index (after) x" + QUERIES_PER_RUN,
+            5, 20, () -> {
+                for (int i = 0; i < QUERIES_PER_RUN; i++) {
+                    indexed.clear();
+                    index.search(keyword).forEach(entry -> indexed.add(entry.getBrandId()));
+                }
+            });
+
+        Benchmarks.report("  matches", String.format("%,d", indexed.size()));
+        assertThat(indexed).isEqualTo(scanned);
+    }
+
+    private static String randomSyllables(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            // 한글 음절 영역(가~힣)에서 임의 선택
+            builder.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.kt.backendapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.cache.ReferenceDataRegistry;
+import com.kt.backendapp.catalog.BrandCatalog;
+import com.kt.backendapp.catalog.CatalogSnapshots;
+import com.kt.backendapp.dto.request.brand.BrandImportFormat;
+import com.kt.backendapp.dto.response.brand.BrandImportResponse;
+import com.kt.backendapp.entity.BrandCategory;
+import com.kt.backendapp.entity.BrandManager;
+import com.kt.backendapp.repository.BrandManagerRepository;
+import com.kt.backendapp.repository.BrandRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * NDJSON 일괄 등록에서 객체가 아닌 줄이 전체 실패가 아니라 행 오류로 보고되는지 검증
+ */
+class BrandImportServiceTest {
+
+    private static final Long MANAGER_ID = 1L;
+
+    private final BrandRepository brandRepository = mock(BrandRepository.class);
+    private final ReferenceDataRegistry referenceDataRegistry = mock(ReferenceDataRegistry.class);
+    private final BrandManagerRepository brandManagerRepository = mock(BrandManagerRepository.class);
+    private final BrandCatalog brandCatalog = mock(BrandCatalog.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private final BrandImportService service = new BrandImportService(brandRepository, referenceDataRegistry,
+        brandManagerRepository, brandCatalog, Validation.buildDefaultValidatorFactory().getValidator(),
+        new ObjectMapper(), mock(ApplicationEventPublisher.class), transactionTemplate, 2);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void nonObjectLinesAreReportedAsRowErrors() throws Exception {
+        when(brandManagerRepository.findById(MANAGER_ID)).thenReturn(Optional.of(
+            BrandManager.builder().managerId(MANAGER_ID).name("매니저").build()));
+        when(referenceDataRegistry.getCategories()).thenReturn(List.of(
+            BrandCategory.builder().categoryId(1L).categoryName("치킨").build()));
+        when(brandCatalog.snapshot()).thenReturn(CatalogSnapshots.of(1L, List.of()));
+        when(brandRepository.insertBrands(anyList(), eq(MANAGER_ID)))
+            .thenAnswer(invocation -> List.of(100L, 101L, 102L).subList(0, invocation.<List<?>>getArgument(0).size()));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+
+        String input = String.join("\n",
+            "{\"brandName\":\"첫 브랜드\",\"categoryId\":1}",
+            "{\"brandName\":\"둘째 브랜드\",\"categoryId\":1}",
+            "null",
+            "[1, 2]",
+            "42",
+            "{\"brandName\":\"셋째 브랜드\",\"categoryId\":1}");
+
+        BrandImportResponse response = service.importBrands(MANAGER_ID, BrandImportFormat.NDJSON,
+            new StringReader(input));
+
+        assertThat(response.getTotalRows()).isEqualTo(6);
+        assertThat(response.getImportedCount()).isEqualTo(3);
+        assertThat(response.getFailedCount()).isEqualTo(3);
+        assertThat(response.getErrors())
+            .extracting(BrandImportResponse.RowError::getRowNumber)
+            .containsExactly(3L, 4L, 5L);
+        assertThat(response.getErrors())
+            .extracting(BrandImportResponse.RowError::getMessage)
+            .containsOnly("JSON 객체가 아닙니다.");
+    }
+}
@@ -0,0 +1,96 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.dto.request.consultation.ConsultationCreateRequest;
+import com.kt.backendapp.support.PostgresIntegrationTest;
+import com.kt.backendapp.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 사용자-브랜드로 동시에 100건 상담 신청 시 정확히 한 건만 성공하는지 검증
+ * - 나머지는 부분 유니크 인덱스 위반 → 중복 신청 오류(IllegalStateException)로 변환되어야 함
+ */
+@PostgresIntegrationTest
+class ConsultationDuplicateStressTest {
+
+    private static final int SUBMISSIONS = 100;
+
+    @Autowired
+    private IConsultationService consultationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void exactlyOneOfParallelSubmissionsSucceeds() throws Exception {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        long userId = fixtures.createUser();
+        long brandId = fixtures.createBrand(fixtures.createManager(), fixtures.categoryId("교육"));
+        ConsultationCreateRequest request = ConsultationCreateRequest.builder()
+            .userId(userId)
+            .brandId(brandId)
+            .preferredDate(LocalDate.now().plusDays(7))
+            .preferredTime("10:00")
+            .build();
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        List<Throwable> unexpected = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch ready = new CountDownLatch(SUBMISSIONS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(SUBMISSIONS);
+        try {
+            List<Future<?>> submissions = new ArrayList<>();
+            for (int i = 0; i < SUBMISSIONS; i++) {
+                submissions.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    try {
+                        consultationService.createConsultation(request);
+                        succeeded.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        if (e.getMessage() != null && e.getMessage().contains("중복 신청은 불가능합니다")) {
+                            duplicates.incrementAndGet();
+                        } else {
+                            unexpected.add(e);
+                        }
+                    } catch (Exception e) {
+                        unexpected.add(e);
+                    }
+                    return null;
+                }));
+            }
+
+            // 모든 스레드가 대기한 뒤 한꺼번에 출발
+            assertThat(ready.await(30, TimeUnit.SECONDS)).isTrue();
+            start.countDown();
+            for (Future<?> submission : submissions) {
+                submission.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(unexpected).isEmpty();
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(duplicates.get()).isEqualTo(SUBMISSIONS - 1);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM consultation WHERE user_id = ? AND brand_id = ? AND is_active AND status_code IN (1, 2, 3)",
+            Long.class, userId, brandId)).isEqualTo(1L);
+    }
+}
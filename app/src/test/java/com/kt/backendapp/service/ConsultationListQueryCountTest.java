@@ -0,0 +1,119 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.dto.common.PageResponse;
+import com.kt.backendapp.dto.response.consultation.ConsultationResponse;
+import com.kt.backendapp.support.PostgresIntegrationTest;
+import com.kt.backendapp.support.TestFixtures;
+import com.kt.backendapp.util.CreatedAtCursor;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상담 목록 페이지 조회의 SQL 문 수가 페이지 크기와 무관하게 고정인지 검증
+ * - 첫 페이지: 목록 SELECT 1개 + COUNT 1개, 커서 조회: 목록 SELECT 1개 (행/브랜드마다 지연 로딩 쿼리가 추가되면 실패)
+ */
+@PostgresIntegrationTest
+class ConsultationListQueryCountTest {
+
+    private static final int CONSULTATIONS = 40;
+
+    @Autowired
+    private IConsultationService consultationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private long userId;
+    private long managerId;
+
+    @BeforeEach
+    void setUp() {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        userId = fixtures.createUser();
+        managerId = fixtures.createManager();
+        long categoryId = fixtures.categoryId("외식");
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        // 상담마다 다른 브랜드 (브랜드별 추가 조회가 있으면 페이지 크기만큼 늘어남)
+        for (int i = 0; i < CONSULTATIONS; i++) {
+            long brandId = fixtures.createBrand(managerId, categoryId);
+            fixtures.createConsultation(userId, brandId, TestFixtures.PENDING, base.plusMinutes(i));
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void userConsultationPageUsesFixedStatementCount() {
+        Page<ConsultationResponse> small = countStatements(
+            () -> consultationService.getUserConsultations(userId, PageRequest.of(0, 5)), 2);
+        Page<ConsultationResponse> large = countStatements(
+            () -> consultationService.getUserConsultations(userId, PageRequest.of(0, 20)), 2);
+
+        assertThat(small.getContent()).hasSize(5);
+        assertThat(large.getContent()).hasSize(20);
+        assertThat(large.getTotalElements()).isEqualTo(CONSULTATIONS);
+        assertThat(large.getContent().get(0).getBrand().getCategoryName()).isEqualTo("외식");
+    }
+
+    @Test
+    void managerConsultationPageUsesFixedStatementCount() {
+        Page<ConsultationResponse> small = countStatements(
+            () -> consultationService.getManagerConsultations(managerId, PageRequest.of(0, 5)), 2);
+        Page<ConsultationResponse> large = countStatements(
+            () -> consultationService.getManagerConsultations(managerId, PageRequest.of(0, 20)), 2);
+
+        assertThat(small.getContent()).hasSize(5);
+        assertThat(large.getContent()).hasSize(20);
+        assertThat(large.getTotalElements()).isEqualTo(CONSULTATIONS);
+    }
+
+    @Test
+    void userConsultationCursorUsesSingleStatement() {
+        PageResponse<ConsultationResponse> small = countStatements(
+            () -> consultationService.getUserConsultationsAfter(userId, firstCursor(), 5), 1);
+        PageResponse<ConsultationResponse> large = countStatements(
+            () -> consultationService.getUserConsultationsAfter(userId, firstCursor(), 20), 1);
+
+        assertThat(small.getContent()).hasSize(5);
+        assertThat(large.getContent()).hasSize(20);
+        assertThat(large.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    void managerConsultationCursorUsesSingleStatement() {
+        PageResponse<ConsultationResponse> small = countStatements(
+            () -> consultationService.getManagerConsultationsAfter(managerId, firstCursor(), 5), 1);
+        PageResponse<ConsultationResponse> large = countStatements(
+            () -> consultationService.getManagerConsultationsAfter(managerId, firstCursor(), 20), 1);
+
+        assertThat(small.getContent()).hasSize(5);
+        assertThat(large.getContent()).hasSize(20);
+    }
+
+    // 모든 상담보다 뒤인 위치 (처음부터 커서 조회)
+    private static String firstCursor() {
+        return CreatedAtCursor.encode(LocalDateTime.now().plusDays(1), Long.MAX_VALUE);
+    }
+
+    private <T> T countStatements(Supplier<T> query, long expectedStatements) {
+        statistics.clear();
+        T result = query.get();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expectedStatements);
+        return result;
+    }
+}
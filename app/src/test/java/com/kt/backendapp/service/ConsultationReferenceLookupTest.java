@@ -0,0 +1,171 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.cache.ReferenceDataRegistry;
+import com.kt.backendapp.dto.request.consultation.ConsultationCreateRequest;
+import com.kt.backendapp.dto.request.consultation.ConsultationRescheduleRequest;
+import com.kt.backendapp.dto.request.consultation.ConsultationUserResponseRequest;
+import com.kt.backendapp.dto.response.consultation.ConsultationResponse;
+import com.kt.backendapp.entity.BrandCategory;
+import com.kt.backendapp.entity.ConsultationStatus;
+import com.kt.backendapp.entity.UserResponseType;
+import com.kt.backendapp.support.PostgresIntegrationTest;
+import com.kt.backendapp.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상담 신청/상태 전이에서 상담 상태·카테고리를 DB에서 조회하지 않는지 검증 (Hibernate Statistics)
+ * - 상태/카테고리는 ReferenceDataRegistry에서만 가져와야 함
+ * - 상태 전이는 조건부 UPDATE(JDBC) 한 문장이므로 Hibernate로는 알림 INSERT 외에 엔티티를 읽지 않아야 함
+ */
+@PostgresIntegrationTest
+class ConsultationReferenceLookupTest {
+
+    @Autowired
+    private IConsultationService consultationService;
+
+    @Autowired
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TestFixtures fixtures;
+    private Statistics statistics;
+    private long userId;
+    private long managerId;
+    private long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        userId = fixtures.createUser();
+        managerId = fixtures.createManager();
+        categoryId = fixtures.categoryId("뷰티");
+        // 기동 시 적재가 끝난 상태를 보장 (이후 조회는 메모리에서만)
+        referenceDataRegistry.refresh();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void createConsultationDoesNotLookUpStatusOrCategory() {
+        long brandId = fixtures.createBrand(managerId, categoryId);
+        ConsultationCreateRequest request = ConsultationCreateRequest.builder()
+            .userId(userId)
+            .brandId(brandId)
+            .preferredDate(LocalDate.now().plusDays(7))
+            .preferredTime("10:00")
+            .build();
+
+        ConsultationResponse response = withoutReferenceLookups(() -> consultationService.createConsultation(request));
+
+        // 사용자 SELECT + 브랜드 SELECT(카테고리/상세정보 조인)만, 추가 지연 로딩 없음
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(response.getStatus().getStatusName()).isNotBlank();
+        assertThat(response.getBrand().getCategoryName()).isEqualTo("뷰티");
+    }
+
+    @Test
+    void rescheduleAndAcceptDoNotLookUpStatusOrCategory() {
+        long consultationId = pendingConsultation();
+        ConsultationRescheduleRequest reschedule = ConsultationRescheduleRequest.builder()
+            .adjustedDate(LocalDate.now().plusDays(10))
+            .adjustedTime(LocalTime.of(14, 0))
+            .adjustmentReason("일정 변경")
+            .build();
+
+        ConsultationResponse rescheduled = transition(
+            () -> consultationService.rescheduleConsultation(consultationId, reschedule, managerId));
+        ConsultationResponse accepted = transition(
+            () -> consultationService.respondToReschedule(consultationId,
+                new ConsultationUserResponseRequest(UserResponseType.ACCEPT), userId));
+
+        assertThat(rescheduled.getStatus().getStatusCode()).isEqualTo(2L);
+        assertThat(accepted.getStatus().getStatusCode()).isEqualTo(3L);
+        assertThat(accepted.getBrand().getCategoryName()).isEqualTo("뷰티");
+    }
+
+    @Test
+    void rejectDoesNotLookUpStatusOrCategory() {
+        long consultationId = pendingConsultation();
+        consultationService.rescheduleConsultation(consultationId, ConsultationRescheduleRequest.builder()
+            .adjustedDate(LocalDate.now().plusDays(10))
+            .adjustedTime(LocalTime.of(15, 0))
+            .build(), managerId);
+
+        ConsultationResponse rejected = transition(
+            () -> consultationService.respondToReschedule(consultationId,
+                new ConsultationUserResponseRequest(UserResponseType.REJECT), userId));
+
+        assertThat(rejected.getStatus().getStatusCode()).isEqualTo(5L);
+    }
+
+    @Test
+    void confirmAndCancelDoNotLookUpStatusOrCategory() {
+        long confirmedId = pendingConsultation();
+        ConsultationResponse confirmed = transition(
+            () -> consultationService.confirmConsultation(confirmedId, managerId));
+        transition(() -> {
+            consultationService.cancelConsultationByManager(confirmedId, managerId);
+            return null;
+        });
+
+        long userCancelledId = pendingConsultation();
+        transition(() -> {
+            consultationService.cancelConsultation(userCancelledId, userId);
+            return null;
+        });
+
+        assertThat(confirmed.getStatus().getStatusCode()).isEqualTo(3L);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM consultation WHERE consultation_id IN (?, ?) AND status_code = 5",
+            Long.class, confirmedId, userCancelledId)).isEqualTo(2L);
+    }
+
+    private long pendingConsultation() {
+        long brandId = fixtures.createBrand(managerId, categoryId);
+        return fixtures.createConsultation(userId, brandId, TestFixtures.PENDING, LocalDateTime.now());
+    }
+
+    /**
+     * 상태 전이: Hibernate로 읽는 엔티티 없이 사용자/매니저 알림 2건만 INSERT
+     */
+    private <T> T transition(Supplier<T> action) {
+        T result = withoutReferenceLookups(action);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+        return result;
+    }
+
+    /**
+     * 상담 상태는 한 번도 읽지 않고, 카테고리는 별도 SELECT(지연 로딩)로 읽지 않음
+     */
+    private <T> T withoutReferenceLookups(Supplier<T> action) {
+        statistics.clear();
+        T result = action.get();
+        EntityStatistics status = statistics.getEntityStatistics(ConsultationStatus.class.getName());
+        EntityStatistics category = statistics.getEntityStatistics(BrandCategory.class.getName());
+        assertThat(status.getLoadCount()).as("상담 상태 조회").isZero();
+        assertThat(status.getFetchCount()).as("상담 상태 지연 로딩").isZero();
+        assertThat(category.getFetchCount()).as("카테고리 지연 로딩").isZero();
+        return result;
+    }
+}
@@ -0,0 +1,105 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.catalog.BrandCatalog;
+import com.kt.backendapp.catalog.BrandCatalogEntry;
+import com.kt.backendapp.dto.common.SortOption;
+import com.kt.backendapp.dto.response.brand.BrandListResponse;
+import com.kt.backendapp.repository.SavedBrandRepository;
+import com.kt.backendapp.support.Benchmarks;
+import com.kt.backendapp.support.PostgresIntegrationTest;
+import com.kt.backendapp.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유저용 브랜드 목록의 찜 상태 조회 비용 (브랜드 1k / 10k / 100k)
+ * - 이전: 브랜드마다 existsBy... SELECT (1 + N 쿼리)
+ * - 현재: 찜한 브랜드 ID를 한 번에 읽어 메모리에서 확인 (1 쿼리, 목록은 카탈로그 스냅샷)
+ */
+@Tag("benchmark")
+@PostgresIntegrationTest
+class UserBrandSaveStatusBenchmark {
+
+    private static final int[] SCALES = {1_000, 10_000, 100_000};
+    private static final int SAVED = 100;
+
+    @Autowired
+    private IUserBrandService userBrandService;
+
+    @Autowired
+    private SavedBrandRepository savedBrandRepository;
+
+    @Autowired
+    private BrandCatalog brandCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void saveStatusQueriesAndLatencyByCatalogSize() {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        long managerId = fixtures.createManager();
+        long categoryId = fixtures.categoryId("편의점");
+        long userId = fixtures.createUser();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        for (int scale : SCALES) {
+            // 목표 규모까지 브랜드를 채우고 카탈로그 재적재 (다른 측정이 넣은 브랜드도 포함)
+            int missing = scale - brandCatalog.snapshot().size();
+            if (missing > 0) {
+                fixtures.createBrands(managerId, categoryId, missing);
+            }
+            jdbcTemplate.update("DELETE FROM saved_brand WHERE user_id = ?", userId);
+            jdbcTemplate.update(
+                "INSERT INTO saved_brand (user_id, brand_id) SELECT ?, brand_id FROM brand ORDER BY random() LIMIT ?",
+                userId, SAVED);
+            brandCatalog.reload();
+            List<BrandCatalogEntry> entries = brandCatalog.snapshot().sorted(SortOption.NAME_ASC);
+            String label = String.format("%,d brands", entries.size());
+
+            statistics.clear();
+            List<BrandListResponse> after = userBrandService.getUserBrands(userId);
+            long afterStatements = statistics.getPrepareStatementCount();
+
+            statistics.clear();
+            long beforeSaved = readOnly.execute(status -> entries.stream()
+                .filter(entry -> savedBrandRepository.existsByUserUserIdAndBrandBrandId(userId, entry.getBrandId()))
+                .count());
+            long beforeStatements = statistics.getPrepareStatementCount();
+
+            Benchmarks.report("saved status " + label + " / per-brand exists (before)",
+                String.format("%,d statements", beforeStatements));
+            Benchmarks.report("saved status " + label + " / saved id set (after)",
+                String.format("%,d statements", afterStatements));
+            Benchmarks.medianMillis("saved status " + label + " / per-brand exists (before)", 0, 1,
+                () -> readOnly.executeWithoutResult(status -> entries.forEach(entry ->
+                    savedBrandRepository.existsByUserUserIdAndBrandBrandId(userId, entry.getBrandId()))));
+            Benchmarks.medianMillis("saved status " + label + " / saved id set (after)", 2, 5,
+                () -> userBrandService.getUserBrands(userId));
+
+            assertThat(afterStatements).isEqualTo(1);
+            assertThat(beforeStatements).isEqualTo(entries.size());
+            assertThat(after).hasSize(entries.size());
+            assertThat(after.stream().filter(BrandListResponse::isSaved).count()).isEqualTo(beforeSaved);
+        }
+    }
+}
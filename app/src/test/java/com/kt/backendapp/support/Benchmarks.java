@@ -0,0 +1,63 @@
+package com.kt.backendapp.support;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * 성능 측정 테스트 공통 도구 (JMH 없이 워밍업 후 반복 측정, 중앙값 보고)
+ * - 결과는 표준 출력으로 남김 (./gradlew :app:benchmark 실행 시 표시)
+ */
+public final class Benchmarks {
+
+    private Benchmarks() {
+    }
+
+    /**
+     * 워밍업 후 iterations회 실행한 소요 시간의 중앙값 (밀리초)
+     */
+    public static double medianMillis(String name, int warmups, int iterations, Runnable task) {
+        for (int i = 0; i < warmups; i++) {
+            task.run();
+        }
+        double[] samples = new double[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            task.run();
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        double median = samples[iterations / 2];
+        report(name, String.format("median %.2f ms (min %.2f, max %.2f, n=%d)",
+            median, samples[0], samples[iterations - 1], iterations));
+        return median;
+    }
+
+    /**
+     * 워밍업 후 iterations회 실행하며 현재 스레드가 힙에 할당한 바이트 수의 중앙값
+     * - HotSpot의 com.sun.management.ThreadMXBean 사용 (측정 테스트 안에서만 활성화)
+     */
+    public static long medianAllocatedBytes(String name, int warmups, int iterations, Runnable task) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        for (int i = 0; i < warmups; i++) {
+            task.run();
+        }
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = threads.getCurrentThreadAllocatedBytes();
+            task.run();
+            samples[i] = threads.getCurrentThreadAllocatedBytes() - start;
+        }
+        Arrays.sort(samples);
+        long median = samples[iterations / 2];
+        report(name, String.format("median %,d KB allocated (min %,d, max %,d, n=%d)",
+            median / 1024, samples[0] / 1024, samples[iterations - 1] / 1024, iterations));
+        return median;
+    }
+
+    public static void report(String name, String result) {
+        System.out.printf("[benchmark] %-60s %s%n", name, result);
+    }
+}
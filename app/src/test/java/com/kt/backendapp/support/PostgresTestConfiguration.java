@@ -0,0 +1,24 @@
+package com.kt.backendapp.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 통합 테스트용 PostgreSQL 컨테이너
+ * - 부분 유니크 인덱스, UPDATE ... RETURNING 등 PostgreSQL 전용 기능을 그대로 검증하기 위해 실제 DB 사용
+ * - 컨텍스트 캐시가 같은 설정의 테스트끼리 컨테이너를 공유
+ * - 운영 접속 URL과 같이 배치 INSERT를 다중 VALUES로 재작성 (@ServiceConnection은 컨테이너 URL을 그대로 사용)
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class PostgresTestConfiguration {
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer<?> postgresContainer() {
+        return new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+            .withUrlParam("reWriteBatchedInserts", "true");
+    }
+}
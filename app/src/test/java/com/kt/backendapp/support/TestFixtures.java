@@ -0,0 +1,89 @@
+package com.kt.backendapp.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 통합 테스트 데이터 생성 (JDBC로 직접 삽입해 테스트 대상 쿼리 수에 섞이지 않도록)
+ * - 컨테이너를 여러 테스트가 공유하므로 이메일/이름은 매번 고유 값 사용
+ */
+public class TestFixtures {
+
+    public static final long PENDING = 1L;
+    public static final long CONFIRMED = 3L;
+    public static final long CANCELLED = 5L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TestFixtures(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long createUser() {
+        String tag = tag();
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO users (email, password, name, phone) VALUES (?, 'password', ?, '010-0000-0000') RETURNING user_id",
+            Long.class, tag + "@user.test", "user-" + tag);
+    }
+
+    public long createManager() {
+        String tag = tag();
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO brand_manager (name, email, password, phone) VALUES (?, ?, 'password', '010-0000-0000') RETURNING manager_id",
+            Long.class, "manager-" + tag, tag + "@manager.test");
+    }
+
+    public long categoryId(String categoryName) {
+        return jdbcTemplate.queryForObject(
+            "SELECT category_id FROM brand_category WHERE category_name = ?", Long.class, categoryName);
+    }
+
+    /**
+     * 브랜드 + 상세정보 생성
+     */
+    public long createBrand(long managerId, long categoryId) {
+        long brandId = jdbcTemplate.queryForObject(
+            "INSERT INTO brand (brand_name, category_id, manager_id) VALUES (?, ?, ?) RETURNING brand_id",
+            Long.class, "brand-" + tag(), categoryId, managerId);
+        jdbcTemplate.update(
+            "INSERT INTO brand_detail (brand_id, view_count, save_count, initial_cost, total_investment, "
+                + "avg_monthly_revenue, store_count, brand_description) "
+                + "VALUES (?, 0, 0, 10000000, 50000000, 5000000, 10, 'test brand')",
+            brandId);
+        return brandId;
+    }
+
+    /**
+     * 브랜드 + 상세정보 대량 생성 (성능 측정용, INSERT ... SELECT 두 문장)
+     */
+    public void createBrands(long managerId, long categoryId, int count) {
+        String prefix = "bulk-" + tag() + "-";
+        jdbcTemplate.update(
+            "INSERT INTO brand (brand_name, category_id, manager_id) "
+                + "SELECT ? || g, ?, ? FROM generate_series(1, ?) g",
+            prefix, categoryId, managerId, count);
+        jdbcTemplate.update(
+            "INSERT INTO brand_detail (brand_id, view_count, save_count, initial_cost, total_investment, "
+                + "avg_monthly_revenue, store_count, brand_description) "
+                + "SELECT b.brand_id, (random() * 10000)::int, (random() * 1000)::int, "
+                + "10000000 + (random() * 90000000)::bigint, 50000000 + (random() * 450000000)::bigint, "
+                + "1000000 + (random() * 49000000)::bigint, (random() * 500)::int, 'bulk brand ' || b.brand_name "
+                + "FROM brand b WHERE b.brand_name LIKE ?",
+            prefix + "%");
+    }
+
+    public long createConsultation(long userId, long brandId, long statusCode, LocalDateTime createdAt) {
+        boolean active = statusCode != CANCELLED;
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO consultation (user_id, brand_id, status_code, preferred_date, preferred_time, "
+                + "created_at, is_active) VALUES (?, ?, ?, CURRENT_DATE + 7, '10:00', ?, ?) RETURNING consultation_id",
+            Long.class, userId, brandId, statusCode, Timestamp.valueOf(createdAt), active);
+    }
+
+    private static String tag() {
+        return UUID.randomUUID().toString().substring(0, 12);
+    }
+}
@@ -0,0 +1,15 @@
+-- 기존 데이터베이스용: 활성 상담 중복 방지 부분 유니크 인덱스 추가
+-- 상담 신청은 활성 상담을 먼저 조회하지 않고 INSERT 시 이 인덱스 위반으로 중복을 판단하므로 배포 전에 실행
+-- 이미 중복된 활성 상담이 있으면 인덱스 생성이 실패하므로 아래 조회로 먼저 확인하고 정리
+--
+-- SELECT user_id, brand_id, COUNT(*)
+-- FROM consultation
+-- WHERE is_active AND status_code IN (1, 2, 3)
+-- GROUP BY user_id, brand_id
+-- HAVING COUNT(*) > 1;
+--
+-- CONCURRENTLY: 운영 중에도 상담 테이블 쓰기를 막지 않음 (트랜잭션 블록 안에서는 실행 불가)
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_consultation_active_user_brand
+    ON consultation(user_id, brand_id)
+    WHERE is_active AND status_code IN (1, 2, 3);
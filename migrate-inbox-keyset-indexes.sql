@@ -0,0 +1,17 @@
+-- 기존 데이터베이스용: 상담/알림 목록 커서 조회 인덱스로 교체
+-- 목록 두 번째 페이지부터는 (created_at, id)가 커서보다 작은 행을 최신순으로 읽으므로
+-- 조회 조건 컬럼 + created_at DESC + id DESC 복합 인덱스가 있어야 OFFSET 없이 바로 범위 탐색 가능
+-- 새 인덱스의 앞 컬럼이 기존 단일 컬럼 인덱스를 대신하므로 생성 후 기존 인덱스는 삭제
+--
+-- CONCURRENTLY: 운영 중에도 테이블 쓰기를 막지 않음 (트랜잭션 블록 안에서는 실행 불가)
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_consultation_user_created
+    ON consultation(user_id, created_at DESC, consultation_id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_consultation_brand_created
+    ON consultation(brand_id, created_at DESC, consultation_id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notification_recipient_created
+    ON notification(recipient_id, recipient_type, created_at DESC, notification_id DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_consultation_user;
+DROP INDEX CONCURRENTLY IF EXISTS idx_consultation_brand;
+DROP INDEX CONCURRENTLY IF EXISTS idx_notification_recipient;
@@ -0,0 +1,26 @@
+-- 기존 데이터베이스용: ID 생성 방식을 IDENTITY → 시퀀스(pooled-lo, allocationSize 50)로 전환
+-- 애플리케이션 배포 전에 한 번 실행 (시퀀스 증가폭이 50이 아니면 Hibernate가 기동 시 오류를 냄)
+-- BIGSERIAL 기본값(nextval)은 그대로 두므로 SQL로 직접 INSERT하는 스크립트도 계속 동작
+-- setval(..., false): 다음 nextval이 현재 최대 ID + 1을 반환 → 그 값부터 50개 구간을 애플리케이션이 사용
+
+BEGIN;
+
+ALTER SEQUENCE brand_brand_id_seq INCREMENT BY 50;
+SELECT setval('brand_brand_id_seq', COALESCE((SELECT MAX(brand_id) FROM brand), 0) + 1, false);
+
+ALTER SEQUENCE brand_detail_detail_id_seq INCREMENT BY 50;
+SELECT setval('brand_detail_detail_id_seq', COALESCE((SELECT MAX(detail_id) FROM brand_detail), 0) + 1, false);
+
+ALTER SEQUENCE users_user_id_seq INCREMENT BY 50;
+SELECT setval('users_user_id_seq', COALESCE((SELECT MAX(user_id) FROM users), 0) + 1, false);
+
+ALTER SEQUENCE consultation_consultation_id_seq INCREMENT BY 50;
+SELECT setval('consultation_consultation_id_seq', COALESCE((SELECT MAX(consultation_id) FROM consultation), 0) + 1, false);
+
+ALTER SEQUENCE saved_brand_save_id_seq INCREMENT BY 50;
+SELECT setval('saved_brand_save_id_seq', COALESCE((SELECT MAX(save_id) FROM saved_brand), 0) + 1, false);
+
+ALTER SEQUENCE notification_notification_id_seq INCREMENT BY 50;
+SELECT setval('notification_notification_id_seq', COALESCE((SELECT MAX(notification_id) FROM notification), 0) + 1, false);
+
+COMMIT;
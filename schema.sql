@@ -117,14 +117,28 @@ CREATE TABLE notification (
 -- 인덱스 추가
 CREATE INDEX idx_brand_category ON brand(category_id);
 CREATE INDEX idx_brand_manager ON brand(manager_id);
-CREATE INDEX idx_consultation_user ON consultation(user_id);
-CREATE INDEX idx_consultation_brand ON consultation(brand_id);
+-- 상담 목록(최신순) 커서 조회용: (created_at, consultation_id) 기준 범위 탐색, 앞 컬럼은 FK 조회에도 사용
+CREATE INDEX idx_consultation_user_created ON consultation(user_id, created_at DESC, consultation_id DESC);
+CREATE INDEX idx_consultation_brand_created ON consultation(brand_id, created_at DESC, consultation_id DESC);
 CREATE INDEX idx_consultation_status ON consultation(status_code);
 CREATE INDEX idx_consultation_active ON consultation(is_active);
+-- 활성 상담(PENDING, RESCHEDULE_REQUEST, CONFIRMED)은 사용자-브랜드당 하나 (중복 신청 방지)
+CREATE UNIQUE INDEX uq_consultation_active_user_brand ON consultation(user_id, brand_id)
+    WHERE is_active AND status_code IN (1, 2, 3);
 CREATE INDEX idx_saved_brand_user ON saved_brand(user_id);
-CREATE INDEX idx_notification_recipient ON notification(recipient_id, recipient_type);
+-- 알림 목록(최신순) 커서 조회용
+CREATE INDEX idx_notification_recipient_created
+    ON notification(recipient_id, recipient_type, created_at DESC, notification_id DESC);
 CREATE INDEX idx_notification_unread ON notification(is_read);
 
+-- ID 시퀀스 증가폭 (JPA @SequenceGenerator allocationSize = 50, pooled-lo와 일치해야 함)
+ALTER SEQUENCE brand_brand_id_seq INCREMENT BY 50;
+ALTER SEQUENCE brand_detail_detail_id_seq INCREMENT BY 50;
+ALTER SEQUENCE users_user_id_seq INCREMENT BY 50;
+ALTER SEQUENCE consultation_consultation_id_seq INCREMENT BY 50;
+ALTER SEQUENCE saved_brand_save_id_seq INCREMENT BY 50;
+ALTER SEQUENCE notification_notification_id_seq INCREMENT BY 50;
+
 -- 코멘트 추가
 COMMENT ON TABLE users IS '사용자 정보';
 COMMENT ON TABLE brand_category IS '브랜드 카테고리';